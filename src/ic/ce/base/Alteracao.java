@@ -0,0 +1,133 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.base;
+
+/**
+ * Registro de alteração: intervalo contíguo de posições modificadas em um
+ * ser.
+ *
+ * <p>
+ * Emitido por operadores que modificam seres in loco, permite a avaliação
+ * incremental sem a comparação, posição a posição, com a origem.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @see AvaliadorIncremental
+ */
+public final class Alteracao {
+
+    /**
+     * Registro vazio: nenhuma posição alterada.
+     */
+    public static final Alteracao NENHUMA = new Alteracao(0, -1);
+
+    private final int inicio;
+    private final int fim;
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param inicio Primeira posição alterada.
+     * @param fim Última posição alterada, inclusive.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o início for negativo;</li>
+     * <li>Se o fim for menor que o início.</li>
+     * </ul>
+     */
+    public Alteracao(int inicio, int fim) {
+        if (inicio < 0) {
+            throw new IllegalArgumentException("Início deve ser maior ou igual a zero.");
+        }
+        if (fim < inicio && !(inicio == 0 && fim == -1)) {
+            throw new IllegalArgumentException("Fim deve ser maior ou igual ao início.");
+        }
+        this.inicio = inicio;
+        this.fim = fim;
+    }
+
+    /**
+     * Recupera a primeira posição alterada.
+     *
+     * @since 1.0
+     * @return Posição inicial.
+     */
+    public int getInicio() {
+        return inicio;
+    }
+
+    /**
+     * Recupera a última posição alterada.
+     *
+     * @since 1.0
+     * @return Posição final, inclusive.
+     */
+    public int getFim() {
+        return fim;
+    }
+
+    /**
+     * Recupera o número de posições do registro.
+     *
+     * @since 1.0
+     * @return Número de posições.
+     */
+    public int getTamanho() {
+        return fim - inicio + 1;
+    }
+
+    /**
+     * Verifica se o registro é vazio.
+     *
+     * @since 1.0
+     * @return true se nenhuma posição foi alterada.
+     */
+    public boolean isVazia() {
+        return fim < inicio;
+    }
+
+    /**
+     * Recupera as posições do registro, no formato de
+     * {@link AvaliadorIncremental}.
+     *
+     * @since 1.0
+     * @return Novo vetor com as posições, em ordem crescente.
+     */
+    public int[] getAlterados() {
+        int[] alterados = new int[getTamanho()];
+        for (int k = 0; k < alterados.length; k++) {
+            alterados[k] = inicio + k;
+        }
+        return alterados;
+    }
+
+    @Override
+    public String toString() {
+        return isVazia() ? "[]" : "[" + inicio + ", " + fim + "]";
+    }
+}
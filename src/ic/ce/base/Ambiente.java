@@ -28,8 +28,10 @@
 package ic.ce.base;
 
 import ic.ce.base.Ser;
+import ic.ce.base.eventos.MonitorJFR;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * <p>
@@ -97,6 +99,7 @@ public abstract class Ambiente<G extends Number & Comparable<G>, S extends Ser<G
     private final Comparator<S> comparador;
     private final Comparator<G> comparadorGraus;
     private final Comparator<S> comparadorInverso;
+    private final LongAdder avaliacoes = new LongAdder();
 
     /**
      * Construtor padrão: modo Maximização.
@@ -176,6 +179,23 @@ public abstract class Ambiente<G extends Number & Comparable<G>, S extends Ser<G
      */
     public abstract G avalia(S individuo);
 
+    /**
+     * Avalia um ser e registra nele o grau de adaptação.
+     *
+     * <p>
+     * Chamado por {@link Ser#setGrauDeAdaptacao(ic.ce.base.Ambiente)}.
+     * Derivações podem sobrescrevê-lo para registrar no ser, com o grau,
+     * resultados intermediários da avaliação.
+     * </p>
+     *
+     * @since 1.0
+     * @param individuo Ser a ser avaliado.
+     * @return Grau de adaptação atribuído.
+     */
+    protected G avaliaERegistra(S individuo) {
+        return individuo.setGrauDeAdaptacao(this, avalia(individuo));
+    }
+
     /**
      * Avalia uma coleção de seres.
      *
@@ -203,7 +223,15 @@ public abstract class Ambiente<G extends Number & Comparable<G>, S extends Ser<G
      * @see Ser#setGrauDeAdaptacao(ic.populacional.Ambiente)
      */
     public final void avalia(Collection<? extends S> seres) {
+        MonitorJFR monitor = MonitorJFR.getInstancia();
+        Object evento = monitor.iniciaAvaliacao();
+        long anteriores = (evento != null) ? getAvaliacoes() : 0;
+
         seres.parallelStream().filter(ser -> !ser.isAvaliadoPor(this)).forEach((ser) -> ser.setGrauDeAdaptacao(this));
+
+        if (evento != null) {
+            monitor.concluiAvaliacao(evento, getClass().getName(), seres.size(), getAvaliacoes() - anteriores);
+        }
     }
 
     /**
@@ -280,8 +308,8 @@ public abstract class Ambiente<G extends Number & Comparable<G>, S extends Ser<G
      */
     private int compara(S ser1, S ser2) {
 
-        G grau1 = (ser1.isAvaliadoPor(this)) ? ser1.getGrauDeAdaptacao() : this.avalia(ser1);
-        G grau2 = (ser2.isAvaliadoPor(this)) ? ser2.getGrauDeAdaptacao() : this.avalia(ser2);
+        G grau1 = (ser1.isAvaliadoPor(this)) ? ser1.getGrauDeAdaptacao() : avaliaEContabiliza(ser1);
+        G grau2 = (ser2.isAvaliadoPor(this)) ? ser2.getGrauDeAdaptacao() : avaliaEContabiliza(ser2);
 
         Integer comparacao = grau1.compareTo(grau2);
 
@@ -296,6 +324,18 @@ public abstract class Ambiente<G extends Number & Comparable<G>, S extends Ser<G
         return comparacao;
     }
 
+    /**
+     * Avalia um ser, sem registrar nele o grau, contabilizando a avaliação.
+     *
+     * @since 1.0
+     * @param individuo Ser a ser avaliado.
+     * @return Grau de adaptação.
+     */
+    private G avaliaEContabiliza(S individuo) {
+        registraAvaliacao();
+        return avalia(individuo);
+    }
+
     /**
      * Compara graus de adaptação: na ordem crescente.
      *
@@ -329,6 +369,42 @@ public abstract class Ambiente<G extends Number & Comparable<G>, S extends Ser<G
         return modo;
     }
 
+    /**
+     * Recupera o número de avaliações realizadas por este ambiente.
+     *
+     * <p>
+     * Contabiliza as avaliações registradas em seres por
+     * {@link Ser#setGrauDeAdaptacao(ic.ce.base.Ambiente)}, inclusive as
+     * realizadas em paralelo por {@link #avalia(java.util.Collection)}, e as
+     * realizadas nas comparações de seres não avaliados.
+     * </p>
+     * <p>
+     * Chamadas diretas a {@link #avalia(ic.ce.base.Ser)} não são contadas:
+     * operadores e algoritmos que as realizam – e.g., sobre seres de trabalho
+     * ou representações vetoriais – devem contabilizá-las por
+     * {@link #registraAvaliacao()}.
+     * </p>
+     *
+     * @since 1.0
+     * @return Número de avaliações.
+     */
+    public final long getAvaliacoes() {
+        return avaliacoes.sum();
+    }
+
+    /**
+     * Contabiliza uma avaliação.
+     *
+     * <p>
+     * Pode ser chamado concorrentemente.
+     * </p>
+     *
+     * @since 1.0
+     */
+    public final void registraAvaliacao() {
+        avaliacoes.increment();
+    }
+
     /**
      * Retorna um comparador de seres para a ordem invertida quanto ao grau de
      * adaptação.
@@ -0,0 +1,63 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.base;
+
+/**
+ * Avaliação incremental de seres.
+ *
+ * <p>
+ * Ambientes podem implementar essa interface para permitir que algoritmos de
+ * busca local avaliem um vizinho a partir do grau de sua origem e das
+ * posições alteradas, em tempo proporcional à alteração – e.g., a variação de
+ * custo de um 2-opt em O(1). O resultado deve ser idêntico ao de
+ * {@link Ambiente#avalia(ic.ce.base.Ser)} para o vizinho.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public interface AvaliadorIncremental<G extends Number & Comparable<G>, S extends Ser<G>> {
+
+    /**
+     * Avalia um vizinho a partir de sua origem.
+     *
+     * <p>
+     * Implementações devem ser seguras para chamadas concorrentes.
+     * </p>
+     *
+     * @since 1.0
+     * @param origem Ser de origem, avaliado.
+     * @param grauOrigem Grau de adaptação da origem.
+     * @param vizinho Vizinho, de mesmo tamanho da origem.
+     * @param alterados Posições, em ordem crescente, que incluem todas
+     * aquelas cujas características diferem entre origem e vizinho.
+     * @return Grau de adaptação do vizinho.
+     */
+    G avalia(S origem, G grauOrigem, S vizinho, int[] alterados);
+}
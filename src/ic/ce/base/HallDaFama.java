@@ -0,0 +1,189 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.base;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Hall da fama: arquivo limitado dos melhores seres encontrados.
+ *
+ * <p>
+ * Mantém até <i>k</i> seres, ordenados pelo ambiente; inserções custam
+ * O(log k) e seres não melhores que o pior do arquivo cheio são rejeitados em
+ * tempo constante, antes de qualquer outro cálculo. Genótipos repetidos são
+ * suprimidos pelo código hash do genoma: um ser cujo genótipo já esteja no
+ * arquivo não é inserido.
+ * </p>
+ * <p>
+ * Os seres devem estar avaliados pelo ambiente do arquivo. Em caso de troca
+ * de ambiente, o arquivo deve ser esvaziado.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ *
+ * @see Ser#getHashDoGenoma()
+ */
+public class HallDaFama<G extends Number & Comparable<G>, S extends Ser<G>> {
+
+    private final Ambiente<G, S> ambiente;
+    private final int capacidade;
+    private final TreeMap<S, Long> seres;
+    private final Set<Long> genomas;
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param ambiente Ambiente: define a ordem dos seres.
+     * @param capacidade Número máximo de seres.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o ambiente for uma referência nula;</li>
+     * <li>Se a capacidade for menor que 1.</li>
+     * </ul>
+     */
+    public HallDaFama(Ambiente<G, S> ambiente, int capacidade) {
+        if (ambiente == null) {
+            throw new IllegalArgumentException("Ambiente não pode ser uma referência nula.");
+        }
+        if (capacidade < 1) {
+            throw new IllegalArgumentException("Capacidade deve ser maior ou igual a 1.");
+        }
+        this.ambiente = ambiente;
+        this.capacidade = capacidade;
+        this.seres = new TreeMap<>(ambiente);
+        this.genomas = new HashSet<>();
+    }
+
+    /**
+     * Oferece um ser ao arquivo.
+     *
+     * @since 1.0
+     * @param ser Ser avaliado.
+     * @return
+     * <ul>
+     * <li>true: se o ser foi inserido;</li>
+     * <li>false: se o arquivo estiver cheio e o ser não for melhor que o pior
+     * do arquivo, ou se seu genótipo já estiver presente.</li>
+     * </ul>
+     */
+    public boolean adiciona(S ser) {
+        if (seres.size() >= capacidade && ambiente.compare(ser, seres.firstKey()) <= 0) {
+            return false;
+        }
+        long genoma = ser.getHashDoGenoma();
+        if (!genomas.add(genoma)) {
+            return false;
+        }
+
+        seres.put(ser, genoma);
+        if (seres.size() > capacidade) {
+            Map.Entry<S, Long> pior = seres.pollFirstEntry();
+            genomas.remove(pior.getValue());
+        }
+        return true;
+    }
+
+    /**
+     * Oferece uma coleção de seres ao arquivo.
+     *
+     * @since 1.0
+     * @param seres Seres avaliados.
+     * @return Número de seres inseridos.
+     *
+     * @see #adiciona(ic.ce.base.Ser)
+     */
+    public int adicionaTodos(Collection<? extends S> seres) {
+        int inseridos = 0;
+        for (S ser : seres) {
+            if (adiciona(ser)) {
+                inseridos++;
+            }
+        }
+        return inseridos;
+    }
+
+    /**
+     * Recupera os seres do arquivo.
+     *
+     * @since 1.0
+     * @return Nova lista, do melhor ao pior ser.
+     */
+    public List<S> getSeres() {
+        return new ArrayList<>(seres.descendingKeySet());
+    }
+
+    /**
+     * Recupera o melhor ser do arquivo.
+     *
+     * @since 1.0
+     * @return Melhor ser; nulo se o arquivo estiver vazio.
+     */
+    public S getMelhor() {
+        return seres.isEmpty() ? null : seres.lastKey();
+    }
+
+    /**
+     * Recupera o número de seres no arquivo.
+     *
+     * @since 1.0
+     * @return Número de seres.
+     */
+    public int size() {
+        return seres.size();
+    }
+
+    /**
+     * Recupera a capacidade do arquivo.
+     *
+     * @since 1.0
+     * @return Número máximo de seres.
+     */
+    public int getCapacidade() {
+        return capacidade;
+    }
+
+    /**
+     * Esvazia o arquivo.
+     *
+     * @since 1.0
+     */
+    public void clear() {
+        seres.clear();
+        genomas.clear();
+    }
+}
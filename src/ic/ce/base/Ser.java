@@ -28,6 +28,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Abstração do conceito: “ser vivo”.
@@ -82,7 +83,7 @@ import java.util.Objects;
  */
 public abstract class Ser<G extends Number & Comparable<G>> implements Iterable<Caracteristica> {
 
-    private static Long contadorDeSeres = 0L; 
+    private static final AtomicLong contadorDeSeres = new AtomicLong(); 
     
     /**
      * Grau de adaptação a um ambiente.
@@ -96,6 +97,16 @@ public abstract class Ser<G extends Number & Comparable<G>> implements Iterable<
      */
     private G grauDeAdaptacao;
 
+    /**
+     * Vetor de objetivos que originou o grau de adaptação, em ambientes
+     * multiobjetivo.
+     *
+     * @since 1.0
+     *
+     * @see ic.ce.base.multiobjetivo.AmbienteMultiobjetivo
+     */
+    private double[] objetivos;
+
     /**
      * Ambiente que avaliou esse ser, atribuindo-o um grau de avaliação.
      * 
@@ -362,6 +373,42 @@ public abstract class Ser<G extends Number & Comparable<G>> implements Iterable<
         return caracteristicas.size();
     }
 
+    /**
+     * Calcula um código hash de 64 bits para o genótipo.
+     *
+     * <p>
+     * O código depende apenas dos valores das características, na ordem em que
+     * ocorrem: seres de genótipos iguais produzem códigos iguais,
+     * independentemente de identidade, idade ou grau de adaptação. Colisões
+     * entre genótipos diferentes são possíveis, mas improváveis.
+     * </p>
+     *
+     * @since 1.0
+     * @return Código hash do genótipo.
+     *
+     * @see Caracteristica#getValor()
+     */
+    public final long getHashDoGenoma() {
+        long hash = caracteristicas.size();
+        for (Caracteristica caracteristica : caracteristicas) {
+            Number valor = caracteristica.getValor();
+            long bits = (valor instanceof Double || valor instanceof Float)
+                    ? Double.doubleToLongBits(valor.doubleValue())
+                    : valor.longValue();
+            hash = mistura(hash * 0x9E3779B97F4A7C15L + bits);
+        }
+        return hash;
+    }
+
+    /**
+     * Função de mistura de 64 bits (finalizador do SplitMix64).
+     */
+    private static long mistura(long x) {
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+
     /**
      * Verifica se dois seres são compatíveis para reprodução.
      *
@@ -407,13 +454,73 @@ public abstract class Ser<G extends Number & Comparable<G>> implements Iterable<
      * @see Ambiente#avalia(ic.populacional.Ser)
      */
     public final G setGrauDeAdaptacao(Ambiente avaliador) {
-        G grau = (G) avaliador.avalia(this);
+        avaliador.registraAvaliacao();
+        return (G) avaliador.avaliaERegistra(this);
+    }
+
+    /**
+     * Atribui um grau de adaptação, previamente calculado, ao ser.
+     *
+     * <p>
+     * Destinado a algoritmos que avaliam representações alternativas do ser –
+     * e.g., vetores primitivos – e materializam o ser apenas posteriormente. O
+     * grau deve corresponder ao que o ambiente atribuiria às características
+     * do ser.
+     * </p>
+     * <p>
+     * Essa operação fará com que o ser se torne não modificável.
+     * </p>
+     *
+     * @since 1.0
+     * @param avaliador Ambiente responsável pelo grau.
+     * @param grau Grau de adaptação.
+     * @return Grau de avaliação atribuído.
+     */
+    public final G setGrauDeAdaptacao(Ambiente avaliador, G grau) {
         this.grauDeAdaptacao = grau;
+        this.objetivos = null;
         setAvaliadoPor(avaliador);
         caracteristicas = Collections.unmodifiableList(caracteristicas);
         return grau;
     }
 
+    /**
+     * Atribui um grau de adaptação, previamente calculado a partir de um vetor
+     * de objetivos, ao ser.
+     *
+     * <p>
+     * O vetor é mantido no ser, para que algoritmos multiobjetivo o recuperem
+     * sem nova avaliação.
+     * </p>
+     * <p>
+     * Essa operação fará com que o ser se torne não modificável.
+     * </p>
+     *
+     * @since 1.0
+     * @param avaliador Ambiente responsável pelo grau.
+     * @param grau Grau de adaptação.
+     * @param objetivos Vetor de objetivos que originou o grau.
+     * @return Grau de avaliação atribuído.
+     *
+     * @see #getObjetivos()
+     */
+    public final G setGrauDeAdaptacao(Ambiente avaliador, G grau, double[] objetivos) {
+        setGrauDeAdaptacao(avaliador, grau);
+        this.objetivos = objetivos;
+        return grau;
+    }
+
+    /**
+     * Acesso ao vetor de objetivos que originou o grau de adaptação.
+     *
+     * @since 1.0
+     * @return Vetor de objetivos, não deve ser modificado; <i>null</i> se o
+     * grau não tiver sido atribuído a partir de um vetor de objetivos.
+     */
+    public final double[] getObjetivos() {
+        return objetivos;
+    }
+
     /**
      * Método de acesso ao grau de adaptação do ser.
      *
@@ -550,16 +657,21 @@ public abstract class Ser<G extends Number & Comparable<G>> implements Iterable<
      * @return Número de seres já criados.
      */
     public static Long getContadorDeSeres() {
-        return contadorDeSeres;
+        return contadorDeSeres.get();
     }
 
     /**
      * Incrementa o contador de seres criados.
      * 
+     * <p>
+     * Seguro para multi-threads: seres criados em paralelo não recebem IDs
+     * repetidos.
+     * </p>
+     * 
      * @since 1.0
      */
     private static Long incrementaContadorDeSeres() {
-        return Ser.contadorDeSeres++;
+        return Ser.contadorDeSeres.getAndIncrement();
     }
     
 }
@@ -26,9 +26,11 @@ package ic.ce.base.algoritmo;
 import ic.ce.base.Ambiente;
 import ic.ce.base.Ser;
 import ic.ce.base.eventos.EventosEvolucionarios;
+import ic.ce.base.eventos.MonitorJFR;
 import ic.ce.base.listeners.MelhorSerListener;
 import ic.ce.base.algoritmo.operadores.Gerador;
 import ic.ce.base.algoritmo.operadores.Mutador;
+import ic.ce.base.multiobjetivo.ArquivoPareto;
 import java.beans.PropertyChangeSupport;
 import java.time.Duration;
 import java.time.Instant;
@@ -54,6 +56,7 @@ public abstract class AlgoritmoEvolucionario<G extends Number & Comparable<G>, S
     private Ambiente<G, S> ambiente;
 
     private S melhorSer;
+    private ArquivoPareto<S> arquivoPareto;
 
     private Instant inicio, fim;
 
@@ -191,6 +194,13 @@ public abstract class AlgoritmoEvolucionario<G extends Number & Comparable<G>, S
      * @since 1.0
      */
     protected final void setMelhorSer(S melhorSer) {
+        MonitorJFR monitor = MonitorJFR.getInstancia();
+        if (monitor.isMelhoriaHabilitada() && melhorSer != null && melhorSer.getGrauDeAdaptacao() != null) {
+            double grauAnterior = (this.melhorSer != null && this.melhorSer.getGrauDeAdaptacao() != null)
+                    ? this.melhorSer.getGrauDeAdaptacao().doubleValue() : Double.NaN;
+            monitor.registraMelhoria(getNome(), getContadorDeIteracoes(), grauAnterior,
+                    melhorSer.getGrauDeAdaptacao().doubleValue());
+        }
         this.pcs.firePropertyChange(EventosEvolucionarios.MelhorSer.toString(), this.melhorSer, this.melhorSer = melhorSer);
     }
 
@@ -208,6 +218,45 @@ public abstract class AlgoritmoEvolucionario<G extends Number & Comparable<G>, S
         return melhorSer;
     }
 
+    /**
+     * Define o arquivo de Pareto.
+     *
+     * <p>
+     * Com um arquivo definido, algoritmos multiobjetivo oferecem a ele cada
+     * solução avaliada, mantendo as não dominadas encontradas em todas as
+     * iterações – analogamente ao melhor ser, no caso mono-objetivo.
+     * </p>
+     *
+     * @since 1.0
+     * @param arquivoPareto Arquivo de Pareto; nulo para desativar.
+     */
+    public final void setArquivoPareto(ArquivoPareto<S> arquivoPareto) {
+        this.arquivoPareto = arquivoPareto;
+    }
+
+    /**
+     * Recupera o arquivo de Pareto.
+     *
+     * @since 1.0
+     * @return Arquivo de Pareto, ou nulo se não definido.
+     */
+    public final ArquivoPareto<S> getArquivoPareto() {
+        return arquivoPareto;
+    }
+
+    /**
+     * Oferece uma solução avaliada ao arquivo de Pareto, se definido.
+     *
+     * @since 1.0
+     * @param ser Ser avaliado.
+     * @param objetivos Vetor de objetivos, para minimização.
+     */
+    protected final void arquiva(S ser, double[] objetivos) {
+        if (arquivoPareto != null) {
+            arquivoPareto.adiciona(ser, objetivos);
+        }
+    }
+
     /**
      * Condição de parada.
      *
@@ -555,6 +604,10 @@ public abstract class AlgoritmoEvolucionario<G extends Number & Comparable<G>, S
             relatorio.append("\tProbabilidade de Mutação:\t" + getMutador().getProbabilidadeMutacao() + "\n");
         }
 
+        if (getArquivoPareto() != null) {
+            relatorio.append("\tArquivo de Pareto:\t" + getArquivoPareto().size() + "\n");
+        }
+
         return relatorio.toString();
     }
 
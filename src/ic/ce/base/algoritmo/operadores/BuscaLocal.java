@@ -0,0 +1,270 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.base.algoritmo.operadores;
+
+import ic.ce.base.AvaliadorIncremental;
+import ic.ce.base.Ser;
+import ic.ce.base.utilidades.Aleatorios;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Operador de busca local.
+ *
+ * <p>
+ * Estágio memético: aplicado a uma fração dos filhos de cada geração,
+ * substitui cada ser escolhido por um ótimo local de sua vizinhança – ou por
+ * ele mesmo, se nenhuma melhora for encontrada. O retorno é sempre um ser
+ * avaliado.
+ * </p>
+ * <p>
+ * Cada aplicação é limitada por um orçamento de avaliações de candidatos; a
+ * avaliação da origem, necessária de todo modo, não é contabilizada. As
+ * buscas trabalham sobre cópias não avaliadas – modificadas e restauradas a
+ * cada movimento – e apenas o resultado é materializado. Se o ambiente implementar
+ * {@link AvaliadorIncremental}, candidatos são avaliados a partir do grau da
+ * solução corrente e das posições alteradas.
+ * </p>
+ * <p>
+ * Por sua própria natureza, esse operador é dependente da representação.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public abstract class BuscaLocal<G extends Number & Comparable<G>, S extends Ser<G>> extends Operador<G, S> implements UnaryOperator<S> {
+
+    private double probabilidadeDeAplicacao;
+    private int maxAvaliacoes;
+    private final LongAdder avaliacoes = new LongAdder();
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param probabilidadeDeAplicacao Probabilidade de aplicação a cada ser.
+     * @param maxAvaliacoes Número máximo de avaliações por aplicação.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se a probabilidade estiver fora de [0, 1];</li>
+     * <li>Se o número máximo de avaliações for menor que 1.</li>
+     * </ul>
+     */
+    public BuscaLocal(double probabilidadeDeAplicacao, int maxAvaliacoes) {
+        setProbabilidadeDeAplicacao(probabilidadeDeAplicacao);
+        setMaxAvaliacoes(maxAvaliacoes);
+    }
+
+    /**
+     * Realiza a busca local a partir de um ser.
+     *
+     * @since 1.0
+     * @param origem Ser de origem, avaliado ou não.
+     * @return Ser avaliado, não pior que a origem: a própria origem, se
+     * nenhuma melhora for encontrada.
+     */
+    public abstract S busca(S origem);
+
+    /**
+     * Realiza a busca local: coleção.
+     *
+     * <p>
+     * Para cada ser, um sorteio é realizado por
+     * {@link #sorteiaSeBusca(ic.ce.base.Ser)}; em caso de sucesso, o ser é
+     * substituído pelo resultado da busca. As buscas são executadas em
+     * paralelo.
+     * </p>
+     *
+     * @since 1.0
+     * @param seres Seres de origem.
+     * @return Nova lista, na ordem de origem.
+     */
+    public final List<S> buscaTodos(List<S> seres) {
+        return seres.parallelStream()
+                .map(ser -> sorteiaSeBusca(ser) ? busca(ser) : ser)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Alternativa: {@link #busca(ic.ce.base.Ser)}, para satisfazer a interface
+     * <code>UnaryOperator</code>.
+     *
+     * @since 1.0
+     * @param ser Ser de origem.
+     * @return Ser resultante da busca.
+     */
+    @Override
+    public final S apply(S ser) {
+        return busca(ser);
+    }
+
+    /**
+     * Sorteia se aplica a busca local.
+     *
+     * @since 1.0
+     * @param ser Ser de origem – não utilizado, por padrão.
+     * @return true se a busca deve ser aplicada.
+     */
+    public boolean sorteiaSeBusca(Ser ser) {
+        return Aleatorios.sorteioUniforme(probabilidadeDeAplicacao);
+    }
+
+    /**
+     * Recupera o grau da origem, atribuindo-o se necessário.
+     *
+     * @since 1.0
+     * @param origem Ser de origem.
+     * @return Grau de adaptação.
+     */
+    protected final G grauDe(S origem) {
+        if (origem.isAvaliadoPor(getAmbiente())) {
+            return origem.getGrauDeAdaptacao();
+        }
+        avaliacoes.increment();
+        return origem.setGrauDeAdaptacao(getAmbiente());
+    }
+
+    /**
+     * Avalia um candidato, sem lhe atribuir o grau, incrementalmente se o
+     * ambiente permitir.
+     *
+     * @since 1.0
+     * @param atual Solução corrente.
+     * @param grauAtual Grau da solução corrente.
+     * @param candidato Candidato, não avaliado.
+     * @param alterados Posições em que o candidato difere da solução corrente,
+     * em ordem crescente.
+     * @return Grau de adaptação do candidato.
+     */
+    protected final G avaliaCandidato(S atual, G grauAtual, S candidato, int[] alterados) {
+        avaliacoes.increment();
+        getAmbiente().registraAvaliacao();
+        if (getAmbiente() instanceof AvaliadorIncremental) {
+            return ((AvaliadorIncremental<G, S>) getAmbiente()).avalia(atual, grauAtual, candidato, alterados);
+        }
+        return getAmbiente().avalia(candidato);
+    }
+
+    /**
+     * Cria uma cópia de trabalho, não avaliada e modificável.
+     *
+     * @since 1.0
+     * @param origem Ser de origem.
+     * @return Cópia.
+     */
+    protected final S copia(S origem) {
+        S copia = getAlgoritmo().getGerador().get();
+        copia.setCaracteristicasCopia(0, origem.getCaracteristicas());
+        return copia;
+    }
+
+    /**
+     * Materializa o resultado de uma busca: cópia avaliada de um ser de
+     * trabalho.
+     *
+     * @since 1.0
+     * @param trabalho Ser de trabalho.
+     * @param grau Grau de adaptação do ser de trabalho.
+     * @return Novo ser, avaliado.
+     */
+    protected final S materializa(S trabalho, G grau) {
+        S ser = copia(trabalho);
+        ser.setGrauDeAdaptacao(getAmbiente(), grau);
+        return ser;
+    }
+
+    /**
+     * Atribui a probabilidade de aplicação.
+     *
+     * @since 1.0
+     * @param probabilidadeDeAplicacao Probabilidade, em [0, 1].
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se a probabilidade estiver fora de [0, 1].</li>
+     * </ul>
+     */
+    public final void setProbabilidadeDeAplicacao(double probabilidadeDeAplicacao) {
+        if (probabilidadeDeAplicacao > 1 || probabilidadeDeAplicacao < 0) {
+            throw new IllegalArgumentException("Probabilidade de aplicação deve estar em [0,1].");
+        }
+        this.probabilidadeDeAplicacao = probabilidadeDeAplicacao;
+    }
+
+    /**
+     * Recupera a probabilidade de aplicação.
+     *
+     * @since 1.0
+     * @return Probabilidade de aplicação.
+     */
+    public final double getProbabilidadeDeAplicacao() {
+        return probabilidadeDeAplicacao;
+    }
+
+    /**
+     * Atribui o número máximo de avaliações por aplicação.
+     *
+     * @since 1.0
+     * @param maxAvaliacoes Número máximo de avaliações.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o número for menor que 1.</li>
+     * </ul>
+     */
+    public final void setMaxAvaliacoes(int maxAvaliacoes) {
+        if (maxAvaliacoes < 1) {
+            throw new IllegalArgumentException("Número máximo de avaliações deve ser maior ou igual a 1.");
+        }
+        this.maxAvaliacoes = maxAvaliacoes;
+    }
+
+    /**
+     * Recupera o número máximo de avaliações por aplicação.
+     *
+     * @since 1.0
+     * @return Número máximo de avaliações.
+     */
+    public final int getMaxAvaliacoes() {
+        return maxAvaliacoes;
+    }
+
+    /**
+     * Recupera o total de avaliações realizadas pelo operador.
+     *
+     * @since 1.0
+     * @return Número de avaliações.
+     */
+    public final long getAvaliacoes() {
+        return avaliacoes.sum();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.base.algoritmo.operadores;
+
+import ic.ce.base.Alteracao;
+import ic.ce.base.Ser;
+
+/**
+ * Mutação com registro de alteração.
+ *
+ * <p>
+ * Mutadores podem implementar essa interface para informar, a cada aplicação,
+ * as posições modificadas: algoritmos de trajetória as utilizam na avaliação
+ * incremental de vizinhos, dispensando a comparação com a origem.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <S> Classe dos Seres.
+ */
+public interface RegistraAlteracoes<S extends Ser> {
+
+    /**
+     * Realiza a operação de mutação, registrando as posições alteradas.
+     *
+     * @since 1.0
+     * @param origem Ser objeto da mutação.
+     * @return Registro da alteração: deve incluir todas as posições cujas
+     * características foram modificadas.
+     */
+    Alteracao mutaRegistrando(S origem);
+}
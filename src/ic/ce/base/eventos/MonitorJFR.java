@@ -0,0 +1,181 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.base.eventos;
+
+/**
+ * Emissão opcional de eventos JFR (<i>Java Flight Recorder</i>).
+ *
+ * <p>
+ * O laço evolutivo e a avaliação de seres emitem eventos por meio deste
+ * monitor, sem referência direta a <code>jdk.jfr</code>: a implementação
+ * efetiva, do pacote <code>ic.ce.base.eventos.jfr</code>, é carregada por
+ * reflexão apenas se a JVM dispuser de JFR. Caso contrário – ou se esse
+ * pacote for excluído da compilação, como na configuração
+ * <code>java8</code> do projeto (<code>ant -Dconfig=java8</code>), destinada
+ * a plataformas sem a API <code>jdk.jfr</code> –, usa-se esta classe, cujos
+ * métodos nada fazem.
+ * </p>
+ * <p>
+ * Eventos com duração são abertos por um método <code>inicia</code>, que
+ * retorna uma marca, e fechados pelo <code>conclui</code> correspondente.
+ * Marcas nulas indicam eventos desabilitados: o monitor as ignora, e quem as
+ * recebe pode dispensar o cálculo dos dados do evento.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ */
+public class MonitorJFR {
+
+    private static final MonitorJFR INSTANCIA = carrega();
+
+    /**
+     * Construtor: apenas para a implementação efetiva.
+     *
+     * @since 1.0
+     */
+    protected MonitorJFR() {
+    }
+
+    /**
+     * Recupera o monitor da JVM corrente.
+     *
+     * @since 1.0
+     * @return Monitor efetivo, se houver JFR; sem efeito, caso contrário.
+     */
+    public static MonitorJFR getInstancia() {
+        return INSTANCIA;
+    }
+
+    /**
+     * Verifica se os eventos são emitidos.
+     *
+     * @since 1.0
+     * @return true se a implementação efetiva estiver carregada.
+     */
+    public boolean isAtivo() {
+        return false;
+    }
+
+    /**
+     * Abre um evento de avaliação de uma coleção de seres.
+     *
+     * @since 1.0
+     * @return Marca do evento; nula se desabilitado.
+     */
+    public Object iniciaAvaliacao() {
+        return null;
+    }
+
+    /**
+     * Fecha um evento de avaliação.
+     *
+     * @since 1.0
+     * @param marca Marca retornada por {@link #iniciaAvaliacao()}.
+     * @param ambiente Nome do ambiente.
+     * @param tamanho Tamanho da coleção.
+     * @param avaliacoes Seres efetivamente avaliados.
+     */
+    public void concluiAvaliacao(Object marca, String ambiente, int tamanho, long avaliacoes) {
+    }
+
+    /**
+     * Abre um evento de geração.
+     *
+     * @since 1.0
+     * @return Marca do evento; nula se desabilitado.
+     */
+    public Object iniciaGeracao() {
+        return null;
+    }
+
+    /**
+     * Fecha um evento de geração.
+     *
+     * @since 1.0
+     * @param marca Marca retornada por {@link #iniciaGeracao()}.
+     * @param algoritmo Nome do algoritmo.
+     * @param geracao Número da geração.
+     * @param tamanho Tamanho da população.
+     * @param melhorGrau Grau do melhor ser da geração.
+     */
+    public void concluiGeracao(Object marca, String algoritmo, int geracao, int tamanho, double melhorGrau) {
+    }
+
+    /**
+     * Abre um evento de fase.
+     *
+     * @since 1.0
+     * @return Marca do evento; nula se desabilitado.
+     */
+    public Object iniciaFase() {
+        return null;
+    }
+
+    /**
+     * Fecha um evento de fase.
+     *
+     * @since 1.0
+     * @param marca Marca retornada por {@link #iniciaFase()}.
+     * @param fase Nome da fase.
+     * @param geracao Número da geração.
+     */
+    public void concluiFase(Object marca, String fase, int geracao) {
+    }
+
+    /**
+     * Verifica se eventos de melhoria estão habilitados.
+     *
+     * @since 1.0
+     * @return true se {@link #registraMelhoria(java.lang.String, int, double, double)}
+     * emitir eventos.
+     */
+    public boolean isMelhoriaHabilitada() {
+        return false;
+    }
+
+    /**
+     * Emite um evento instantâneo de melhoria: novo melhor ser.
+     *
+     * @since 1.0
+     * @param algoritmo Nome do algoritmo.
+     * @param iteracao Iteração corrente.
+     * @param grauAnterior Grau do melhor ser anterior; NaN se não houver.
+     * @param grau Grau do novo melhor ser.
+     */
+    public void registraMelhoria(String algoritmo, int iteracao, double grauAnterior, double grau) {
+    }
+
+    /**
+     * Carrega a implementação efetiva, se a JVM dispuser de JFR.
+     */
+    private static MonitorJFR carrega() {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return (MonitorJFR) Class.forName("ic.ce.base.eventos.jfr.MonitorJFREfetivo").getConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+            return new MonitorJFR();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.base.eventos.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR: avaliação de uma coleção de seres por um ambiente.
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ */
+@Name("ic.ce.Avaliacao")
+@Label("Avaliação")
+@Category({"Computação Evolucionária"})
+@Description("Avaliação, em paralelo, de uma coleção de seres.")
+@StackTrace(false)
+public class AvaliacaoEvento extends Event {
+
+    @Label("Ambiente")
+    public String ambiente;
+
+    @Label("Seres")
+    @Description("Tamanho da coleção.")
+    public int tamanho;
+
+    @Label("Avaliações")
+    @Description("Seres efetivamente avaliados: os demais já estavam avaliados pelo ambiente.")
+    public long avaliacoes;
+}
@@ -0,0 +1,65 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.base.eventos.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR: geração de um algoritmo populacional, do início da iteração
+ * até a coleta de seus dados.
+ *
+ * <p>
+ * Os eventos deste pacote são emitidos pelo laço evolutivo e pela avaliação
+ * de seres; sem gravação ativa, seu custo é desprezível, podendo permanecer
+ * habilitados em produção. Não registram pilhas de chamadas. Requerem uma JVM
+ * com JFR: Java 11 ou superior, ou Java 8 a partir da atualização 262.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ */
+@Name("ic.ce.Geracao")
+@Label("Geração")
+@Category({"Computação Evolucionária"})
+@Description("Iteração de um algoritmo populacional.")
+@StackTrace(false)
+public class GeracaoEvento extends Event {
+
+    @Label("Algoritmo")
+    public String algoritmo;
+
+    @Label("Geração")
+    public int geracao;
+
+    @Label("Tamanho da população")
+    public int tamanho;
+
+    @Label("Melhor grau da geração")
+    public double melhorGrau;
+}
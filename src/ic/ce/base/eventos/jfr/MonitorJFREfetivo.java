@@ -0,0 +1,175 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.base.eventos.jfr;
+
+import ic.ce.base.eventos.MonitorJFR;
+
+/**
+ * Monitor efetivo: emite os eventos JFR deste pacote.
+ *
+ * <p>
+ * Carregado por reflexão por {@link MonitorJFR#getInstancia()}; não deve ser
+ * referenciado diretamente, para que o restante da biblioteca não dependa de
+ * <code>jdk.jfr</code>.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ */
+public final class MonitorJFREfetivo extends MonitorJFR {
+
+    private final MelhoriaEvento melhoria = new MelhoriaEvento();
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     */
+    public MonitorJFREfetivo() {
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public boolean isAtivo() {
+        return true;
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public Object iniciaAvaliacao() {
+        AvaliacaoEvento evento = new AvaliacaoEvento();
+        if (!evento.isEnabled()) {
+            return null;
+        }
+        evento.begin();
+        return evento;
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public void concluiAvaliacao(Object marca, String ambiente, int tamanho, long avaliacoes) {
+        if (marca == null) {
+            return;
+        }
+        AvaliacaoEvento evento = (AvaliacaoEvento) marca;
+        evento.end();
+        if (evento.shouldCommit()) {
+            evento.ambiente = ambiente;
+            evento.tamanho = tamanho;
+            evento.avaliacoes = avaliacoes;
+            evento.commit();
+        }
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public Object iniciaGeracao() {
+        GeracaoEvento evento = new GeracaoEvento();
+        if (!evento.isEnabled()) {
+            return null;
+        }
+        evento.begin();
+        return evento;
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public void concluiGeracao(Object marca, String algoritmo, int geracao, int tamanho, double melhorGrau) {
+        if (marca == null) {
+            return;
+        }
+        GeracaoEvento evento = (GeracaoEvento) marca;
+        evento.end();
+        if (evento.shouldCommit()) {
+            evento.algoritmo = algoritmo;
+            evento.geracao = geracao;
+            evento.tamanho = tamanho;
+            evento.melhorGrau = melhorGrau;
+            evento.commit();
+        }
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public Object iniciaFase() {
+        FaseEvento evento = new FaseEvento();
+        if (!evento.isEnabled()) {
+            return null;
+        }
+        evento.begin();
+        return evento;
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public void concluiFase(Object marca, String fase, int geracao) {
+        if (marca == null) {
+            return;
+        }
+        FaseEvento evento = (FaseEvento) marca;
+        evento.end();
+        if (evento.shouldCommit()) {
+            evento.fase = fase;
+            evento.geracao = geracao;
+            evento.commit();
+        }
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public boolean isMelhoriaHabilitada() {
+        return melhoria.isEnabled();
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public void registraMelhoria(String algoritmo, int iteracao, double grauAnterior, double grau) {
+        MelhoriaEvento evento = new MelhoriaEvento();
+        if (evento.shouldCommit()) {
+            evento.algoritmo = algoritmo;
+            evento.iteracao = iteracao;
+            evento.grauAnterior = grauAnterior;
+            evento.grau = grau;
+            evento.commit();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.base.multiobjetivo;
+
+import ic.ce.base.Ambiente;
+import ic.ce.base.Ser;
+
+/**
+ * Ambiente para problemas com múltiplos objetivos.
+ *
+ * <p>
+ * A avaliação produz um vetor primitivo de objetivos, cada um com seu próprio
+ * modo (maximização/minimização). Para compatibilidade com os componentes
+ * mono-objetivo – população, melhor ser, relatórios – o vetor é também reduzido
+ * a um grau de adaptação escalar por {@link #escalariza(double[])}; o modo do
+ * ambiente refere-se a esse escalar.
+ * </p>
+ * <p>
+ * Seres avaliados por {@link Ser#setGrauDeAdaptacao(ic.ce.base.Ambiente)} –
+ * inclusive ao serem inseridos em populações – mantêm, com o escalar, o vetor
+ * de objetivos, acessível por {@link Ser#getObjetivos()}: algoritmos
+ * multiobjetivo o recuperam sem uma segunda avaliação.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public abstract class AmbienteMultiobjetivo<G extends Number & Comparable<G>, S extends Ser<G>> extends Ambiente<G, S> {
+
+    private final Modo[] modosObjetivos;
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param modo Modo de comparação do grau escalar.
+     * @param modosObjetivos Modo de cada objetivo.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se houver menos de dois objetivos.</li>
+     * </ul>
+     */
+    public AmbienteMultiobjetivo(Modo modo, Modo... modosObjetivos) {
+        super(modo);
+        if (modosObjetivos.length < 2) {
+            throw new IllegalArgumentException("Número de objetivos deve ser maior ou igual a 2.");
+        }
+        this.modosObjetivos = modosObjetivos.clone();
+    }
+
+    /**
+     * Avalia os objetivos de um ser.
+     *
+     * <p>
+     * Deve ser seguro para chamadas concorrentes.
+     * </p>
+     *
+     * @since 1.0
+     * @param individuo Ser a ser avaliado.
+     * @return Vetor de objetivos, na ordem dos modos definidos.
+     */
+    public abstract double[] avaliaObjetivos(S individuo);
+
+    /**
+     * Reduz um vetor de objetivos a um grau de adaptação escalar.
+     *
+     * @since 1.0
+     * @param objetivos Vetor de objetivos.
+     * @return Grau de adaptação.
+     */
+    public abstract G escalariza(double[] objetivos);
+
+    @Override
+    public final G avalia(S individuo) {
+        return escalariza(avaliaObjetivos(individuo));
+    }
+
+    /**
+     * Avalia os objetivos de um ser e registra nele o grau escalar e o vetor
+     * de objetivos.
+     *
+     * @since 1.0
+     * @see Ser#getObjetivos()
+     */
+    @Override
+    protected final G avaliaERegistra(S individuo) {
+        double[] objetivos = avaliaObjetivos(individuo);
+        return individuo.setGrauDeAdaptacao(this, escalariza(objetivos), objetivos);
+    }
+
+    /**
+     * Recupera o número de objetivos.
+     *
+     * @since 1.0
+     * @return Número de objetivos.
+     */
+    public final int getNObjetivos() {
+        return modosObjetivos.length;
+    }
+
+    /**
+     * Recupera o modo de um objetivo.
+     *
+     * @since 1.0
+     * @param objetivo Índice do objetivo.
+     * @return Modo do objetivo.
+     */
+    public final Modo getModo(int objetivo) {
+        return modosObjetivos[objetivo];
+    }
+
+    /**
+     * Converte um vetor de objetivos para minimização.
+     *
+     * <p>
+     * Objetivos de maximização têm o sinal invertido. A conversão é sua própria
+     * inversa: aplicada a um vetor convertido, recupera os valores originais.
+     * </p>
+     *
+     * @since 1.0
+     * @param objetivos Vetor de objetivos; não é modificado.
+     * @return Novo vetor, com todos os objetivos para minimização.
+     */
+    public final double[] orientaParaMinimizacao(double[] objetivos) {
+        double[] orientados = new double[objetivos.length];
+        for (int m = 0; m < objetivos.length; m++) {
+            orientados[m] = (modosObjetivos[m] == Modo.MAXIMIZACAO) ? -objetivos[m] : objetivos[m];
+        }
+        return orientados;
+    }
+
+    /**
+     * Verifica se um vetor de objetivos domina outro, segundo os modos do
+     * ambiente.
+     *
+     * @since 1.0
+     * @param a Vetor de objetivos.
+     * @param b Vetor de objetivos.
+     * @return true se <i>a</i> não é pior que <i>b</i> em nenhum objetivo e é
+     * melhor em ao menos um.
+     */
+    public final boolean domina(double[] a, double[] b) {
+        return Dominancia.domina(orientaParaMinimizacao(a), orientaParaMinimizacao(b));
+    }
+}
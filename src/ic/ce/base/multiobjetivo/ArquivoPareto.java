@@ -0,0 +1,265 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.base.multiobjetivo;
+
+import ic.ce.base.Ser;
+import ic.ce.base.utilidades.Ordenacao;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Arquivo limitado de soluções não dominadas.
+ *
+ * <p>
+ * Mantém o conjunto não dominado de todas as soluções oferecidas ao arquivo,
+ * com vetores de objetivos para minimização. As entradas são indexadas em
+ * ordem lexicográfica dos objetivos: apenas entradas anteriores podem dominar
+ * uma nova solução e apenas posteriores podem ser dominadas por ela.
+ * </p>
+ * <ul>
+ * <li>Dois objetivos: o conjunto ordenado pelo primeiro objetivo tem o segundo
+ * estritamente decrescente; a verificação de dominância consulta apenas o
+ * predecessor e a remoção percorre apenas as entradas dominadas – O(log n +
+ * k);</li>
+ * <li>Demais casos: verificação restrita às entradas anteriores e remoção às
+ * posteriores. Não há índice adicional: cada inserção é O(n) no tamanho do
+ * arquivo – limitado a 110% do tamanho máximo –, com n comparações de vetores
+ * de M objetivos no pior caso.</li>
+ * </ul>
+ * <p>
+ * Ao exceder o tamanho máximo em 10%, o arquivo é reduzido ao tamanho máximo
+ * pela remoção das entradas de menor distância de aglomeração, preservando os
+ * extremos.
+ * </p>
+ * <p>
+ * Operações são sincronizadas: o arquivo pode receber soluções de avaliações
+ * paralelas.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <S> Classe dos Seres.
+ *
+ * @see Dominancia
+ */
+public class ArquivoPareto<S extends Ser> {
+
+    private final int tamanhoMaximo;
+    private final int tamanhoLimite;
+    private final NavigableSet<Entrada<S>> entradas = new TreeSet<>();
+    private long sequencia = 0;
+
+    /**
+     * Entrada do arquivo: ser e seus objetivos.
+     */
+    private final static class Entrada<S> implements Comparable<Entrada<S>> {
+
+        private final S ser;
+        private final double[] objetivos;
+        private final long ordem;
+
+        Entrada(S ser, double[] objetivos, long ordem) {
+            this.ser = ser;
+            this.objetivos = objetivos;
+            this.ordem = ordem;
+        }
+
+        @Override
+        public int compareTo(Entrada<S> outra) {
+            for (int m = 0; m < objetivos.length; m++) {
+                int comparacao = Double.compare(objetivos[m], outra.objetivos[m]);
+                if (comparacao != 0) {
+                    return comparacao;
+                }
+            }
+            return Long.compare(ordem, outra.ordem);
+        }
+    }
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param tamanhoMaximo Número máximo de soluções mantidas.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o tamanho máximo for menor que 2.</li>
+     * </ul>
+     */
+    public ArquivoPareto(int tamanhoMaximo) {
+        if (tamanhoMaximo < 2) {
+            throw new IllegalArgumentException("Tamanho máximo deve ser maior ou igual a 2.");
+        }
+        this.tamanhoMaximo = tamanhoMaximo;
+        this.tamanhoLimite = tamanhoMaximo + Math.max(1, tamanhoMaximo / 10);
+    }
+
+    /**
+     * Oferece uma solução ao arquivo.
+     *
+     * <p>
+     * A solução é inserida se não for dominada por nem igual a nenhuma entrada;
+     * entradas dominadas por ela são removidas.
+     * </p>
+     * <p>
+     * Custo: O(log n + k) para dois objetivos, com <i>k</i> entradas
+     * removidas; O(n·M) para três ou mais objetivos.
+     * </p>
+     *
+     * @since 1.0
+     * @param ser Ser da solução.
+     * @param objetivos Vetor de objetivos, para minimização; não deve ser
+     * modificado após a inserção.
+     * @return true se a solução foi inserida.
+     */
+    public synchronized boolean adiciona(S ser, double[] objetivos) {
+        Entrada<S> nova = new Entrada<>(ser, objetivos, sequencia++);
+
+        if (objetivos.length == 2) {
+            Entrada<S> anterior = entradas.lower(nova);
+            if (anterior != null && anterior.objetivos[1] <= objetivos[1]) {
+                return false;
+            }
+            Iterator<Entrada<S>> posteriores = entradas.tailSet(nova, false).iterator();
+            while (posteriores.hasNext() && posteriores.next().objetivos[1] >= objetivos[1]) {
+                posteriores.remove();
+            }
+        } else {
+            for (Entrada<S> anterior : entradas.headSet(nova, false)) {
+                if (dominaOuIguala(anterior.objetivos, objetivos)) {
+                    return false;
+                }
+            }
+            entradas.tailSet(nova, false).removeIf(posterior -> Dominancia.domina(objetivos, posterior.objetivos));
+        }
+
+        entradas.add(nova);
+
+        if (entradas.size() > tamanhoLimite) {
+            reduz();
+        }
+        return true;
+    }
+
+    /**
+     * Verifica se <i>a</i> domina ou é igual a <i>b</i>.
+     */
+    private static boolean dominaOuIguala(double[] a, double[] b) {
+        for (int m = 0; m < a.length; m++) {
+            if (a[m] > b[m]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reduz o arquivo ao tamanho máximo, por distância de aglomeração.
+     */
+    private void reduz() {
+        List<Entrada<S>> lista = new ArrayList<>(entradas);
+        double[][] objetivos = new double[lista.size()][];
+        int[] todos = new int[lista.size()];
+        for (int i = 0; i < objetivos.length; i++) {
+            objetivos[i] = lista.get(i).objetivos;
+            todos[i] = i;
+        }
+
+        double[] distancias = new double[objetivos.length];
+        Dominancia.distanciaDeAglomeracao(objetivos, todos, distancias);
+
+        Integer[] ordem = new Integer[objetivos.length];
+        for (int i = 0; i < ordem.length; i++) {
+            ordem[i] = i;
+        }
+        Ordenacao.selecionaMaiores(ordem, tamanhoMaximo, (i1, i2) -> Double.compare(distancias[i1], distancias[i2]));
+
+        for (int i = tamanhoMaximo; i < ordem.length; i++) {
+            entradas.remove(lista.get(ordem[i]));
+        }
+    }
+
+    /**
+     * Recupera o número de soluções no arquivo.
+     *
+     * @since 1.0
+     * @return Número de soluções.
+     */
+    public synchronized int size() {
+        return entradas.size();
+    }
+
+    /**
+     * Recupera o tamanho máximo do arquivo.
+     *
+     * @since 1.0
+     * @return Tamanho máximo.
+     */
+    public final int getTamanhoMaximo() {
+        return tamanhoMaximo;
+    }
+
+    /**
+     * Recupera os seres do arquivo, em ordem lexicográfica dos objetivos.
+     *
+     * @since 1.0
+     * @return Nova lista com os seres não dominados.
+     */
+    public synchronized List<S> getSeres() {
+        List<S> seres = new ArrayList<>(entradas.size());
+        for (Entrada<S> entrada : entradas) {
+            seres.add(entrada.ser);
+        }
+        return seres;
+    }
+
+    /**
+     * Recupera os objetivos das soluções, na ordem de {@link #getSeres()}.
+     *
+     * @since 1.0
+     * @return Nova lista com cópias dos vetores de objetivos, para
+     * minimização.
+     */
+    public synchronized List<double[]> getObjetivos() {
+        List<double[]> objetivos = new ArrayList<>(entradas.size());
+        for (Entrada<S> entrada : entradas) {
+            objetivos.add(entrada.objetivos.clone());
+        }
+        return objetivos;
+    }
+
+    /**
+     * Remove todas as soluções do arquivo.
+     *
+     * @since 1.0
+     */
+    public synchronized void clear() {
+        entradas.clear();
+    }
+}
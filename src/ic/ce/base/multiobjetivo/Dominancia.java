@@ -0,0 +1,297 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.base.multiobjetivo;
+
+import static java.lang.Math.max;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * Classe auxiliar para relações de dominância de Pareto.
+ *
+ * <p>
+ * Todos os métodos consideram vetores de objetivos para minimização, em arrays
+ * primitivos.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @see AmbienteMultiobjetivo#orientaParaMinimizacao(double[])
+ */
+public class Dominancia {
+
+    /**
+     * Verifica se um vetor domina outro.
+     *
+     * @since 1.0
+     * @param a Vetor de objetivos.
+     * @param b Vetor de objetivos.
+     * @return true se <i>a</i> não é pior que <i>b</i> em nenhum objetivo e é
+     * melhor em ao menos um.
+     */
+    public final static boolean domina(double[] a, double[] b) {
+        return compara(a, b) > 0;
+    }
+
+    /**
+     * Compara dois vetores pela relação de dominância.
+     *
+     * @since 1.0
+     * @param a Vetor de objetivos.
+     * @param b Vetor de objetivos.
+     * @return
+     * <ul>
+     * <li>1: se <i>a</i> domina <i>b</i>;</li>
+     * <li>-1: se <i>b</i> domina <i>a</i>;</li>
+     * <li>0: se não houver dominância.</li>
+     * </ul>
+     */
+    public final static int compara(double[] a, double[] b) {
+        boolean aMelhor = false;
+        boolean bMelhor = false;
+        for (int m = 0; m < a.length; m++) {
+            if (a[m] < b[m]) {
+                aMelhor = true;
+            } else if (b[m] < a[m]) {
+                bMelhor = true;
+            }
+            if (aMelhor && bMelhor) {
+                return 0;
+            }
+        }
+        return aMelhor ? 1 : (bMelhor ? -1 : 0);
+    }
+
+    /**
+     * Ordenação não dominada: atribui a cada vetor o índice de sua frente.
+     *
+     * <p>
+     * A frente 0 contém os vetores não dominados; a frente <i>k</i>, os não
+     * dominados após a remoção das frentes anteriores.
+     * </p>
+     * <ul>
+     * <li>Dois objetivos: varredura ordenada com busca binária sobre as
+     * frentes, O(N log N);</li>
+     * <li>Demais casos: ordenação rápida de Deb et al., O(MN²), com contagem de
+     * dominância em paralelo.</li>
+     * </ul>
+     *
+     * @since 1.0
+     * @param objetivos Vetores de objetivos, todos de mesmo tamanho.
+     * @return Frente de cada vetor.
+     */
+    public final static int[] ordenacaoNaoDominada(double[][] objetivos) {
+        if (objetivos.length == 0) {
+            return new int[0];
+        }
+        if (objetivos[0].length == 2) {
+            return varredura(objetivos);
+        }
+        return ordenacaoRapida(objetivos);
+    }
+
+    /**
+     * Ordenação não dominada para dois objetivos.
+     *
+     * <p>
+     * Com os vetores em ordem lexicográfica, um vetor só pode ser dominado por
+     * vetores anteriores; e, se a frente <i>k</i>+1 o domina, a frente
+     * <i>k</i> também o domina. Basta, para cada frente, o membro com menor
+     * segundo objetivo.
+     * </p>
+     */
+    private static int[] varredura(double[][] objetivos) {
+        int n = objetivos.length;
+        int[] frentes = new int[n];
+
+        Integer[] ordem = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            ordem[i] = i;
+        }
+        Arrays.sort(ordem, Comparator.<Integer>comparingDouble(i -> objetivos[i][0]).thenComparingDouble(i -> objetivos[i][1]));
+
+        double[] menorSegundo = new double[n];
+        double[] primeiroDoMenor = new double[n];
+        int nFrentes = 0;
+
+        for (int indice : ordem) {
+            double[] p = objetivos[indice];
+
+            int inicio = 0;
+            int fim = nFrentes;
+            while (inicio < fim) {
+                int meio = (inicio + fim) >>> 1;
+                if (menorSegundo[meio] < p[1] || (menorSegundo[meio] == p[1] && primeiroDoMenor[meio] < p[0])) {
+                    inicio = meio + 1;
+                } else {
+                    fim = meio;
+                }
+            }
+
+            frentes[indice] = inicio;
+            if (inicio == nFrentes) {
+                nFrentes++;
+                menorSegundo[inicio] = p[1];
+                primeiroDoMenor[inicio] = p[0];
+            } else if (p[1] < menorSegundo[inicio]) {
+                menorSegundo[inicio] = p[1];
+                primeiroDoMenor[inicio] = p[0];
+            }
+        }
+        return frentes;
+    }
+
+    /**
+     * Ordenação não dominada rápida, para qualquer número de objetivos.
+     */
+    private static int[] ordenacaoRapida(double[][] objetivos) {
+        int n = objetivos.length;
+        int[][] dominados = new int[n][];
+        int[] contagem = new int[n];
+
+        IntStream.range(0, n).parallel().forEach(i -> {
+            int[] lista = new int[n];
+            int k = 0;
+            int c = 0;
+            for (int j = 0; j < n; j++) {
+                if (j != i) {
+                    int comparacao = compara(objetivos[i], objetivos[j]);
+                    if (comparacao > 0) {
+                        lista[k++] = j;
+                    } else if (comparacao < 0) {
+                        c++;
+                    }
+                }
+            }
+            dominados[i] = Arrays.copyOf(lista, k);
+            contagem[i] = c;
+        });
+
+        int[] frentes = new int[n];
+        int[] atual = new int[n];
+        int[] proxima = new int[n];
+        int tamanhoAtual = 0;
+        for (int i = 0; i < n; i++) {
+            if (contagem[i] == 0) {
+                atual[tamanhoAtual++] = i;
+            }
+        }
+
+        for (int frente = 0; tamanhoAtual > 0; frente++) {
+            int tamanhoProxima = 0;
+            for (int a = 0; a < tamanhoAtual; a++) {
+                int p = atual[a];
+                frentes[p] = frente;
+                for (int q : dominados[p]) {
+                    if (--contagem[q] == 0) {
+                        proxima[tamanhoProxima++] = q;
+                    }
+                }
+            }
+            int[] temp = atual;
+            atual = proxima;
+            proxima = temp;
+            tamanhoAtual = tamanhoProxima;
+        }
+        return frentes;
+    }
+
+    /**
+     * Agrupa os índices por frente.
+     *
+     * @since 1.0
+     * @param frentes Frente de cada vetor.
+     * @return Índices dos vetores de cada frente, em ordem de frente.
+     */
+    public final static int[][] agrupaFrentes(int[] frentes) {
+        int nFrentes = 0;
+        for (int frente : frentes) {
+            nFrentes = max(nFrentes, frente + 1);
+        }
+        int[] tamanhos = new int[nFrentes];
+        for (int frente : frentes) {
+            tamanhos[frente]++;
+        }
+        int[][] grupos = new int[nFrentes][];
+        for (int f = 0; f < nFrentes; f++) {
+            grupos[f] = new int[tamanhos[f]];
+            tamanhos[f] = 0;
+        }
+        for (int i = 0; i < frentes.length; i++) {
+            grupos[frentes[i]][tamanhos[frentes[i]]++] = i;
+        }
+        return grupos;
+    }
+
+    /**
+     * Calcula a distância de aglomeração dos membros de uma frente.
+     *
+     * <p>
+     * Soma, sobre os objetivos, da distância normalizada entre os vizinhos de
+     * cada vetor. Extremos recebem distância infinita.
+     * </p>
+     *
+     * @since 1.0
+     * @param objetivos Vetores de objetivos.
+     * @param frente Índices dos membros da frente.
+     * @param distancias Array de distâncias, indexado como
+     * <code>objetivos</code>; apenas as posições da frente são escritas.
+     */
+    public final static void distanciaDeAglomeracao(double[][] objetivos, int[] frente, double[] distancias) {
+        for (int indice : frente) {
+            distancias[indice] = 0;
+        }
+        if (frente.length <= 2) {
+            for (int indice : frente) {
+                distancias[indice] = Double.POSITIVE_INFINITY;
+            }
+            return;
+        }
+
+        Integer[] ordem = new Integer[frente.length];
+        int nObjetivos = objetivos[frente[0]].length;
+
+        for (int m = 0; m < nObjetivos; m++) {
+            final int objetivo = m;
+            for (int i = 0; i < frente.length; i++) {
+                ordem[i] = frente[i];
+            }
+            Arrays.sort(ordem, Comparator.comparingDouble(i -> objetivos[i][objetivo]));
+
+            double minimo = objetivos[ordem[0]][m];
+            double amplitude = objetivos[ordem[ordem.length - 1]][m] - minimo;
+
+            distancias[ordem[0]] = Double.POSITIVE_INFINITY;
+            distancias[ordem[ordem.length - 1]] = Double.POSITIVE_INFINITY;
+
+            if (amplitude > 0) {
+                for (int i = 1; i < ordem.length - 1; i++) {
+                    distancias[ordem[i]] += (objetivos[ordem[i + 1]][m] - objetivos[ordem[i - 1]][m]) / amplitude;
+                }
+            }
+        }
+    }
+}
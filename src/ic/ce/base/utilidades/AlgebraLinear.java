@@ -0,0 +1,305 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.base.utilidades;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.hypot;
+import static java.lang.Math.max;
+import static java.lang.Math.sqrt;
+
+/**
+ * Classe auxiliar para operações de álgebra linear densa.
+ *
+ * <p>
+ * Operações implementadas sobre arrays primitivos, sem alocações
+ * intermediárias, para uso em algoritmos que mantêm matrizes de covariância –
+ * como CMA-ES.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ */
+public class AlgebraLinear {
+
+    private static final double EPSILON = Math.ulp(1.0);
+
+    /**
+     * Realiza a decomposição espectral de uma matriz simétrica.
+     *
+     * <p>
+     * A matriz de entrada é sobrescrita pelos autovetores: a coluna <i>j</i>
+     * corresponde ao autovalor <i>j</i>. Os autovalores não são ordenados.
+     * </p>
+     * <p>
+     * Método: redução à forma tridiagonal por transformações de Householder,
+     * seguida do algoritmo QL com deslocamentos implícitos – O(n³).
+     * </p>
+     *
+     * @since 1.0
+     * @param matriz Matriz simétrica n×n; ao término, contém os autovetores.
+     * @param autovalores Array de tamanho n; ao término, contém os autovalores.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se as dimensões forem incompatíveis.</li>
+     * </ul>
+     */
+    public final static void autodecomposicaoSimetrica(double[][] matriz, double[] autovalores) {
+        int n = autovalores.length;
+        if (matriz.length != n) {
+            throw new IllegalArgumentException("Dimensões incompatíveis.");
+        }
+        double[] auxiliar = new double[n];
+
+        tridiagonaliza(matriz, autovalores, auxiliar);
+        ql(matriz, autovalores, auxiliar);
+    }
+
+    /**
+     * Redução de Householder à forma tridiagonal.
+     *
+     * @param v Matriz simétrica; ao término, matriz de transformação.
+     * @param d Diagonal resultante.
+     * @param e Subdiagonal resultante.
+     */
+    private static void tridiagonaliza(double[][] v, double[] d, double[] e) {
+        int n = d.length;
+
+        System.arraycopy(v[n - 1], 0, d, 0, n);
+
+        for (int i = n - 1; i > 0; i--) {
+            double escala = 0.0;
+            double h = 0.0;
+            for (int k = 0; k < i; k++) {
+                escala += abs(d[k]);
+            }
+            if (escala == 0.0) {
+                e[i] = d[i - 1];
+                for (int j = 0; j < i; j++) {
+                    d[j] = v[i - 1][j];
+                    v[i][j] = 0.0;
+                    v[j][i] = 0.0;
+                }
+            } else {
+                for (int k = 0; k < i; k++) {
+                    d[k] /= escala;
+                    h += d[k] * d[k];
+                }
+                double f = d[i - 1];
+                double g = sqrt(h);
+                if (f > 0) {
+                    g = -g;
+                }
+                e[i] = escala * g;
+                h -= f * g;
+                d[i - 1] = f - g;
+                for (int j = 0; j < i; j++) {
+                    e[j] = 0.0;
+                }
+                for (int j = 0; j < i; j++) {
+                    f = d[j];
+                    v[j][i] = f;
+                    g = e[j] + v[j][j] * f;
+                    for (int k = j + 1; k <= i - 1; k++) {
+                        g += v[k][j] * d[k];
+                        e[k] += v[k][j] * f;
+                    }
+                    e[j] = g;
+                }
+                f = 0.0;
+                for (int j = 0; j < i; j++) {
+                    e[j] /= h;
+                    f += e[j] * d[j];
+                }
+                double hh = f / (h + h);
+                for (int j = 0; j < i; j++) {
+                    e[j] -= hh * d[j];
+                }
+                for (int j = 0; j < i; j++) {
+                    f = d[j];
+                    g = e[j];
+                    for (int k = j; k <= i - 1; k++) {
+                        v[k][j] -= (f * e[k] + g * d[k]);
+                    }
+                    d[j] = v[i - 1][j];
+                    v[i][j] = 0.0;
+                }
+            }
+            d[i] = h;
+        }
+
+        for (int i = 0; i < n - 1; i++) {
+            v[n - 1][i] = v[i][i];
+            v[i][i] = 1.0;
+            double h = d[i + 1];
+            if (h != 0.0) {
+                for (int k = 0; k <= i; k++) {
+                    d[k] = v[k][i + 1] / h;
+                }
+                for (int j = 0; j <= i; j++) {
+                    double g = 0.0;
+                    for (int k = 0; k <= i; k++) {
+                        g += v[k][i + 1] * v[k][j];
+                    }
+                    for (int k = 0; k <= i; k++) {
+                        v[k][j] -= g * d[k];
+                    }
+                }
+            }
+            for (int k = 0; k <= i; k++) {
+                v[k][i + 1] = 0.0;
+            }
+        }
+        for (int j = 0; j < n; j++) {
+            d[j] = v[n - 1][j];
+            v[n - 1][j] = 0.0;
+        }
+        v[n - 1][n - 1] = 1.0;
+        e[0] = 0.0;
+    }
+
+    /**
+     * Algoritmo QL, com deslocamentos implícitos, para matrizes tridiagonais.
+     *
+     * @param v Matriz de transformação; ao término, autovetores.
+     * @param d Diagonal; ao término, autovalores.
+     * @param e Subdiagonal.
+     */
+    private static void ql(double[][] v, double[] d, double[] e) {
+        int n = d.length;
+
+        for (int i = 1; i < n; i++) {
+            e[i - 1] = e[i];
+        }
+        e[n - 1] = 0.0;
+
+        double f = 0.0;
+        double tst1 = 0.0;
+        for (int l = 0; l < n; l++) {
+            tst1 = max(tst1, abs(d[l]) + abs(e[l]));
+            int m = l;
+            while (m < n - 1 && abs(e[m]) > EPSILON * tst1) {
+                m++;
+            }
+            if (m > l) {
+                do {
+                    double g = d[l];
+                    double p = (d[l + 1] - g) / (2.0 * e[l]);
+                    double r = hypot(p, 1.0);
+                    if (p < 0) {
+                        r = -r;
+                    }
+                    d[l] = e[l] / (p + r);
+                    d[l + 1] = e[l] * (p + r);
+                    double dl1 = d[l + 1];
+                    double h = g - d[l];
+                    for (int i = l + 2; i < n; i++) {
+                        d[i] -= h;
+                    }
+                    f += h;
+
+                    p = d[m];
+                    double c = 1.0;
+                    double c2 = c;
+                    double c3 = c;
+                    double el1 = e[l + 1];
+                    double s = 0.0;
+                    double s2 = 0.0;
+                    for (int i = m - 1; i >= l; i--) {
+                        c3 = c2;
+                        c2 = c;
+                        s2 = s;
+                        g = c * e[i];
+                        h = c * p;
+                        r = hypot(p, e[i]);
+                        e[i + 1] = s * r;
+                        s = e[i] / r;
+                        c = p / r;
+                        p = c * d[i] - s * g;
+                        d[i + 1] = h + s * (c * g + s * d[i]);
+                        for (int k = 0; k < n; k++) {
+                            h = v[k][i + 1];
+                            v[k][i + 1] = s * v[k][i] + c * h;
+                            v[k][i] = c * v[k][i] - s * h;
+                        }
+                    }
+                    p = -s * s2 * c3 * el1 * e[l] / dl1;
+                    e[l] = s * p;
+                    d[l] = c * p;
+                } while (abs(e[l]) > EPSILON * tst1);
+            }
+            d[l] += f;
+            e[l] = 0.0;
+        }
+    }
+
+    /**
+     * Produto matriz-vetor: r = A·x.
+     *
+     * @since 1.0
+     * @param a Matriz n×m.
+     * @param x Vetor de tamanho m.
+     * @param resultado Vetor de tamanho n, sobrescrito.
+     */
+    public final static void multiplica(double[][] a, double[] x, double[] resultado) {
+        for (int i = 0; i < a.length; i++) {
+            double[] linha = a[i];
+            double soma = 0.0;
+            for (int j = 0; j < x.length; j++) {
+                soma += linha[j] * x[j];
+            }
+            resultado[i] = soma;
+        }
+    }
+
+    /**
+     * Norma euclidiana de um vetor.
+     *
+     * @since 1.0
+     * @param x Vetor.
+     * @return ‖x‖.
+     */
+    public final static double norma(double[] x) {
+        double soma = 0.0;
+        for (double xi : x) {
+            soma += xi * xi;
+        }
+        return sqrt(soma);
+    }
+
+    /**
+     * Cria uma matriz identidade.
+     *
+     * @since 1.0
+     * @param n Dimensão.
+     * @return Matriz identidade n×n.
+     */
+    public final static double[][] identidade(int n) {
+        double[][] identidade = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            identidade[i][i] = 1.0;
+        }
+        return identidade;
+    }
+}
@@ -34,6 +34,21 @@ import java.util.concurrent.ThreadLocalRandom;
  */
 public class Binarios {
 
+    /**
+     * Decodificação Gray de 8 bits: GRAY[g] é o binário correspondente a g.
+     */
+    private static final byte[] GRAY = new byte[256];
+
+    static {
+        for (int g = 0; g < GRAY.length; g++) {
+            int b = g;
+            b ^= b >>> 1;
+            b ^= b >>> 2;
+            b ^= b >>> 4;
+            GRAY[g] = (byte) b;
+        }
+    }
+
     /**
      * Retorna <i>n</i> Booleans aleatórios em uma lista.
      *
@@ -63,13 +78,231 @@ public class Binarios {
      */
     public final static Integer bits2Int(List<Boolean> bits) {
 
-        double valor = 0;
-        for (int i = 0; i < bits.size(); i++) {
-            if (bits.get(i)) {
-                valor += Math.pow(2, bits.size() - 1 - i);
-            }
+        long valor = 0;
+        for (Boolean bit : bits) {
+            valor = (valor << 1) | (bit ? 1 : 0);
         }
         return (int) valor;
     }
 
+    /**
+     * Calcula o número de palavras de 64 bits necessárias para <i>n</i> bits.
+     *
+     * @since 1.0
+     * @param nbits Número de bits.
+     * @return Número de palavras.
+     */
+    public final static int nPalavras(int nbits) {
+        return (nbits + 63) >>> 6;
+    }
+
+    /**
+     * Recupera um bit de um vetor de palavras.
+     *
+     * <p>
+     * O bit <i>i</i> ocupa a posição <i>i</i> mod 64 da palavra <i>i</i>/64.
+     * </p>
+     *
+     * @since 1.0
+     * @param palavras Vetor de palavras.
+     * @param i Índice do bit.
+     * @return Valor do bit.
+     */
+    public final static boolean getBit(long[] palavras, int i) {
+        return (palavras[i >>> 6] & (1L << i)) != 0;
+    }
+
+    /**
+     * Ativa os bits em [inicio, fim) de um vetor de palavras.
+     *
+     * <p>
+     * Palavras internas ao intervalo são preenchidas integralmente; as dos
+     * extremos, por máscaras deslocadas.
+     * </p>
+     *
+     * @since 1.0
+     * @param palavras Vetor de palavras, modificado.
+     * @param inicio Primeiro bit, inclusive.
+     * @param fim Último bit, exclusive.
+     */
+    public final static void ativaIntervalo(long[] palavras, int inicio, int fim) {
+        if (inicio >= fim) {
+            return;
+        }
+        int primeira = inicio >>> 6;
+        int ultima = (fim - 1) >>> 6;
+        long mascaraInicio = -1L << inicio;
+        long mascaraFim = -1L >>> -fim;
+
+        if (primeira == ultima) {
+            palavras[primeira] |= mascaraInicio & mascaraFim;
+            return;
+        }
+        palavras[primeira] |= mascaraInicio;
+        for (int w = primeira + 1; w < ultima; w++) {
+            palavras[w] = -1L;
+        }
+        palavras[ultima] |= mascaraFim;
+    }
+
+    /**
+     * Extrai um intervalo de bits de um vetor de palavras.
+     *
+     * <p>
+     * O bit <i>inicio</i> ocupa a posição menos significativa do resultado;
+     * no máximo duas palavras são lidas.
+     * </p>
+     *
+     * @since 1.0
+     * @param palavras Vetor de palavras.
+     * @param inicio Primeiro bit.
+     * @param nBits Número de bits, em [1, 64].
+     * @return Bits extraídos.
+     */
+    public final static long extrai(long[] palavras, int inicio, int nBits) {
+        int w = inicio >>> 6;
+        int deslocamento = inicio & 63;
+        long valor = palavras[w] >>> deslocamento;
+        if (deslocamento + nBits > 64) {
+            valor |= palavras[w + 1] << (64 - deslocamento);
+        }
+        return (nBits == 64) ? valor : valor & ((1L << nBits) - 1);
+    }
+
+    /**
+     * Decodifica um intervalo de bits como inteiro sem sinal.
+     *
+     * <p>
+     * O bit <i>inicio</i> é o mais significativo, como em
+     * {@link #bits2Int(java.util.List)}.
+     * </p>
+     *
+     * @since 1.0
+     * @param palavras Vetor de palavras.
+     * @param inicio Primeiro bit.
+     * @param nBits Número de bits, em [1, 64].
+     * @return Inteiro sem sinal.
+     */
+    public final static long decodifica(long[] palavras, int inicio, int nBits) {
+        return Long.reverse(extrai(palavras, inicio, nBits)) >>> (64 - nBits);
+    }
+
+    /**
+     * Converte um código Gray em binário, por consulta a tabela de 8 bits.
+     *
+     * <p>
+     * Cada bit binário é o ou-exclusivo dos bits Gray de mesma ou maior
+     * significância: os bytes são convertidos do mais significativo ao menos
+     * significativo, propagando o último bit do byte anterior.
+     * </p>
+     *
+     * @since 1.0
+     * @param gray Código Gray.
+     * @param nBits Número de bits do código, em [1, 64].
+     * @return Valor binário.
+     */
+    public final static long grayParaBinario(long gray, int nBits) {
+        long binario = 0;
+        int anterior = 0;
+        for (int s = ((nBits - 1) >>> 3) << 3; s >= 0; s -= 8) {
+            int b = (GRAY[(int) (gray >>> s) & 0xFF] & 0xFF) ^ (-anterior & 0xFF);
+            binario |= ((long) b) << s;
+            anterior = b & 1;
+        }
+        return binario;
+    }
+
+    /**
+     * Decodifica variáveis consecutivas de mesmo tamanho como inteiros sem
+     * sinal.
+     *
+     * @since 1.0
+     * @param palavras Vetor de palavras.
+     * @param inicio Primeiro bit da primeira variável.
+     * @param nBits Número de bits por variável, em [1, 64].
+     * @param gray Se as variáveis estão codificadas em código Gray.
+     * @param destino Vetor de destino: uma posição por variável.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o número de bits estiver fora de [1, 64].</li>
+     * </ul>
+     */
+    public final static void decodifica(long[] palavras, int inicio, int nBits, boolean gray, long[] destino) {
+        verificaNBits(nBits);
+        for (int v = 0; v < destino.length; v++) {
+            long valor = decodifica(palavras, inicio + v * nBits, nBits);
+            destino[v] = gray ? grayParaBinario(valor, nBits) : valor;
+        }
+    }
+
+    /**
+     * Decodifica variáveis consecutivas de mesmo tamanho como reais, por
+     * escala linear.
+     *
+     * <p>
+     * O inteiro <i>k</i> de <i>n</i> bits corresponde a lo + k(hi - lo)/(2^n -
+     * 1): zero corresponde a lo e o maior inteiro a hi.
+     * </p>
+     *
+     * @since 1.0
+     * @param palavras Vetor de palavras.
+     * @param inicio Primeiro bit da primeira variável.
+     * @param nBits Número de bits por variável, em [1, 64].
+     * @param gray Se as variáveis estão codificadas em código Gray.
+     * @param inferiores Limites inferiores, por variável.
+     * @param superiores Limites superiores, por variável.
+     * @param destino Vetor de destino: uma posição por variável.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o número de bits estiver fora de [1, 64].</li>
+     * </ul>
+     */
+    public final static void decodifica(long[] palavras, int inicio, int nBits, boolean gray,
+            double[] inferiores, double[] superiores, double[] destino) {
+        verificaNBits(nBits);
+        double maximo = Math.scalb(1.0, nBits) - 1.0;
+        for (int v = 0; v < destino.length; v++) {
+            long valor = decodifica(palavras, inicio + v * nBits, nBits);
+            if (gray) {
+                valor = grayParaBinario(valor, nBits);
+            }
+            double k = (valor >= 0) ? valor : (valor >>> 1) * 2.0 + (valor & 1);
+            destino[v] = inferiores[v] + k * ((superiores[v] - inferiores[v]) / maximo);
+        }
+    }
+
+    /**
+     * Verifica o número de bits por variável.
+     */
+    private static void verificaNBits(int nBits) {
+        if (nBits < 1 || nBits > 64) {
+            throw new IllegalArgumentException("Número de bits por variável deve estar em [1, 64].");
+        }
+    }
+
+    /**
+     * Combina duas sequências de palavras por uma máscara.
+     *
+     * <p>
+     * Onde a máscara é 1, o primeiro destino recebe o bit de <i>b</i> e o
+     * segundo o de <i>a</i>; onde é 0, o contrário. Os destinos podem ser os
+     * próprios vetores de origem.
+     * </p>
+     *
+     * @since 1.0
+     * @param a Primeira sequência.
+     * @param b Segunda sequência.
+     * @param mascara Máscara.
+     * @param destinoA Destino da primeira combinação.
+     * @param destinoB Destino da segunda combinação.
+     */
+    public final static void combina(long[] a, long[] b, long[] mascara, long[] destinoA, long[] destinoB) {
+        for (int w = 0; w < mascara.length; w++) {
+            long troca = (a[w] ^ b[w]) & mascara[w];
+            destinoA[w] = a[w] ^ troca;
+            destinoB[w] = b[w] ^ troca;
+        }
+    }
 }
@@ -0,0 +1,132 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.base.utilidades;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Classe auxiliar para ordenações parciais.
+ *
+ * <p>
+ * Diversos operadores necessitam apenas dos <i>k</i> melhores elementos de um
+ * conjunto – seleção por truncamento, elitismo, estratégias evolutivas. Para
+ * esses casos, ordenar todo o conjunto é desnecessário: os métodos desta classe
+ * realizam uma seleção parcial (<i>quickselect</i>), em tempo esperado
+ * O(n + k log k).
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ */
+public class Ordenacao {
+
+    /**
+     * Seleciona os <i>k</i> maiores elementos de um array.
+     *
+     * <p>
+     * Ao término, as <i>k</i> primeiras posições do array conterão os <i>k</i>
+     * maiores elementos, segundo o comparador, em ordem decrescente. As demais
+     * posições conterão os elementos restantes, sem ordem definida.
+     * </p>
+     * <p>
+     * Usando-se o ambiente como comparador, os <i>k</i> seres mais adaptados
+     * serão posicionados no início do array, do melhor para o pior.
+     * </p>
+     *
+     * @since 1.0
+     * @param <T> Tipo dos elementos.
+     * @param elementos Array a ser parcialmente ordenado.
+     * @param k Número de elementos desejados.
+     * @param comparador Comparador: maiores elementos são os desejados.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se <i>k</i> for negativo ou maior que o tamanho do array.</li>
+     * </ul>
+     */
+    public final static <T> void selecionaMaiores(T[] elementos, int k, Comparator<? super T> comparador) {
+        if (k < 0 || k > elementos.length) {
+            throw new IllegalArgumentException("Número de elementos deve estar em [0, tamanho do array].");
+        }
+        if (k == 0) {
+            return;
+        }
+
+        Comparator<? super T> decrescente = comparador.reversed();
+
+        if (k < elementos.length) {
+            seleciona(elementos, 0, elementos.length - 1, k - 1, decrescente);
+        }
+        Arrays.sort(elementos, 0, k, decrescente);
+    }
+
+    /**
+     * Quickselect: posiciona o k-ésimo elemento, na ordem do comparador, em sua
+     * posição final.
+     *
+     * <p>
+     * Elementos à esquerda de <i>k</i> serão menores ou iguais a ele e à
+     * direita maiores ou iguais.
+     * </p>
+     *
+     * @param elementos Array.
+     * @param inicio Início do intervalo, inclusive.
+     * @param fim Fim do intervalo, inclusive.
+     * @param k Posição desejada.
+     * @param comparador Comparador.
+     */
+    private static <T> void seleciona(T[] elementos, int inicio, int fim, int k, Comparator<? super T> comparador) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+
+        while (fim > inicio) {
+            T pivo = elementos[aleatorio.nextInt(inicio, fim + 1)];
+
+            int i = inicio;
+            int j = fim;
+            while (i <= j) {
+                while (comparador.compare(elementos[i], pivo) < 0) {
+                    i++;
+                }
+                while (comparador.compare(elementos[j], pivo) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    T temp = elementos[i];
+                    elementos[i++] = elementos[j];
+                    elementos[j--] = temp;
+                }
+            }
+
+            if (k <= j) {
+                fim = j;
+            } else if (k >= i) {
+                inicio = i;
+            } else {
+                return;
+            }
+        }
+    }
+}
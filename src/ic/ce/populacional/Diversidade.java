@@ -0,0 +1,260 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional;
+
+import ic.ce.base.Ser;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Medidas de diversidade genotípica.
+ *
+ * <p>
+ * Medidas sobre os valores das características dos seres – e não sobre sua
+ * identidade ou grau de adaptação –, calculadas em paralelo:
+ * </p>
+ * <ul>
+ * <li>Número de genótipos distintos, por códigos hash de 64 bits;</li>
+ * <li>Distâncias médias entre pares, de Hamming ou euclidiana, estimadas por
+ * amostragem de pares: custo independente do tamanho da população;</li>
+ * <li>Entropia por locus, para genomas de valores discretos: binários,
+ * inteiros e permutações.</li>
+ * </ul>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @see Ser#getHashDoGenoma()
+ */
+public class Diversidade {
+
+    /**
+     * Conta os genótipos distintos.
+     *
+     * @since 1.0
+     * @param populacao População.
+     * @return Número de genótipos distintos.
+     *
+     * @see Ser#getHashDoGenoma()
+     */
+    public static long distintos(Populacao<?, ?> populacao) {
+        return Arrays.stream(hashes(populacao)).parallel().distinct().count();
+    }
+
+    /**
+     * Calcula os códigos hash dos genótipos.
+     *
+     * @since 1.0
+     * @param populacao População.
+     * @return Novo array de códigos, na ordem do iterador da população.
+     */
+    public static long[] hashes(Populacao<?, ?> populacao) {
+        Ser<?>[] seres = populacao.toArray();
+        return Arrays.stream(seres).parallel().mapToLong(Ser::getHashDoGenoma).toArray();
+    }
+
+    /**
+     * Estima a distância de Hamming média entre pares de seres: número de
+     * posições com valores diferentes.
+     *
+     * @since 1.0
+     * @param populacao População.
+     * @param amostras Número de pares sorteados.
+     * @return Distância média estimada; zero se houver menos de dois seres.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o número de amostras for menor que 1.</li>
+     * </ul>
+     */
+    public static double hammingMedia(Populacao<?, ?> populacao, int amostras) {
+        return distanciaMedia(populacao, amostras, false);
+    }
+
+    /**
+     * Estima a distância euclidiana média entre pares de seres, sobre os
+     * valores das características.
+     *
+     * @since 1.0
+     * @param populacao População.
+     * @param amostras Número de pares sorteados.
+     * @return Distância média estimada; zero se houver menos de dois seres.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o número de amostras for menor que 1.</li>
+     * </ul>
+     */
+    public static double euclidianaMedia(Populacao<?, ?> populacao, int amostras) {
+        return distanciaMedia(populacao, amostras, true);
+    }
+
+    /**
+     * Sorteia pares distintos, em paralelo, e calcula a média de suas
+     * distâncias.
+     */
+    private static double distanciaMedia(Populacao<?, ?> populacao, int amostras, boolean euclidiana) {
+        if (amostras < 1) {
+            throw new IllegalArgumentException("Número de amostras deve ser maior ou igual a 1.");
+        }
+        Ser<?>[] seres = populacao.toArray();
+        int n = seres.length;
+        if (n < 2) {
+            return 0;
+        }
+
+        return IntStream.range(0, amostras).parallel().mapToDouble(a -> {
+            ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+            int i = aleatorio.nextInt(n);
+            int j = aleatorio.nextInt(n - 1);
+            if (j >= i) {
+                j++;
+            }
+            return euclidiana ? euclidiana(seres[i], seres[j]) : hamming(seres[i], seres[j]);
+        }).average().getAsDouble();
+    }
+
+    /**
+     * Distância de Hamming entre dois seres.
+     *
+     * @since 1.0
+     * @param ser1 Primeiro ser.
+     * @param ser2 Segundo ser.
+     * @return Número de posições com valores diferentes; posições excedentes
+     * do maior genoma são contadas como diferentes.
+     */
+    public static int hamming(Ser<?> ser1, Ser<?> ser2) {
+        int comum = Math.min(ser1.getSize(), ser2.getSize());
+        int distancia = Math.abs(ser1.getSize() - ser2.getSize());
+        for (int k = 0; k < comum; k++) {
+            if (!ser1.getCaracteristica(k).getValor().equals(ser2.getCaracteristica(k).getValor())) {
+                distancia++;
+            }
+        }
+        return distancia;
+    }
+
+    /**
+     * Distância euclidiana entre dois seres de mesmo tamanho.
+     *
+     * @since 1.0
+     * @param ser1 Primeiro ser.
+     * @param ser2 Segundo ser.
+     * @return Distância entre os valores das características.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se os seres tiverem tamanhos diferentes.</li>
+     * </ul>
+     */
+    public static double euclidiana(Ser<?> ser1, Ser<?> ser2) {
+        if (ser1.getSize() != ser2.getSize()) {
+            throw new IllegalArgumentException("Seres devem ter o mesmo número de características.");
+        }
+        double soma = 0;
+        for (int k = 0; k < ser1.getSize(); k++) {
+            double d = ser1.getCaracteristica(k).getValor().doubleValue() - ser2.getCaracteristica(k).getValor().doubleValue();
+            soma += d * d;
+        }
+        return Math.sqrt(soma);
+    }
+
+    /**
+     * Calcula a entropia de Shannon de cada locus, para genomas de valores
+     * discretos.
+     *
+     * <p>
+     * Para cada posição, a distribuição dos valores na população é estimada
+     * por contagem; a entropia, em bits, é zero quando todos os seres
+     * compartilham o valor e máxima – 1 para binários, log<sub>2</sub> n para
+     * permutações de n elementos – quando os valores são equiprováveis. Os
+     * loci são processados em paralelo.
+     * </p>
+     *
+     * @since 1.0
+     * @param populacao População de seres com o mesmo número de
+     * características, de valores inteiros.
+     * @return Entropia de cada locus, em bits.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se os seres tiverem tamanhos diferentes.</li>
+     * </ul>
+     */
+    public static double[] entropiaPorLocus(Populacao<?, ?> populacao) {
+        Ser<?>[] seres = populacao.toArray();
+        if (seres.length == 0) {
+            return new double[0];
+        }
+        int tamanho = seres[0].getSize();
+        for (Ser<?> ser : seres) {
+            if (ser.getSize() != tamanho) {
+                throw new IllegalArgumentException("Seres devem ter o mesmo número de características.");
+            }
+        }
+
+        double[] entropias = new double[tamanho];
+        IntStream.range(0, tamanho).parallel().forEach(k -> {
+            long[] coluna = new long[seres.length];
+            for (int i = 0; i < seres.length; i++) {
+                coluna[i] = seres[i].getCaracteristica(k).getValor().longValue();
+            }
+            entropias[k] = entropia(coluna);
+        });
+        return entropias;
+    }
+
+    /**
+     * Calcula a entropia média dos loci.
+     *
+     * @since 1.0
+     * @param populacao População.
+     * @return Média das entropias por locus, em bits.
+     *
+     * @see #entropiaPorLocus(ic.ce.populacional.Populacao)
+     */
+    public static double entropiaMedia(Populacao<?, ?> populacao) {
+        return Arrays.stream(entropiaPorLocus(populacao)).average().orElse(0);
+    }
+
+    /**
+     * Entropia de Shannon, em bits, dos valores de um vetor; o vetor é
+     * ordenado para contagem.
+     */
+    private static double entropia(long[] valores) {
+        Arrays.sort(valores);
+        double n = valores.length;
+        double entropia = 0;
+        int inicio = 0;
+        for (int i = 1; i <= valores.length; i++) {
+            if (i == valores.length || valores[i] != valores[inicio]) {
+                double p = (i - inicio) / n;
+                entropia -= p * Math.log(p);
+                inicio = i;
+            }
+        }
+        return entropia / Math.log(2);
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Estatísticas de graus de adaptação, em uma passagem.
+ *
+ * <p>
+ * Acumulador de contagem, soma, média e variância pelo algoritmo de Welford:
+ * numericamente estável, atualizável a cada inserção ou remoção de um valor e
+ * combinável entre acumuladores parciais – o que permite sua coleta em
+ * paralelo (ver {@link #combina(EstatisticasGraus)}).
+ * </p>
+ * <p>
+ * Os valores são mantidos também em um multiconjunto ordenado – contagem por
+ * valor distinto –, com custo O(log d) por atualização, sendo d o número de
+ * valores distintos. Mínimo, máximo e quantis permanecem, assim, corretos
+ * após qualquer sequência de inclusões e remoções.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @see Populacao#getEstatisticasGraus()
+ */
+public class EstatisticasGraus {
+
+    private long contagem;
+    private double soma;
+    private double media;
+    private double m2;
+    private final TreeMap<Double, Long> valores = new TreeMap<>();
+
+    /**
+     * Calcula as estatísticas de um conjunto completo de valores, em paralelo.
+     *
+     * @since 1.0
+     * @param graus Valores; não são modificados.
+     * @return Novas estatísticas.
+     */
+    public static EstatisticasGraus de(double[] graus) {
+        return Arrays.stream(graus).parallel()
+                .collect(EstatisticasGraus::new, EstatisticasGraus::adiciona, EstatisticasGraus::combina);
+    }
+
+    /**
+     * Inclui um valor.
+     *
+     * @since 1.0
+     * @param grau Valor incluído.
+     */
+    public void adiciona(double grau) {
+        contagem++;
+        soma += grau;
+        double delta = grau - media;
+        media += delta / contagem;
+        m2 += delta * (grau - media);
+        valores.merge(grau, 1L, Long::sum);
+    }
+
+    /**
+     * Exclui um valor previamente incluído.
+     *
+     * @since 1.0
+     * @param grau Valor excluído.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o valor não estiver incluído.</li>
+     * </ul>
+     */
+    public void remove(double grau) {
+        Long ocorrencias = valores.get(grau);
+        if (ocorrencias == null) {
+            throw new IllegalArgumentException("Valor não incluído nas estatísticas.");
+        }
+        if (contagem == 1) {
+            limpa();
+            return;
+        }
+        if (ocorrencias == 1) {
+            valores.remove(grau);
+        } else {
+            valores.put(grau, ocorrencias - 1);
+        }
+        contagem--;
+        soma -= grau;
+        double delta = grau - media;
+        media -= delta / contagem;
+        m2 = Math.max(0, m2 - delta * (grau - media));
+    }
+
+    /**
+     * Incorpora as estatísticas de outro acumulador: o resultado equivale à
+     * inclusão de todos os seus valores.
+     *
+     * @since 1.0
+     * @param outras Estatísticas incorporadas; não são modificadas.
+     */
+    public void combina(EstatisticasGraus outras) {
+        if (outras.contagem == 0) {
+            return;
+        }
+        for (Map.Entry<Double, Long> valor : outras.valores.entrySet()) {
+            valores.merge(valor.getKey(), valor.getValue(), Long::sum);
+        }
+        if (contagem == 0) {
+            contagem = outras.contagem;
+            soma = outras.soma;
+            media = outras.media;
+            m2 = outras.m2;
+            return;
+        }
+        long total = contagem + outras.contagem;
+        double delta = outras.media - media;
+        media += delta * outras.contagem / total;
+        m2 += outras.m2 + delta * delta * ((double) contagem * outras.contagem / total);
+        contagem = total;
+        soma += outras.soma;
+    }
+
+    /**
+     * Descarta todos os valores.
+     *
+     * @since 1.0
+     */
+    public final void limpa() {
+        contagem = 0;
+        soma = 0;
+        media = 0;
+        m2 = 0;
+        valores.clear();
+    }
+
+    /**
+     * Recupera o número de valores.
+     *
+     * @since 1.0
+     * @return Contagem.
+     */
+    public long getContagem() {
+        return contagem;
+    }
+
+    /**
+     * Recupera a soma dos valores.
+     *
+     * @since 1.0
+     * @return Soma.
+     */
+    public double getSoma() {
+        return soma;
+    }
+
+    /**
+     * Recupera a média dos valores.
+     *
+     * @since 1.0
+     * @return Média; NaN se não houver valores.
+     */
+    public double getMedia() {
+        return (contagem > 0) ? media : Double.NaN;
+    }
+
+    /**
+     * Recupera a variância amostral dos valores.
+     *
+     * @since 1.0
+     * @return Variância amostral; NaN se houver menos de dois valores.
+     */
+    public double getVariancia() {
+        return (contagem > 1) ? m2 / (contagem - 1) : Double.NaN;
+    }
+
+    /**
+     * Recupera o desvio padrão amostral dos valores.
+     *
+     * @since 1.0
+     * @return Desvio padrão amostral; NaN se houver menos de dois valores.
+     */
+    public double getDesvioPadrao() {
+        return Math.sqrt(getVariancia());
+    }
+
+    /**
+     * Recupera o menor valor.
+     *
+     * @since 1.0
+     * @return Mínimo; infinito positivo se não houver valores.
+     */
+    public double getMinimo() {
+        return valores.isEmpty() ? Double.POSITIVE_INFINITY : valores.firstKey();
+    }
+
+    /**
+     * Recupera o maior valor.
+     *
+     * @since 1.0
+     * @return Máximo; infinito negativo se não houver valores.
+     */
+    public double getMaximo() {
+        return valores.isEmpty() ? Double.NEGATIVE_INFINITY : valores.lastKey();
+    }
+
+    /**
+     * Verifica se os quantis estão disponíveis.
+     *
+     * @since 1.0
+     * @return true se houver valores.
+     */
+    public boolean temQuantis() {
+        return contagem > 0;
+    }
+
+    /**
+     * Recupera um quantil, por interpolação linear entre os valores
+     * ordenados.
+     *
+     * <p>
+     * Percorre o multiconjunto: custo O(d), sendo d o número de valores
+     * distintos.
+     * </p>
+     *
+     * @since 1.0
+     * @param p Probabilidade, em [0,1]: 0,5 para a mediana.
+     * @return Quantil.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se a probabilidade não estiver em [0,1].</li>
+     * </ul>
+     * @throws IllegalStateException
+     * <ul>
+     * <li>Se os quantis não estiverem disponíveis.</li>
+     * </ul>
+     *
+     * @see #temQuantis()
+     */
+    public double getQuantil(double p) {
+        if (!(p >= 0 && p <= 1)) {
+            throw new IllegalArgumentException("Probabilidade deve estar em [0,1].");
+        }
+        if (!temQuantis()) {
+            throw new IllegalStateException("Quantis indisponíveis: estatísticas sem valores.");
+        }
+        double h = (contagem - 1) * p;
+        long inferior = (long) Math.floor(h);
+        long superior = Math.min(inferior + 1, contagem - 1);
+
+        double valorInferior = 0;
+        boolean encontrado = false;
+        long acumulado = 0;
+        for (Map.Entry<Double, Long> valor : valores.entrySet()) {
+            acumulado += valor.getValue();
+            if (!encontrado && inferior < acumulado) {
+                valorInferior = valor.getKey();
+                encontrado = true;
+            }
+            if (superior < acumulado) {
+                return valorInferior + (h - inferior) * (valor.getKey() - valorInferior);
+            }
+        }
+        throw new IllegalStateException("Multiconjunto inconsistente com a contagem.");
+    }
+
+    /**
+     * Recupera a mediana.
+     *
+     * @since 1.0
+     * @return Mediana.
+     *
+     * @throws IllegalStateException
+     * <ul>
+     * <li>Se os quantis não estiverem disponíveis.</li>
+     * </ul>
+     */
+    public double getMediana() {
+        return getQuantil(0.5);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("{contagem=%d, mínimo=%g, máximo=%g, média=%g, variância=%g}",
+                contagem, getMinimo(), getMaximo(), getMedia(), getVariancia());
+    }
+}
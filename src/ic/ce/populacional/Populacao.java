@@ -25,7 +25,6 @@ package ic.ce.populacional;
 
 import ic.ce.base.Ambiente;
 import ic.ce.base.Ser;
-import static java.lang.Math.pow;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -219,7 +218,8 @@ public abstract class Populacao<G extends Number & Comparable<G>, S extends Ser<
      * Adiciona um ser a população.
      *
      * <p>
-     * O ser adicionado será avaliado pelo ambiente da população.
+     * O ser adicionado será avaliado pelo ambiente da população, caso ainda
+     * não o tenha sido.
      * </p>
      *
      * @since 1.0
@@ -246,7 +246,9 @@ public abstract class Populacao<G extends Number & Comparable<G>, S extends Ser<
      */
     @Override
     public boolean add(S ser) {
-        ambiente.avalia(ser);
+        if (!ser.isAvaliadoPor(ambiente)) {
+            ser.setGrauDeAdaptacao(ambiente);
+        }
         return seres.add(ser);
     }
 
@@ -408,29 +410,55 @@ public abstract class Populacao<G extends Number & Comparable<G>, S extends Ser<
      * @return Desvio padrão amostral.
      */
     public Double getDesvioPadraoGraus() {
-        Integer n = size();
-        Double media = getMediaGraus();
-        Double desvio;
+        return seres.parallelStream().mapToDouble((ser) -> ser.getGrauDeAdaptacao().doubleValue())
+                .collect(EstatisticasGraus::new, EstatisticasGraus::adiciona, EstatisticasGraus::combina)
+                .getDesvioPadrao();
+    }
 
-        Double sq = seres.stream().mapToDouble((ser) -> ser.getGrauDeAdaptacao().doubleValue())
-                .reduce(0, (x, y) -> {
-                    return x + pow((y - media), 2);
-                });
+    /**
+     * Recupera os graus de adaptação, na ordem do iterador.
+     *
+     * @since 1.0
+     * @return Novo array com os graus, convertidos para <code>double</code>.
+     */
+    public double[] getGraus() {
+        return seres.stream().mapToDouble((ser) -> ser.getGrauDeAdaptacao().doubleValue()).toArray();
+    }
 
-        desvio = Math.sqrt(sq / (n - 1));
-        return desvio;
+    /**
+     * Calcula as estatísticas dos graus de adaptação.
+     *
+     * <p>
+     * Os graus são lidos em uma única passagem pela população e acumulados em
+     * paralelo.
+     * </p>
+     *
+     * @since 1.0
+     * @return Novas estatísticas; podem ser atualizadas incrementalmente com
+     * os seres que entrarem ou saírem da população.
+     *
+     * @see EstatisticasGraus#adiciona(double)
+     * @see EstatisticasGraus#remove(double)
+     */
+    public EstatisticasGraus getEstatisticasGraus() {
+        return EstatisticasGraus.de(getGraus());
     }
 
     /**
-     * Recupera o número de elementos distintos.
+     * Recupera o número de genótipos distintos.
+     *
+     * <p>
+     * Seres são comparados pelos valores de suas características, por meio de
+     * códigos hash de 64 bits, e não por identidade.
+     * </p>
      *
      * @since 1.0
-     * @return Número de elementos distintos.
+     * @return Número de genótipos distintos.
      *
-     * @see Ser#equals(java.lang.Object)
+     * @see Diversidade#distintos(ic.ce.populacional.Populacao)
      */
     public long getNdistintos() {
-        return seres.stream().distinct().count();
+        return Diversidade.distintos(this);
     }
 
     /**
@@ -688,7 +716,7 @@ public abstract class Populacao<G extends Number & Comparable<G>, S extends Ser<
      */
     @Override
     public S[] toArray() {
-        return (S[]) seres.toArray();
+        return (S[]) seres.toArray(new Ser[seres.size()]);
     }
 
     /**
@@ -773,20 +801,28 @@ public abstract class Populacao<G extends Number & Comparable<G>, S extends Ser<
      * <li>Máximo grau de adaptação;</li>
      * <li>Média dos graus de adaptação;</li>
      * <li>Desvio padrão amostral dos graus de adaptação;</li>
+     * <li>Mediana dos graus de adaptação;</li>
      * <li>Soma total dos graus de adaptação.</li>
      * </ul>
+     * <p>
+     * Os dados dos graus são calculados em uma única passagem.
+     * </p>
      * @since 1.0
      * @return Dados estatísticos em uma string.
+     *
+     * @see #getEstatisticasGraus()
      */
     public String estatisticas() {
         StringBuilder dados = new StringBuilder();
+        EstatisticasGraus graus = getEstatisticasGraus();
 
-        dados.append(String.format("Contagem:\t%d\n", size()));
+        dados.append(String.format("Contagem:\t%d\n", graus.getContagem()));
         dados.append(String.format("Distintos:\t%d\n", getNdistintos()));
         dados.append(String.format("Máximo:\t%.2f\n", getMelhorGrau().doubleValue()));
-        dados.append(String.format("Média:\t%.2f\n", getMediaGraus()));
-        dados.append(String.format("Desvio padrão amostral:\t%.2f\n", getDesvioPadraoGraus()));
-        dados.append(String.format("Soma total:\t%.2f\n", getSomaGraus()));
+        dados.append(String.format("Média:\t%.2f\n", graus.getMedia()));
+        dados.append(String.format("Desvio padrão amostral:\t%.2f\n", graus.getDesvioPadrao()));
+        dados.append(String.format("Mediana:\t%.2f\n", graus.getMediana()));
+        dados.append(String.format("Soma total:\t%.2f\n", graus.getSoma()));
         
         return dados.toString();
     }
@@ -0,0 +1,252 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional;
+
+import ic.ce.base.Ambiente;
+import ic.ce.base.Ser;
+import ic.ce.base.utilidades.Ordenacao;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * População não ordenada.
+ *
+ * <p>
+ * População mantém os seres em uma lista, na ordem de inserção, sem custo de
+ * ordenação nas inserções. O melhor ser é acompanhado a cada inserção; após
+ * remoções, é recalculado, em uma passagem, na próxima consulta.
+ * </p>
+ * <p>
+ * A consulta aos <i>n</i> melhores seres realiza uma seleção parcial
+ * (<i>quickselect</i>), em tempo esperado O(N + n log n), sem ordenar toda a
+ * população; em populações grandes, a seleção é realizada em paralelo, por
+ * blocos, e os candidatos de cada bloco são selecionados novamente ao final.
+ * O acesso por índice é direto.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ *
+ * @see Populacao
+ * @see Ordenacao#selecionaMaiores(java.lang.Object[], int,
+ * java.util.Comparator)
+ */
+public class PopulacaoNaoOrdenada<G extends Number & Comparable<G>, S extends Ser<G>> extends Populacao<G, S> {
+
+    /**
+     * Tamanho a partir do qual a seleção dos melhores é paralela.
+     */
+    private static final int LIMIAR_PARALELO = 1 << 16;
+
+    private S melhor;
+    private boolean melhorValido = true;
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     *
+     * @param ambiente Ambiente avaliador.
+     * @param maxIndividuos Número máximo de indivíduos na população. Esse
+     * parâmetro pode ser usado para controlar barreiras impostas por algoritmos
+     * com finalidade algorítmica ou por escassez de recursos.
+     * <ul>
+     * <li>Deve ser um número natural maior que zero;</li>
+     * <li>O valor zero indica a ausência de limite. </li>
+     * </ul>
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>O ambiente for uma referência nula;</li>
+     * <li>Se o número máximo de indivíduos for menor que zero.</li>
+     * </ul>
+     *
+     * @see Populacao#setMaxIndividuos(int)
+     */
+    public PopulacaoNaoOrdenada(Ambiente<G, S> ambiente, int maxIndividuos) {
+        super(ambiente, maxIndividuos);
+        seres = new ArrayList<>(maxIndividuos);
+    }
+
+    /**
+     * @throws NoSuchElementException
+     * <ul>
+     * <li>Se a população estiver vazia.</li>
+     * </ul>
+     */
+    @Override
+    public S getMelhor() {
+        if (!melhorValido) {
+            melhor = seres.stream().max(ambiente).orElse(null);
+            melhorValido = true;
+        }
+        if (melhor == null) {
+            throw new NoSuchElementException("População vazia.");
+        }
+        return melhor;
+    }
+
+    @Override
+    public List<S> getNMelhores(int n) {
+        int k = Math.min(n, seres.size());
+        S[] elementos = toArray();
+
+        if (elementos.length >= LIMIAR_PARALELO && k < elementos.length / 2) {
+            elementos = candidatosEmParalelo(elementos, k);
+        }
+        Ordenacao.selecionaMaiores(elementos, k, ambiente);
+        return new ArrayList<>(Arrays.asList(elementos).subList(0, k));
+    }
+
+    /**
+     * Seleciona, em paralelo, os <i>k</i> melhores de cada bloco da
+     * população: os <i>k</i> melhores da população estarão entre eles.
+     */
+    private S[] candidatosEmParalelo(S[] elementos, int k) {
+        int nBlocos = Math.min(ForkJoinPool.getCommonPoolParallelism(), elementos.length / Math.max(k, 1));
+        if (nBlocos < 2) {
+            return elementos;
+        }
+        S[] candidatos = Arrays.copyOf(elementos, nBlocos * k);
+
+        IntStream.range(0, nBlocos).parallel().forEach(b -> {
+            // Blocos com ao menos k seres: N / nBlocos >= k.
+            int inicio = (int) ((long) b * elementos.length / nBlocos);
+            int fim = (int) ((long) (b + 1) * elementos.length / nBlocos);
+            S[] bloco = Arrays.copyOfRange(elementos, inicio, fim);
+            Ordenacao.selecionaMaiores(bloco, k, ambiente);
+            System.arraycopy(bloco, 0, candidatos, b * k, k);
+        });
+        return candidatos;
+    }
+
+    @Override
+    public S get(int indice) {
+        return ((List<S>) seres).get(indice);
+    }
+
+    @Override
+    public boolean add(S ser) {
+        boolean modificada = super.add(ser);
+        acompanha(ser);
+        return modificada;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends S> seres) {
+        boolean modificada = super.addAll(seres);
+        for (S ser : seres) {
+            acompanha(ser);
+        }
+        return modificada;
+    }
+
+    @Override
+    public boolean setIndividuos(Collection<? extends S> seres) {
+        limpaMelhor();
+        return super.setIndividuos(seres);
+    }
+
+    @Override
+    public boolean remove(Object ser) {
+        return invalidaSe(super.remove(ser));
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> seres) {
+        return invalidaSe(super.removeAll(seres));
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> seres) {
+        return invalidaSe(super.retainAll(seres));
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        limpaMelhor();
+    }
+
+    @Override
+    public Iterator<S> iterator() {
+        Iterator<S> iterator = super.iterator();
+        return new Iterator<S>() {
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public S next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                melhorValido = false;
+            }
+        };
+    }
+
+    /**
+     * Atualiza o melhor ser após uma inserção.
+     */
+    private void acompanha(S ser) {
+        if (melhorValido && (melhor == null || ambiente.compare(ser, melhor) > 0)) {
+            melhor = ser;
+        }
+    }
+
+    /**
+     * Marca o melhor ser para recálculo, se a população foi modificada.
+     */
+    private boolean invalidaSe(boolean modificada) {
+        if (modificada) {
+            melhorValido = false;
+        }
+        return modificada;
+    }
+
+    /**
+     * Reinicia o acompanhamento: população vazia.
+     */
+    private void limpaMelhor() {
+        melhor = null;
+        melhorValido = true;
+    }
+}
@@ -23,8 +23,15 @@
  */
 package ic.ce.populacional.algoritmo;
 
+import ic.ce.base.HallDaFama;
 import ic.ce.base.Ser;
+import ic.ce.base.utilidades.Ordenacao;
+import ic.ce.populacional.algoritmo.metricas.Fase;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 /**
  * AG simples (SGA) ou canônico.
@@ -38,6 +45,12 @@ import java.util.List;
  * <li>Seleção dos SobreviventeS: Geracional.</li>
  * </ul>
  *
+ * <p>
+ * Opcionalmente, aplica elitismo – os <i>k</i> melhores seres de cada
+ * geração são mantidos, sem reavaliação, no lugar dos <i>k</i> piores filhos
+ * – e mantém um hall da fama, atualizado ao fim de cada iteração.
+ * </p>
+ *
  * @author Victor de Lima Soares
  * @version 1.0
  * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
@@ -47,18 +60,145 @@ import java.util.List;
  */
 public abstract class AGSimples<G  extends Number & Comparable<G>, S extends Ser<G>> extends AlgoritmoPopulacional<G, S> {
 
+    private int elitismo = 0;
+    private HallDaFama<G, S> hallDaFama;
+
     {
         setNome("AGS");
     }
 
+    /**
+     * Inclui a população inicial no hall da fama, se definido.
+     *
+     * @since 1.0
+     */
+    @Override
+    protected void inicia() {
+        super.inicia();
+        if (hallDaFama != null) {
+            hallDaFama.adicionaTodos(getPopulacao());
+        }
+    }
+
     @Override
     public void iteracao() {
+        long t = System.nanoTime();
+
+        List<S> elite = (elitismo > 0) ? getPopulacao().getNMelhores(elitismo) : Collections.emptyList();
 
         List<S> pais = getSeletor().getPais();
+        t = registraFase(Fase.SELECAO, t);
+
         List<S> filhos = getRecombinador().recombinaTodos(pais);
+        t = registraFase(Fase.RECOMBINACAO, t);
 
         getMutador().muta(filhos);
-  
+        t = registraFase(Fase.MUTACAO, t);
+
+        filhos = aplicaBuscaLocal(filhos);
+        t = registraFase(Fase.BUSCA_LOCAL, t);
+
+        getAmbiente().avalia(filhos);
+        t = registraFase(Fase.AVALIACAO, t);
+
+        if (!elite.isEmpty()) {
+            filhos = preservaElite(elite, filhos);
+        }
+
         getPopulacao().setIndividuos(filhos);
+
+        if (hallDaFama != null) {
+            hallDaFama.adicionaTodos(getPopulacao());
+        }
+        registraFase(Fase.SUBSTITUICAO, t);
+    }
+
+    /**
+     * Substitui os piores filhos pela elite.
+     *
+     * <p>
+     * Os filhos são avaliados, se ainda não o foram – avaliação que
+     * ocorreria, de todo modo, na inserção na população – e apenas os melhores
+     * são mantidos, de modo que o número de seres não se altere. Seres da elite já presentes entre os
+     * filhos, por referência, não são duplicados.
+     * </p>
+     *
+     * @since 1.0
+     * @param elite Melhores seres da geração anterior, já avaliados.
+     * @param filhos Filhos gerados.
+     * @return Nova lista: elite seguida dos melhores filhos.
+     */
+    protected final List<S> preservaElite(List<S> elite, List<S> filhos) {
+        Set<S> presentes = Collections.newSetFromMap(new IdentityHashMap<>());
+        presentes.addAll(elite);
+
+        List<S> candidatos = new ArrayList<>(filhos.size());
+        for (S filho : filhos) {
+            if (!presentes.contains(filho)) {
+                candidatos.add(filho);
+            }
+        }
+        getAmbiente().avalia(candidatos);
+
+        int mantidos = Math.max(0, Math.min(candidatos.size(), filhos.size() - elite.size()));
+        @SuppressWarnings("unchecked")
+        S[] ordem = candidatos.toArray((S[]) new Ser[candidatos.size()]);
+        Ordenacao.selecionaMaiores(ordem, mantidos, getAmbiente());
+
+        List<S> sobreviventes = new ArrayList<>(elite.size() + mantidos);
+        sobreviventes.addAll(elite);
+        for (int i = 0; i < mantidos; i++) {
+            sobreviventes.add(ordem[i]);
+        }
+        return sobreviventes;
+    }
+
+    /**
+     * Recupera o número de seres preservados por elitismo.
+     *
+     * @since 1.0
+     * @return Tamanho da elite; zero se o elitismo estiver desativado.
+     */
+    public final int getElitismo() {
+        return elitismo;
+    }
+
+    /**
+     * Atribui o número de seres preservados, a cada geração, por elitismo.
+     *
+     * @since 1.0
+     * @param elitismo Tamanho da elite; zero desativa o elitismo.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o tamanho for negativo.</li>
+     * </ul>
+     */
+    public final void setElitismo(int elitismo) {
+        if (elitismo < 0) {
+            throw new IllegalArgumentException("Tamanho da elite deve ser maior ou igual a zero.");
+        }
+        this.elitismo = elitismo;
+    }
+
+    /**
+     * Recupera o hall da fama.
+     *
+     * @since 1.0
+     * @return Hall da fama; nulo se não definido.
+     */
+    public final HallDaFama<G, S> getHallDaFama() {
+        return hallDaFama;
+    }
+
+    /**
+     * Atribui um hall da fama, atualizado com a população ao fim de cada
+     * iteração.
+     *
+     * @since 1.0
+     * @param hallDaFama Hall da fama; nulo o desativa.
+     */
+    public final void setHallDaFama(HallDaFama<G, S> hallDaFama) {
+        this.hallDaFama = hallDaFama;
     }
 }
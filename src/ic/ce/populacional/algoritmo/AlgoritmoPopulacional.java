@@ -30,10 +30,18 @@ import ic.ce.base.algoritmo.AlgoritmoEvolucionario;
 import ic.ce.base.Ambiente;
 import ic.ce.populacional.Populacao;
 import ic.ce.base.Ser;
+import ic.ce.base.algoritmo.operadores.BuscaLocal;
+import ic.ce.base.eventos.MonitorJFR;
+import ic.ce.populacional.Diversidade;
+import ic.ce.populacional.EstatisticasGraus;
+import ic.ce.populacional.algoritmo.metricas.Fase;
+import ic.ce.populacional.algoritmo.metricas.MedidorDeFases;
+import ic.ce.populacional.algoritmo.metricas.MetricasGeracao;
+import ic.ce.populacional.algoritmo.metricas.PublicadorDeMetricas;
 import ic.ce.populacional.algoritmo.operadores.Recombinador;
 import ic.ce.populacional.algoritmo.operadores.Seletor;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Classe base para Algoritmo Populacionais.
@@ -51,8 +59,13 @@ public abstract class AlgoritmoPopulacional<G extends Number & Comparable<G>, S
 
     private Recombinador<G, S> recombinador;
     private Seletor<G, S> seletor;
+    private BuscaLocal<G, S> buscaLocal;
     private Populacao<G, S> populacao;
-      
+    private PublicadorDeMetricas publicadorDeMetricas;
+    private final long[] nanosPorFase = new long[Fase.values().length];
+    private final MedidorDeFases medidorDeFases = new MedidorDeFases();
+    private Object faseEvento;
+
 
     /**
      * Construtor padrão.
@@ -145,6 +158,14 @@ public abstract class AlgoritmoPopulacional<G extends Number & Comparable<G>, S
 
             while (!terminou() && getContadorDeIteracoes() < getMaxIteracoes()) {
 
+                MonitorJFR monitor = MonitorJFR.getInstancia();
+                Object geracaoEvento = monitor.iniciaGeracao();
+                faseEvento = monitor.iniciaFase();
+
+                long inicioDaGeracao = System.nanoTime();
+                Arrays.fill(nanosPorFase, MetricasGeracao.NAO_MEDIDA);
+                medidorDeFases.marca();
+
                 iteracao();
                 incrementaContadorDeIteracoes();
 
@@ -166,12 +187,111 @@ public abstract class AlgoritmoPopulacional<G extends Number & Comparable<G>, S
                 melhorDaIteracaoPassada = melhorDaIteracao;
 
                 getPopulacao().parallelStream().forEach(ser -> ser.envelhece());
+
+                if (publicadorDeMetricas != null && publicadorDeMetricas.temReceptores()) {
+                    publicaMetricas(melhorDaIteracao, System.nanoTime() - inicioDaGeracao);
+                }
+
+                if (geracaoEvento != null) {
+                    monitor.concluiGeracao(geracaoEvento, getNome(), getContadorDeIteracoes(),
+                            getPopulacao().size(), melhorDaIteracao.getGrauDeAdaptacao().doubleValue());
+                }
             }
             finaliza();
         }
         timerStop();
     }
 
+    /**
+     * Contabiliza o tempo de uma fase da geração corrente.
+     *
+     * <p>
+     * A fase também é emitida como evento JFR
+     * ({@link MonitorJFR}), se houver gravação ativa.
+     * </p>
+     *
+     * <p>
+     * Uso, nas iterações: <code>t = registraFase(Fase.SELECAO, t);</code>,
+     * partindo de <code>t = System.nanoTime()</code>. Fases não registradas
+     * na geração são publicadas como {@link MetricasGeracao#NAO_MEDIDA}.
+     * </p>
+     *
+     * @since 1.0
+     * @param fase Fase concluída.
+     * @param inicio Instante de início da fase, por {@link System#nanoTime()}.
+     * @return Instante de término da fase: início da próxima.
+     */
+    protected final long registraFase(Fase fase, long inicio) {
+        long fim = System.nanoTime();
+        if (nanosPorFase[fase.ordinal()] == MetricasGeracao.NAO_MEDIDA) {
+            nanosPorFase[fase.ordinal()] = 0;
+        }
+        nanosPorFase[fase.ordinal()] += fim - inicio;
+        medidorDeFases.registra(fase, fim - inicio);
+
+        if (faseEvento != null) {
+            MonitorJFR monitor = MonitorJFR.getInstancia();
+            monitor.concluiFase(faseEvento, fase.getNome(), getContadorDeIteracoes() + 1);
+            faseEvento = monitor.iniciaFase();
+        }
+
+        return fim;
+    }
+
+    /**
+     * Retorna o medidor de fases: chamadas, tempo e memória alocada
+     * acumulados por fase, ao longo das execuções.
+     *
+     * @since 1.0
+     * @return Medidor de fases do algoritmo.
+     *
+     * @see #registraFase(ic.ce.populacional.algoritmo.metricas.Fase, long)
+     */
+    public final MedidorDeFases getMedidorDeFases() {
+        return medidorDeFases;
+    }
+
+    /**
+     * Calcula as métricas da geração e as entrega ao publicador, sem
+     * bloqueio.
+     */
+    private void publicaMetricas(S melhorDaIteracao, long nanosGeracao) {
+        EstatisticasGraus graus = getPopulacao().parallelStream()
+                .mapToDouble(ser -> ser.getGrauDeAdaptacao().doubleValue())
+                .collect(EstatisticasGraus::new, EstatisticasGraus::adiciona, EstatisticasGraus::combina);
+
+        publicadorDeMetricas.publica(new MetricasGeracao(getContadorDeIteracoes(), getAmbiente().getAvaliacoes(),
+                getPopulacao().size(), melhorDaIteracao.getGrauDeAdaptacao().doubleValue(),
+                getMelhorSer().getGrauDeAdaptacao().doubleValue(), graus.getMedia(), graus.getDesvioPadrao(),
+                Diversidade.distintos(getPopulacao()), nanosGeracao, nanosPorFase));
+    }
+
+    /**
+     * Retorna o publicador de métricas por geração.
+     *
+     * @since 1.0
+     * @return Publicador; nulo se não definido.
+     */
+    public final PublicadorDeMetricas getPublicadorDeMetricas() {
+        return publicadorDeMetricas;
+    }
+
+    /**
+     * Atribui um publicador de métricas por geração.
+     *
+     * <p>
+     * Ao fim de cada iteração, as métricas da geração são calculadas e
+     * entregues ao publicador, que as repassa aos receptores em segundo plano.
+     * O publicador não é fechado ao término da execução.
+     * </p>
+     *
+     * @since 1.0
+     * @param publicadorDeMetricas Publicador; nulo desativa a coleta.
+     */
+    public final void setPublicadorDeMetricas(PublicadorDeMetricas publicadorDeMetricas) {
+        this.publicadorDeMetricas = publicadorDeMetricas;
+    }
+
     /**
      * Verifica as condições necessárias para execução do algoritmo.
      *
@@ -238,6 +358,50 @@ public abstract class AlgoritmoPopulacional<G extends Number & Comparable<G>, S
         seletor.setAlgoritmo(this);
     }
 
+    /**
+     * Retorna o operador de busca local utilizado.
+     *
+     * @since 1.0
+     * @return O operador de busca local do algoritmo, ou nulo se não definido.
+     */
+    public BuscaLocal<G, S> getBuscaLocal() {
+        return buscaLocal;
+    }
+
+    /**
+     * Atribui um novo operador de busca local ao algoritmo.
+     *
+     * Operadores podem ser trocados no decorrer das iterações; nulo desativa a
+     * busca local.
+     *
+     * @since 1.0
+     * @param buscaLocal Operador a ser atribuído.
+     */
+    public void setBuscaLocal(BuscaLocal<G, S> buscaLocal) {
+        this.buscaLocal = buscaLocal;
+        if (buscaLocal != null) {
+            buscaLocal.setAlgoritmo(this);
+        }
+    }
+
+    /**
+     * Aplica a busca local, se definida, aos seres.
+     *
+     * <p>
+     * Estágio memético, a ser chamado pelas iterações após a geração dos
+     * filhos.
+     * </p>
+     *
+     * @since 1.0
+     * @param seres Seres gerados.
+     * @return Seres resultantes; os próprios seres, se não houver busca local.
+     *
+     * @see BuscaLocal#buscaTodos(java.util.List)
+     */
+    protected final List<S> aplicaBuscaLocal(List<S> seres) {
+        return (buscaLocal != null) ? buscaLocal.buscaTodos(seres) : seres;
+    }
+
     /**
      * Atribui um novo ambiente ao algoritmo, com reavaliação.
      *
@@ -298,6 +462,9 @@ public abstract class AlgoritmoPopulacional<G extends Number & Comparable<G>, S
      * <li>Número de Iterações.</li>
      * <li>Número de Iterações sem melhora.</li>
      * <li>Melhor solução.</li>
+     * <li>Avaliações realizadas pelo ambiente, inclusive as da busca
+     * local.</li>
+     * <li>Chamadas, tempo e memória alocada por fase.</li>
      * </ul>
      *
      * @since 1.0
@@ -313,11 +480,28 @@ public abstract class AlgoritmoPopulacional<G extends Number & Comparable<G>, S
             relatorio.append("\tProbabilidade de Recombinação:\t" + getRecombinador().getProbabilidadeDeRecombinacao() + "\n");
         }
 
-        Pattern pattern = Pattern.compile("(?m)(^)");
-        Matcher matcher = pattern.matcher(getPopulacao().estatisticas());
+        relatorio.append("\tAvaliações:\t" + getAmbiente().getAvaliacoes() + "\n");
+
+        if (getBuscaLocal() != null) {
+            relatorio.append("\tAvaliações na busca local:\t" + getBuscaLocal().getAvaliacoes() + "\n");
+        }
+
+        String fases = medidorDeFases.relatorio();
+        relatorio.append("Fases:\n");
+        if (fases.isEmpty()) {
+            relatorio.append("\tNão medidas.\n");
+        }
+        for (String linha : fases.split("\n")) {
+            if (!linha.isEmpty()) {
+                relatorio.append("\t").append(linha).append("\n");
+            }
+        }
 
         relatorio.append("População:\n");
-        relatorio.append(matcher.replaceAll("\t") + "\n");
+        for (String linha : getPopulacao().estatisticas().split("\n")) {
+            relatorio.append("\t").append(linha).append("\n");
+        }
+        relatorio.append("\n");
 
         return relatorio.toString();
     }
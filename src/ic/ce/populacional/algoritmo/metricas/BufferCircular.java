@@ -0,0 +1,107 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmo.metricas;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Receptor que mantém, em memória, as métricas das últimas gerações.
+ *
+ * <p>
+ * Buffer circular de capacidade fixa: ao atingi-la, cada nova geração
+ * substitui a mais antiga. A consulta pode ocorrer durante a execução, a
+ * partir de qualquer linha de execução.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ */
+public class BufferCircular implements ReceptorDeMetricas {
+
+    private final MetricasGeracao[] buffer;
+    private long recebidas = 0;
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param capacidade Número de gerações mantidas.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se a capacidade for menor que 1.</li>
+     * </ul>
+     */
+    public BufferCircular(int capacidade) {
+        if (capacidade < 1) {
+            throw new IllegalArgumentException("Capacidade deve ser maior ou igual a 1.");
+        }
+        buffer = new MetricasGeracao[capacidade];
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public synchronized void recebe(MetricasGeracao metricas) {
+        buffer[(int) (recebidas % buffer.length)] = metricas;
+        recebidas++;
+    }
+
+    /**
+     * Recupera as métricas mantidas.
+     *
+     * @since 1.0
+     * @return Nova lista, da geração mais antiga à mais recente.
+     */
+    public synchronized List<MetricasGeracao> getMetricas() {
+        int n = (int) Math.min(recebidas, buffer.length);
+        List<MetricasGeracao> metricas = new ArrayList<>(n);
+        for (long i = recebidas - n; i < recebidas; i++) {
+            metricas.add(buffer[(int) (i % buffer.length)]);
+        }
+        return metricas;
+    }
+
+    /**
+     * Recupera as métricas da geração mais recente.
+     *
+     * @since 1.0
+     * @return Métricas; nulo se nenhuma foi recebida.
+     */
+    public synchronized MetricasGeracao getUltima() {
+        return (recebidas == 0) ? null : buffer[(int) ((recebidas - 1) % buffer.length)];
+    }
+
+    /**
+     * Recupera o número de gerações recebidas, inclusive as já substituídas.
+     *
+     * @since 1.0
+     * @return Número de gerações recebidas.
+     */
+    public synchronized long getRecebidas() {
+        return recebidas;
+    }
+}
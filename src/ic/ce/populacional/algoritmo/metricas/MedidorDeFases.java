@@ -0,0 +1,298 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmo.metricas;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Medidor acumulado de fases: chamadas, tempo e memória alocada por fase,
+ * ao longo de uma execução.
+ *
+ * <p>
+ * Fases são registradas em sequência pela linha de execução do algoritmo:
+ * cada registro abrange o intervalo desde o registro anterior, ou desde a
+ * última {@link #marca()}.
+ * </p>
+ * <p>
+ * A medição de memória é opcional e depende de suporte da JVM
+ * (<code>com.sun.management.ThreadMXBean</code>); a contabilização de
+ * alocações por linha de execução, configuração global da JVM, é ativada
+ * apenas ao se solicitar a medição. Quando ativa, contabiliza os bytes
+ * alocados pela linha de execução que registra as fases e pelas linhas do
+ * <i>pool</i> comum de {@link ForkJoinPool} – que executam os operadores e
+ * as avaliações em paralelo –, com custo proporcional ao número de linhas da
+ * JVM. Alocações de outras atividades nessas linhas, concorrentes ao
+ * algoritmo, também são contabilizadas; as das demais linhas – e.g., a de
+ * entrega de {@link PublicadorDeMetricas} –, não.
+ * </p>
+ * <p>
+ * Os valores são atualizados sem sincronização: consultas durante a execução
+ * são aproximadas.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ */
+public class MedidorDeFases {
+
+    private static final com.sun.management.ThreadMXBean THREADS = threads();
+
+    private final long[] chamadas = new long[Fase.values().length];
+    private final long[] nanos = new long[Fase.values().length];
+    private final long[] bytes = new long[Fase.values().length];
+    private boolean medirAlocacao = false;
+    private long ultimaAlocacao;
+
+    /**
+     * Verifica se a JVM permite a medição de memória alocada.
+     *
+     * @since 1.0
+     * @return true se a medição for suportada.
+     */
+    public static boolean isAlocacaoSuportada() {
+        return THREADS != null;
+    }
+
+    /**
+     * Ativa ou desativa a medição de memória alocada.
+     *
+     * @since 1.0
+     * @param medirAlocacao true para ativar.
+     *
+     * @throws IllegalStateException
+     * <ul>
+     * <li>Se a ativação for solicitada e a JVM não suportar a medição ou não
+     * permitir ativá-la.</li>
+     * </ul>
+     */
+    public void setMedirAlocacao(boolean medirAlocacao) {
+        if (medirAlocacao) {
+            if (!isAlocacaoSuportada()) {
+                throw new IllegalStateException("Medição de memória alocada não suportada pela JVM.");
+            }
+            try {
+                if (!THREADS.isThreadAllocatedMemoryEnabled()) {
+                    THREADS.setThreadAllocatedMemoryEnabled(true);
+                }
+            } catch (UnsupportedOperationException | SecurityException e) {
+                throw new IllegalStateException("Medição de memória alocada não permitida pela JVM.", e);
+            }
+        }
+        this.medirAlocacao = medirAlocacao;
+        marca();
+    }
+
+    /**
+     * Verifica se a medição de memória alocada está ativa.
+     *
+     * @since 1.0
+     * @return true se ativa.
+     */
+    public boolean isMedirAlocacao() {
+        return medirAlocacao;
+    }
+
+    /**
+     * Marca o início da primeira fase de uma sequência.
+     *
+     * @since 1.0
+     */
+    public void marca() {
+        if (medirAlocacao) {
+            ultimaAlocacao = alocados();
+        }
+    }
+
+    /**
+     * Registra a conclusão de uma fase.
+     *
+     * @since 1.0
+     * @param fase Fase concluída.
+     * @param duracao Duração da fase, em nanossegundos.
+     */
+    public void registra(Fase fase, long duracao) {
+        int f = fase.ordinal();
+        chamadas[f]++;
+        nanos[f] += duracao;
+        if (medirAlocacao) {
+            long alocacao = alocados();
+            // Linhas encerradas durante a fase deixam de ser contabilizadas.
+            bytes[f] += Math.max(0, alocacao - ultimaAlocacao);
+            ultimaAlocacao = alocacao;
+        }
+    }
+
+    /**
+     * Recupera o número de registros de uma fase.
+     *
+     * @since 1.0
+     * @param fase Fase.
+     * @return Número de chamadas.
+     */
+    public long getChamadas(Fase fase) {
+        return chamadas[fase.ordinal()];
+    }
+
+    /**
+     * Recupera o tempo acumulado de uma fase.
+     *
+     * @since 1.0
+     * @param fase Fase.
+     * @return Tempo, em nanossegundos.
+     */
+    public long getNanos(Fase fase) {
+        return nanos[fase.ordinal()];
+    }
+
+    /**
+     * Recupera a memória alocada, acumulada, durante uma fase.
+     *
+     * <p>
+     * Inclui alocações concorrentes de outras atividades na linha de execução
+     * do algoritmo e no <i>pool</i> comum de {@link ForkJoinPool}: é uma
+     * aproximação do alocado pela fase.
+     * </p>
+     *
+     * @since 1.0
+     * @param fase Fase.
+     * @return Bytes alocados; zero se a medição nunca esteve ativa.
+     */
+    public long getBytesAlocados(Fase fase) {
+        return bytes[fase.ordinal()];
+    }
+
+    /**
+     * Recupera o tempo acumulado de todas as fases.
+     *
+     * @since 1.0
+     * @return Tempo, em nanossegundos.
+     */
+    public long getNanosTotal() {
+        return Arrays.stream(nanos).sum();
+    }
+
+    /**
+     * Descarta os valores acumulados.
+     *
+     * @since 1.0
+     */
+    public void limpa() {
+        Arrays.fill(chamadas, 0);
+        Arrays.fill(nanos, 0);
+        Arrays.fill(bytes, 0);
+        marca();
+    }
+
+    /**
+     * Compila os valores acumulados, uma linha por fase registrada: chamadas,
+     * tempo total e médio, proporção do tempo total e, se medida, memória
+     * alocada – aproximada, ver {@link #getBytesAlocados(Fase)}.
+     *
+     * @since 1.0
+     * @return Relatório; vazio se nenhuma fase foi registrada.
+     */
+    public String relatorio() {
+        StringBuilder relatorio = new StringBuilder();
+        double total = Math.max(1, getNanosTotal());
+
+        for (Fase fase : Fase.values()) {
+            int f = fase.ordinal();
+            if (chamadas[f] == 0) {
+                continue;
+            }
+            relatorio.append(String.format("%s:\t%d chamadas\t%.3f ms\t%.1f µs/chamada\t%.1f%%",
+                    fase.getNome(), chamadas[f], nanos[f] / 1e6, nanos[f] / 1e3 / chamadas[f], 100 * nanos[f] / total));
+            if (medirAlocacao || bytes[f] != 0) {
+                relatorio.append(String.format("\t%.1f KiB", bytes[f] / 1024.0));
+            }
+            relatorio.append("\n");
+        }
+        return relatorio.toString();
+    }
+
+    /**
+     * Soma dos bytes alocados por todas as linhas de execução vivas.
+     */
+    private static long alocados() {
+        long[] bytesPorLinha = THREADS.getThreadAllocatedBytes(linhasMedidas());
+        long soma = 0;
+        for (long b : bytesPorLinha) {
+            if (b > 0) {
+                soma += b;
+            }
+        }
+        return soma;
+    }
+
+    /**
+     * Identificadores da linha de execução corrente e das linhas do pool comum
+     * de ForkJoinPool.
+     */
+    private static long[] linhasMedidas() {
+        ThreadGroup raiz = Thread.currentThread().getThreadGroup();
+        while (raiz.getParent() != null) {
+            raiz = raiz.getParent();
+        }
+        Thread[] linhas = new Thread[raiz.activeCount() + 8];
+        int n;
+        while ((n = raiz.enumerate(linhas)) == linhas.length) {
+            linhas = new Thread[2 * linhas.length];
+        }
+
+        Thread corrente = Thread.currentThread();
+        ForkJoinPool comum = ForkJoinPool.commonPool();
+        long[] ids = new long[n + 1];
+        int medidas = 0;
+        ids[medidas++] = corrente.getId();
+        for (int i = 0; i < n; i++) {
+            Thread linha = linhas[i];
+            if (linha != corrente && linha instanceof ForkJoinWorkerThread
+                    && ((ForkJoinWorkerThread) linha).getPool() == comum) {
+                ids[medidas++] = linha.getId();
+            }
+        }
+        return Arrays.copyOf(ids, medidas);
+    }
+
+    /**
+     * Acesso à extensão de medição de memória, se suportada; a medição não é
+     * ativada.
+     */
+    private static com.sun.management.ThreadMXBean threads() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean extensao = (com.sun.management.ThreadMXBean) threads;
+        try {
+            return extensao.isThreadAllocatedMemorySupported() ? extensao : null;
+        } catch (UnsupportedOperationException | SecurityException e) {
+            return null;
+        }
+    }
+}
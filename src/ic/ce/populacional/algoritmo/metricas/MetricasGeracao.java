@@ -0,0 +1,192 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmo.metricas;
+
+import java.util.Arrays;
+
+/**
+ * Métricas de uma geração: registro imutável.
+ *
+ * <p>
+ * Contém o número da geração, as avaliações acumuladas, o tamanho da
+ * população, os graus do melhor ser da geração e do melhor ser encontrado,
+ * a média e o desvio padrão amostral dos graus, o número de genótipos
+ * distintos e os tempos, em nanossegundos, da geração e de cada uma de suas
+ * fases.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @see PublicadorDeMetricas
+ */
+public final class MetricasGeracao {
+
+    /**
+     * Tempo de fase não medida na geração: a fase não ocorreu ou o algoritmo
+     * não a registra.
+     */
+    public static final long NAO_MEDIDA = -1;
+
+    private final int geracao;
+    private final long avaliacoes;
+    private final int tamanho;
+    private final double melhor;
+    private final double melhorGlobal;
+    private final double media;
+    private final double desvioPadrao;
+    private final long distintos;
+    private final long nanosGeracao;
+    private final long[] nanosPorFase;
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param geracao Número da geração.
+     * @param avaliacoes Avaliações acumuladas.
+     * @param tamanho Número de seres na população.
+     * @param melhor Grau do melhor ser da geração.
+     * @param melhorGlobal Grau do melhor ser encontrado.
+     * @param media Média dos graus.
+     * @param desvioPadrao Desvio padrão amostral dos graus.
+     * @param distintos Número de genótipos distintos.
+     * @param nanosGeracao Tempo da geração, em nanossegundos.
+     * @param nanosPorFase Tempo de cada fase, na ordem de {@link Fase}, ou
+     * {@link #NAO_MEDIDA}; o vetor é copiado.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o número de tempos por fase for diferente do número de
+     * fases.</li>
+     * </ul>
+     */
+    public MetricasGeracao(int geracao, long avaliacoes, int tamanho, double melhor, double melhorGlobal,
+            double media, double desvioPadrao, long distintos, long nanosGeracao, long[] nanosPorFase) {
+        if (nanosPorFase.length != Fase.values().length) {
+            throw new IllegalArgumentException("Número de tempos deve ser igual ao número de fases.");
+        }
+        this.geracao = geracao;
+        this.avaliacoes = avaliacoes;
+        this.tamanho = tamanho;
+        this.melhor = melhor;
+        this.melhorGlobal = melhorGlobal;
+        this.media = media;
+        this.desvioPadrao = desvioPadrao;
+        this.distintos = distintos;
+        this.nanosGeracao = nanosGeracao;
+        this.nanosPorFase = nanosPorFase.clone();
+    }
+
+    /**
+     * @since 1.0
+     * @return Número da geração.
+     */
+    public int getGeracao() {
+        return geracao;
+    }
+
+    /**
+     * @since 1.0
+     * @return Avaliações acumuladas ao fim da geração.
+     */
+    public long getAvaliacoes() {
+        return avaliacoes;
+    }
+
+    /**
+     * @since 1.0
+     * @return Número de seres na população.
+     */
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    /**
+     * @since 1.0
+     * @return Grau do melhor ser da geração.
+     */
+    public double getMelhor() {
+        return melhor;
+    }
+
+    /**
+     * @since 1.0
+     * @return Grau do melhor ser encontrado até a geração.
+     */
+    public double getMelhorGlobal() {
+        return melhorGlobal;
+    }
+
+    /**
+     * @since 1.0
+     * @return Média dos graus.
+     */
+    public double getMedia() {
+        return media;
+    }
+
+    /**
+     * @since 1.0
+     * @return Desvio padrão amostral dos graus.
+     */
+    public double getDesvioPadrao() {
+        return desvioPadrao;
+    }
+
+    /**
+     * @since 1.0
+     * @return Número de genótipos distintos.
+     */
+    public long getDistintos() {
+        return distintos;
+    }
+
+    /**
+     * @since 1.0
+     * @return Tempo da geração, em nanossegundos.
+     */
+    public long getNanosGeracao() {
+        return nanosGeracao;
+    }
+
+    /**
+     * Recupera o tempo de uma fase.
+     *
+     * @since 1.0
+     * @param fase Fase.
+     * @return Tempo, em nanossegundos; {@link #NAO_MEDIDA} se a fase não foi
+     * medida na geração.
+     */
+    public long getNanos(Fase fase) {
+        return nanosPorFase[fase.ordinal()];
+    }
+
+    @Override
+    public String toString() {
+        return "Geração " + geracao + ": melhor=" + melhor + ", média=" + media + ", desvio=" + desvioPadrao
+                + ", distintos=" + distintos + ", avaliações=" + avaliacoes + ", ns=" + nanosGeracao
+                + " " + Arrays.toString(nanosPorFase);
+    }
+}
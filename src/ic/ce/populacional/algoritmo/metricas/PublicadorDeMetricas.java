@@ -0,0 +1,223 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmo.metricas;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publicador assíncrono de métricas por geração.
+ *
+ * <p>
+ * O algoritmo deposita as métricas em uma fila limitada, sem bloqueio; uma
+ * linha de execução dedicada as entrega, em ordem, a cada receptor. Se a fila
+ * estiver cheia – receptores mais lentos que as gerações –, as métricas são
+ * descartadas e contabilizadas, sem atrasar a evolução.
+ * </p>
+ * <p>
+ * Falhas de um receptor são contabilizadas e não interrompem os demais. O
+ * publicador deve ser encerrado por {@link #fecha()}, que entrega as métricas
+ * pendentes e fecha os receptores.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ */
+public class PublicadorDeMetricas implements AutoCloseable {
+
+    /**
+     * Marca de encerramento da fila.
+     */
+    private static final MetricasGeracao FIM = new MetricasGeracao(-1, 0, 0, 0, 0, 0, 0, 0, 0, new long[Fase.values().length]);
+
+    private final BlockingQueue<MetricasGeracao> fila;
+    private final List<ReceptorDeMetricas> receptores = new CopyOnWriteArrayList<>();
+    private final AtomicLong descartadas = new AtomicLong();
+    private final AtomicLong falhas = new AtomicLong();
+    private final Thread entregador;
+    private volatile boolean fechado = false;
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param capacidade Número máximo de métricas pendentes.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se a capacidade for menor que 1.</li>
+     * </ul>
+     */
+    public PublicadorDeMetricas(int capacidade) {
+        if (capacidade < 1) {
+            throw new IllegalArgumentException("Capacidade deve ser maior ou igual a 1.");
+        }
+        fila = new ArrayBlockingQueue<>(capacidade + 1);
+        entregador = new Thread(this::entrega, "PublicadorDeMetricas");
+        entregador.setDaemon(true);
+        entregador.start();
+    }
+
+    /**
+     * Adiciona um receptor.
+     *
+     * @since 1.0
+     * @param receptor Receptor.
+     */
+    public void addReceptor(ReceptorDeMetricas receptor) {
+        receptores.add(receptor);
+    }
+
+    /**
+     * Remove um receptor; o receptor não é fechado.
+     *
+     * @since 1.0
+     * @param receptor Receptor.
+     */
+    public void removeReceptor(ReceptorDeMetricas receptor) {
+        receptores.remove(receptor);
+    }
+
+    /**
+     * Verifica se há receptores: sem eles, as métricas não precisam ser
+     * calculadas.
+     *
+     * @since 1.0
+     * @return true se houver ao menos um receptor.
+     */
+    public boolean temReceptores() {
+        return !receptores.isEmpty();
+    }
+
+    /**
+     * Publica as métricas de uma geração, sem bloqueio.
+     *
+     * @since 1.0
+     * @param metricas Métricas.
+     * @return
+     * <ul>
+     * <li>true: se as métricas foram enfileiradas;</li>
+     * <li>false: se foram descartadas – fila cheia ou publicador
+     * fechado.</li>
+     * </ul>
+     */
+    public boolean publica(MetricasGeracao metricas) {
+        if (fechado || fila.remainingCapacity() <= 1 || !fila.offer(metricas)) {
+            descartadas.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Entrega as métricas pendentes, fecha os receptores e encerra a linha de
+     * execução de entrega.
+     *
+     * <p>
+     * Se interrompido enquanto aguarda a entrega, retorna sem aguardá-la e
+     * restaura o estado de interrupção da linha de execução corrente.
+     * </p>
+     *
+     * @since 1.0
+     */
+    @Override
+    public void close() {
+        try {
+            fecha();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Entrega as métricas pendentes, fecha os receptores e encerra a linha de
+     * execução de entrega.
+     *
+     * @since 1.0
+     * @throws InterruptedException Se interrompido enquanto aguarda a
+     * entrega.
+     */
+    public void fecha() throws InterruptedException {
+        if (fechado) {
+            return;
+        }
+        fechado = true;
+        fila.put(FIM);
+        entregador.join();
+    }
+
+    /**
+     * Recupera o número de métricas descartadas.
+     *
+     * @since 1.0
+     * @return Número de descartes.
+     */
+    public long getDescartadas() {
+        return descartadas.get();
+    }
+
+    /**
+     * Recupera o número de falhas de receptores.
+     *
+     * @since 1.0
+     * @return Número de falhas.
+     */
+    public long getFalhas() {
+        return falhas.get();
+    }
+
+    /**
+     * Laço da linha de execução de entrega.
+     */
+    private void entrega() {
+        try {
+            while (true) {
+                MetricasGeracao metricas = fila.take();
+                if (metricas == FIM) {
+                    break;
+                }
+                for (ReceptorDeMetricas receptor : receptores) {
+                    try {
+                        receptor.recebe(metricas);
+                    } catch (IOException | RuntimeException e) {
+                        falhas.incrementAndGet();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (ReceptorDeMetricas receptor : receptores) {
+            try {
+                receptor.fecha();
+            } catch (IOException | RuntimeException e) {
+                falhas.incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmo.metricas;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Receptor que grava as métricas em formato binário compacto.
+ *
+ * <p>
+ * O arquivo inicia com um cabeçalho – identificador, versão e número de
+ * fases – seguido de um registro de tamanho fixo por geração, com os campos
+ * na ordem de {@link MetricasGeracao#MetricasGeracao(int, long, int, double,
+ * double, double, double, long, long, long[])}, em <i>big-endian</i>. O
+ * arquivo pode ser lido por {@link #le(java.io.InputStream)}.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ */
+public class ReceptorBinario implements ReceptorDeMetricas {
+
+    private static final int IDENTIFICADOR = 0x4D455452;
+    private static final int VERSAO = 1;
+
+    private final DataOutputStream saida;
+    private boolean cabecalho = false;
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param saida Destino; fechado com o receptor.
+     */
+    public ReceptorBinario(OutputStream saida) {
+        this.saida = new DataOutputStream(new BufferedOutputStream(saida));
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public void recebe(MetricasGeracao metricas) throws IOException {
+        if (!cabecalho) {
+            saida.writeInt(IDENTIFICADOR);
+            saida.writeInt(VERSAO);
+            saida.writeInt(Fase.values().length);
+            cabecalho = true;
+        }
+        saida.writeInt(metricas.getGeracao());
+        saida.writeLong(metricas.getAvaliacoes());
+        saida.writeInt(metricas.getTamanho());
+        saida.writeDouble(metricas.getMelhor());
+        saida.writeDouble(metricas.getMelhorGlobal());
+        saida.writeDouble(metricas.getMedia());
+        saida.writeDouble(metricas.getDesvioPadrao());
+        saida.writeLong(metricas.getDistintos());
+        saida.writeLong(metricas.getNanosGeracao());
+        for (Fase fase : Fase.values()) {
+            saida.writeLong(metricas.getNanos(fase));
+        }
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public void fecha() throws IOException {
+        saida.close();
+    }
+
+    /**
+     * Lê as métricas gravadas por um receptor binário.
+     *
+     * @since 1.0
+     * @param entrada Origem; não é fechada.
+     * @return Métricas, em ordem de gravação.
+     * @throws IOException Em caso de falha de leitura ou formato inválido.
+     */
+    public static List<MetricasGeracao> le(InputStream entrada) throws IOException {
+        DataInputStream dados = new DataInputStream(new BufferedInputStream(entrada));
+        List<MetricasGeracao> lidas = new ArrayList<>();
+
+        int identificador;
+        try {
+            identificador = dados.readInt();
+        } catch (EOFException e) {
+            return lidas;
+        }
+        if (identificador != IDENTIFICADOR || dados.readInt() != VERSAO) {
+            throw new IOException("Formato de métricas inválido.");
+        }
+        int nFases = dados.readInt();
+        if (nFases != Fase.values().length) {
+            throw new IOException("Número de fases incompatível: " + nFases + ".");
+        }
+
+        while (true) {
+            int geracao;
+            try {
+                geracao = dados.readInt();
+            } catch (EOFException e) {
+                return lidas;
+            }
+            long avaliacoes = dados.readLong();
+            int tamanho = dados.readInt();
+            double melhor = dados.readDouble();
+            double melhorGlobal = dados.readDouble();
+            double media = dados.readDouble();
+            double desvioPadrao = dados.readDouble();
+            long distintos = dados.readLong();
+            long nanosGeracao = dados.readLong();
+            long[] nanosPorFase = new long[nFases];
+            for (int f = 0; f < nFases; f++) {
+                nanosPorFase[f] = dados.readLong();
+            }
+            lidas.add(new MetricasGeracao(geracao, avaliacoes, tamanho, melhor, melhorGlobal,
+                    media, desvioPadrao, distintos, nanosGeracao, nanosPorFase));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmo.metricas;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+/**
+ * Receptor que grava as métricas em formato CSV.
+ *
+ * <p>
+ * Uma linha por geração, precedida de um cabeçalho; números com ponto
+ * decimal, independentemente da localidade. As colunas de tempo, em
+ * nanossegundos, seguem a ordem de {@link Fase}; fases não medidas na geração
+ * ficam vazias.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ */
+public class ReceptorCSV implements ReceptorDeMetricas {
+
+    private final BufferedWriter saida;
+    private final boolean descargaPorLinha;
+    private boolean cabecalho = false;
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param saida Destino; fechado com o receptor.
+     * @param descargaPorLinha Se verdadeiro, o destino é descarregado a cada
+     * linha, o que permite seu acompanhamento durante a execução.
+     */
+    public ReceptorCSV(Writer saida, boolean descargaPorLinha) {
+        this.saida = new BufferedWriter(saida);
+        this.descargaPorLinha = descargaPorLinha;
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public void recebe(MetricasGeracao metricas) throws IOException {
+        if (!cabecalho) {
+            saida.write("geracao,avaliacoes,tamanho,melhor,melhorGlobal,media,desvioPadrao,distintos,nanosGeracao");
+            for (Fase fase : Fase.values()) {
+                saida.write(",nanos" + fase.name());
+            }
+            saida.newLine();
+            cabecalho = true;
+        }
+
+        saida.write(String.format(Locale.ROOT, "%d,%d,%d,%s,%s,%s,%s,%d,%d",
+                metricas.getGeracao(), metricas.getAvaliacoes(), metricas.getTamanho(),
+                metricas.getMelhor(), metricas.getMelhorGlobal(), metricas.getMedia(),
+                metricas.getDesvioPadrao(), metricas.getDistintos(), metricas.getNanosGeracao()));
+        for (Fase fase : Fase.values()) {
+            saida.write(',');
+            if (metricas.getNanos(fase) != MetricasGeracao.NAO_MEDIDA) {
+                saida.write(Long.toString(metricas.getNanos(fase)));
+            }
+        }
+        saida.newLine();
+
+        if (descargaPorLinha) {
+            saida.flush();
+        }
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public void fecha() throws IOException {
+        saida.close();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmo.metricas;
+
+import java.io.IOException;
+
+/**
+ * Receptor de métricas por geração.
+ *
+ * <p>
+ * Receptores são chamados por uma única linha de execução do
+ * {@link PublicadorDeMetricas}, fora do laço evolutivo: não precisam ser
+ * seguros para uso concorrente.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ */
+public interface ReceptorDeMetricas {
+
+    /**
+     * Recebe as métricas de uma geração.
+     *
+     * @since 1.0
+     * @param metricas Métricas.
+     * @throws IOException Em caso de falha de escrita.
+     */
+    void recebe(MetricasGeracao metricas) throws IOException;
+
+    /**
+     * Libera os recursos do receptor; chamado ao encerramento do publicador.
+     *
+     * @since 1.0
+     * @throws IOException Em caso de falha de escrita.
+     */
+    default void fecha() throws IOException {
+    }
+}
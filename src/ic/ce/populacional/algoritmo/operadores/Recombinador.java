@@ -31,6 +31,8 @@ import ic.ce.base.utilidades.IndiceAleatorio;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Operador de recombinação.
@@ -165,6 +167,40 @@ public abstract class Recombinador<G extends Number & Comparable<G>, S extends S
         return filhos;
     }
 
+    /**
+     * Realiza a operação de recombinação: coleção divisível, em paralelo.
+     *
+     * <p>
+     * Equivalente a {@link #recombinaTodos(java.util.List)}, com os sub
+     * conjuntos recombinados em paralelo e os filhos mantidos na ordem dos
+     * pais. Destinado a derivações cuja operação de recombinação seja segura
+     * para múltiplas Threads.
+     * </p>
+     *
+     * @since 1.0
+     * @param pares Seres para recombinação.
+     * @return Novos seres.
+     *
+     * @throws IllegalStateException
+     * <ul>
+     * <li>Se o número de seres para reprodução não for divisível pelo número de
+     * parceiros necessários para recombinação.</li>
+     * </ul>
+     */
+    protected final List<S> recombinaTodosEmParalelo(List<S> pares) {
+        int nPais = getNParceiros();
+
+        if (pares.size() % nPais != 0) {
+            throw new IllegalStateException("Número de seres para reprodução não é divisível pelo número de parceiros necessários para recombinação.");
+        }
+
+        return IntStream.range(0, pares.size() / nPais).parallel()
+                .filter(i -> sorteiaSeRecombina())
+                .mapToObj(i -> recombina(pares.subList(i * nPais, (i + 1) * nPais)))
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Sorteia se aplica a recombinação.
      *
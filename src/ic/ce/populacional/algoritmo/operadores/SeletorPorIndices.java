@@ -0,0 +1,251 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmo.operadores;
+
+import ic.ce.base.Ambiente;
+import ic.ce.base.Ser;
+import ic.ce.populacional.Populacao;
+import ic.ce.populacional.PopulacaoOrdenada;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seletor sobre um retrato da população.
+ *
+ * <p>
+ * A cada seleção, a população é copiada uma única vez para um array de seres
+ * e um array primitivo de adaptações; as derivações sorteiam índices sobre
+ * esses arrays, sem acesso à população ou aos graus de adaptação – objetos –
+ * durante os sorteios.
+ * </p>
+ * <p>
+ * As adaptações são orientadas de modo que valores maiores sejam sempre
+ * melhores: em modo de minimização, correspondem aos graus com sinal
+ * invertido. Graus são convertidos para <code>double</code>.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public abstract class SeletorPorIndices<G extends Number & Comparable<G>, S extends Ser<G>> extends Seletor<G, S> {
+
+    private int nPais = 0;
+    private S[] seres;
+    private double[] adaptacoes;
+    private boolean ordenado;
+
+    /**
+     * Sorteia índices sobre o retrato corrente.
+     *
+     * @since 1.0
+     * @param n Número de índices.
+     * @return Índices sorteados, em [0, {@link #getTamanho()}).
+     */
+    protected abstract int[] seleciona(int n);
+
+    /**
+     * Retrata a população e sorteia índices sobre o retrato.
+     *
+     * @since 1.0
+     * @param n Número de índices.
+     * @return Índices sorteados: referem-se a {@link #getSer(int)} até o
+     * próximo retrato.
+     *
+     * @throws IllegalStateException
+     * <ul>
+     * <li>Se a população estiver vazia.</li>
+     * </ul>
+     */
+    public final int[] selecionaIndices(int n) {
+        retrata();
+        return seleciona(n);
+    }
+
+    /**
+     * Seleciona os pais: tantos quantos atribuídos por
+     * {@link #setNPais(int)} ou, por padrão, o tamanho da população.
+     *
+     * @since 1.0
+     */
+    @Override
+    public List<S> getPais() {
+        int n = (nPais > 0) ? nPais : getPopulacao().size();
+        return getSeres(selecionaIndices(n));
+    }
+
+    /**
+     * Seleciona os sobreviventes, pelo mesmo critério dos pais: tantos quantos
+     * o número máximo de indivíduos da população ou, sem limite, seu tamanho.
+     *
+     * @since 1.0
+     */
+    @Override
+    public List<S> getSobreviventes() {
+        Populacao<G, S> populacao = getPopulacao();
+        int n = (populacao.getMaxIndividuos() > 0) ? populacao.getMaxIndividuos() : populacao.size();
+        return getSeres(selecionaIndices(n));
+    }
+
+    /**
+     * Copia a população para os arrays de seres e adaptações.
+     *
+     * @since 1.0
+     *
+     * @throws IllegalStateException
+     * <ul>
+     * <li>Se a população estiver vazia.</li>
+     * </ul>
+     */
+    protected final void retrata() {
+        Populacao<G, S> populacao = getPopulacao();
+        if (populacao.isEmpty()) {
+            throw new IllegalStateException("População vazia.");
+        }
+        seres = populacao.toArray();
+        ordenado = populacao instanceof PopulacaoOrdenada;
+
+        boolean minimizacao = getAmbiente().getModo() == Ambiente.Modo.MINIMIZACAO;
+        adaptacoes = new double[seres.length];
+        for (int i = 0; i < seres.length; i++) {
+            double grau = seres[i].getGrauDeAdaptacao().doubleValue();
+            adaptacoes[i] = minimizacao ? -grau : grau;
+        }
+    }
+
+    /**
+     * Calcula pesos não negativos, proporcionais à adaptação.
+     *
+     * <p>
+     * Se houver adaptações negativas – sempre o caso em minimização de graus
+     * positivos –, a menor adaptação é subtraída de todas (<i>windowing</i>):
+     * o pior ser recebe peso zero.
+     * </p>
+     *
+     * @since 1.0
+     * @return Novo array de pesos, na ordem do retrato.
+     */
+    protected final double[] pesosProporcionais() {
+        double minimo = Double.POSITIVE_INFINITY;
+        for (double adaptacao : adaptacoes) {
+            minimo = Math.min(minimo, adaptacao);
+        }
+        double deslocamento = (minimo < 0) ? minimo : 0;
+
+        double[] pesos = new double[adaptacoes.length];
+        for (int i = 0; i < pesos.length; i++) {
+            pesos[i] = adaptacoes[i] - deslocamento;
+        }
+        return pesos;
+    }
+
+    /**
+     * Recupera os seres correspondentes a índices do retrato.
+     *
+     * @since 1.0
+     * @param indices Índices.
+     * @return Nova lista, na ordem dos índices.
+     */
+    public final List<S> getSeres(int[] indices) {
+        List<S> selecionados = new ArrayList<>(indices.length);
+        for (int indice : indices) {
+            selecionados.add(seres[indice]);
+        }
+        return selecionados;
+    }
+
+    /**
+     * Recupera um ser do retrato.
+     *
+     * @since 1.0
+     * @param indice Índice.
+     * @return Ser.
+     */
+    public final S getSer(int indice) {
+        return seres[indice];
+    }
+
+    /**
+     * Recupera as adaptações do retrato: maiores valores são melhores.
+     *
+     * @since 1.0
+     * @return Array de adaptações; não deve ser modificado.
+     */
+    protected final double[] getAdaptacoes() {
+        return adaptacoes;
+    }
+
+    /**
+     * Recupera o número de seres do retrato.
+     *
+     * @since 1.0
+     * @return Número de seres.
+     */
+    public final int getTamanho() {
+        return seres.length;
+    }
+
+    /**
+     * Verifica se o retrato está em ordem crescente de adaptação: o caso de
+     * populações ordenadas.
+     *
+     * @since 1.0
+     * @return true se o retrato estiver ordenado, do pior ao melhor ser.
+     */
+    protected final boolean isOrdenado() {
+        return ordenado;
+    }
+
+    /**
+     * Atribui o número de pais por seleção.
+     *
+     * @since 1.0
+     * @param nPais Número de pais; zero para o tamanho da população.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o número for negativo.</li>
+     * </ul>
+     */
+    public final void setNPais(int nPais) {
+        if (nPais < 0) {
+            throw new IllegalArgumentException("Número de pais deve ser maior ou igual a zero.");
+        }
+        this.nPais = nPais;
+    }
+
+    /**
+     * Recupera o número de pais por seleção.
+     *
+     * @since 1.0
+     * @return Número de pais; zero para o tamanho da população.
+     */
+    public final int getNPais() {
+        return nPais;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmo.operadores.seletores;
+
+import ic.ce.base.Ser;
+import ic.ce.populacional.algoritmo.operadores.SeletorPorIndices;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Amostragem universal estocástica (SUS).
+ *
+ * <p>
+ * Seleção proporcional à adaptação com variância mínima: uma única roleta
+ * com n ponteiros igualmente espaçados é girada uma vez, e todos os
+ * selecionados são obtidos em uma passagem sobre os pesos acumulados – cada
+ * ser é escolhido ⌊e⌋ ou ⌈e⌉ vezes, sendo e o número esperado de cópias.
+ * </p>
+ * <p>
+ * Como a passagem produz os índices agrupados, o resultado é embaralhado
+ * antes do retorno, para que pares consecutivos sejam aleatórios. Os pesos
+ * seguem {@link SeletorPorIndices#pesosProporcionais()}; se todos forem
+ * nulos, a seleção é uniforme.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class AmostragemUniversal<G extends Number & Comparable<G>, S extends Ser<G>> extends SeletorPorIndices<G, S> {
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    protected int[] seleciona(int n) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        int[] selecionados = amostra(pesosProporcionais(), n, aleatorio.nextDouble());
+        embaralha(selecionados, aleatorio);
+        return selecionados;
+    }
+
+    /**
+     * Realiza a amostragem universal estocástica, em uma passagem.
+     *
+     * @since 1.0
+     * @param pesos Pesos não negativos.
+     * @param n Número de seleções.
+     * @param giro Posição do primeiro ponteiro, em [0,1), relativa ao
+     * espaçamento entre ponteiros.
+     * @return Índices selecionados, em ordem crescente.
+     */
+    public static int[] amostra(double[] pesos, int n, double giro) {
+        int[] selecionados = new int[n];
+        if (n == 0) {
+            return selecionados;
+        }
+
+        double total = 0;
+        for (double peso : pesos) {
+            total += peso;
+        }
+        boolean uniforme = !(total > 0) || Double.isInfinite(total);
+        if (uniforme) {
+            total = pesos.length;
+        }
+
+        double passo = total / n;
+        double ponteiro = giro * passo;
+        double acumulado = uniforme ? 1.0 : pesos[0];
+        int indice = 0;
+        int ultimo = pesos.length - 1;
+
+        for (int i = 0; i < n; i++) {
+            while (ponteiro >= acumulado && indice < ultimo) {
+                indice++;
+                acumulado += uniforme ? 1.0 : pesos[indice];
+            }
+            selecionados[i] = indice;
+            ponteiro += passo;
+        }
+        return selecionados;
+    }
+
+    /**
+     * Embaralhamento de Fisher-Yates.
+     */
+    private static void embaralha(int[] vetor, ThreadLocalRandom aleatorio) {
+        for (int i = vetor.length - 1; i > 0; i--) {
+            int j = aleatorio.nextInt(i + 1);
+            int temporario = vetor[i];
+            vetor[i] = vetor[j];
+            vetor[j] = temporario;
+        }
+    }
+}
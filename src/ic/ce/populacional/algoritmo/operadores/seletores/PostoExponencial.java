@@ -0,0 +1,91 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmo.operadores.seletores;
+
+import ic.ce.base.Ser;
+
+/**
+ * Seleção por posto exponencial.
+ *
+ * <p>
+ * O peso de cada ser decresce geometricamente a partir do melhor: o ser de
+ * posto i, entre n, recebe peso c<sup>n-1-i</sup>, com base c em (0,1].
+ * Bases menores aumentam a pressão seletiva; com c = 1, a seleção é
+ * uniforme.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class PostoExponencial<G extends Number & Comparable<G>, S extends Ser<G>> extends SeletorPorPosto<G, S> {
+
+    private final double base;
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param base Base, em (0,1]; usualmente próxima de 1, como 0,99.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Caso a base não esteja em (0,1].</li>
+     * </ul>
+     */
+    public PostoExponencial(double base) {
+        if (!(base > 0) || base > 1) {
+            throw new IllegalArgumentException("Base deve estar em (0,1].");
+        }
+        this.base = base;
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    protected double[] pesosPorPosto(int n) {
+        double[] pesos = new double[n];
+        double peso = 1.0;
+        for (int i = n - 1; i >= 0; i--) {
+            pesos[i] = peso;
+            peso *= base;
+        }
+        return pesos;
+    }
+
+    /**
+     * Recupera a base.
+     *
+     * @since 1.0
+     * @return Base.
+     */
+    public final double getBase() {
+        return base;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmo.operadores.seletores;
+
+import ic.ce.base.Ser;
+
+/**
+ * Seleção por posto linear.
+ *
+ * <p>
+ * A probabilidade de seleção cresce linearmente com o posto: com pressão
+ * seletiva s, em [1,2], o melhor ser é escolhido, em média, s vezes por
+ * geração, e o pior, 2 - s vezes. Com s = 1, a seleção é uniforme.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class PostoLinear<G extends Number & Comparable<G>, S extends Ser<G>> extends SeletorPorPosto<G, S> {
+
+    private final double pressao;
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param pressao Pressão seletiva, em [1,2]; usualmente 1,5.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Caso a pressão seletiva não esteja em [1,2].</li>
+     * </ul>
+     */
+    public PostoLinear(double pressao) {
+        if (pressao < 1 || pressao > 2) {
+            throw new IllegalArgumentException("Pressão seletiva deve estar em [1,2].");
+        }
+        this.pressao = pressao;
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    protected double[] pesosPorPosto(int n) {
+        double[] pesos = new double[n];
+        if (n == 1) {
+            pesos[0] = 1.0;
+            return pesos;
+        }
+        for (int i = 0; i < n; i++) {
+            pesos[i] = (2.0 - pressao) + 2.0 * (pressao - 1.0) * i / (n - 1);
+        }
+        return pesos;
+    }
+
+    /**
+     * Recupera a pressão seletiva.
+     *
+     * @since 1.0
+     * @return Pressão seletiva.
+     */
+    public final double getPressao() {
+        return pressao;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmo.operadores.seletores;
+
+import ic.ce.base.Ser;
+import ic.ce.populacional.algoritmo.operadores.SeletorPorIndices;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Seleção proporcional à adaptação (roleta), pelo método de alias.
+ *
+ * <p>
+ * A cada seleção, uma tabela de alias (Walker/Vose) é construída em O(n)
+ * sobre o retrato da população; cada sorteio custa O(1): um índice uniforme
+ * e uma comparação com sua probabilidade, retornando o próprio índice ou seu
+ * alias.
+ * </p>
+ * <p>
+ * Os pesos são proporcionais às adaptações, deslocadas pela menor adaptação
+ * quando houver valores negativos (ver
+ * {@link SeletorPorIndices#pesosProporcionais()}); se todos os pesos forem
+ * nulos, a seleção é uniforme.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class Roleta<G extends Number & Comparable<G>, S extends Ser<G>> extends SeletorPorIndices<G, S> {
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    protected int[] seleciona(int n) {
+        int tamanho = getTamanho();
+        double[] probabilidades = new double[tamanho];
+        int[] aliases = new int[tamanho];
+        constroiTabela(pesosProporcionais(), probabilidades, aliases);
+
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        int[] selecionados = new int[n];
+        for (int i = 0; i < n; i++) {
+            int indice = aleatorio.nextInt(tamanho);
+            selecionados[i] = (aleatorio.nextDouble() < probabilidades[indice]) ? indice : aliases[indice];
+        }
+        return selecionados;
+    }
+
+    /**
+     * Constrói uma tabela de alias (método de Vose).
+     *
+     * <p>
+     * Após a construção, um sorteio consiste em escolher uniformemente uma
+     * posição i e retornar i com probabilidade <code>probabilidades[i]</code>
+     * ou, caso contrário, <code>aliases[i]</code>.
+     * </p>
+     *
+     * @since 1.0
+     * @param pesos Pesos não negativos; não são modificados.
+     * @param probabilidades Destino das probabilidades de aceitação, com o
+     * mesmo tamanho dos pesos.
+     * @param aliases Destino dos aliases, com o mesmo tamanho dos pesos.
+     */
+    public static void constroiTabela(double[] pesos, double[] probabilidades, int[] aliases) {
+        int n = pesos.length;
+        double total = 0;
+        for (double peso : pesos) {
+            total += peso;
+        }
+        if (!(total > 0) || Double.isInfinite(total)) {
+            for (int i = 0; i < n; i++) {
+                probabilidades[i] = 1.0;
+                aliases[i] = i;
+            }
+            return;
+        }
+
+        int[] pequenos = new int[n];
+        int[] grandes = new int[n];
+        int nPequenos = 0;
+        int nGrandes = 0;
+
+        for (int i = 0; i < n; i++) {
+            probabilidades[i] = pesos[i] * n / total;
+            if (probabilidades[i] < 1.0) {
+                pequenos[nPequenos++] = i;
+            } else {
+                grandes[nGrandes++] = i;
+            }
+        }
+
+        while (nPequenos > 0 && nGrandes > 0) {
+            int pequeno = pequenos[--nPequenos];
+            int grande = grandes[nGrandes - 1];
+
+            aliases[pequeno] = grande;
+            probabilidades[grande] += probabilidades[pequeno] - 1.0;
+            if (probabilidades[grande] < 1.0) {
+                nGrandes--;
+                pequenos[nPequenos++] = grande;
+            }
+        }
+
+        // Restos: diferenças de arredondamento.
+        while (nGrandes > 0) {
+            int i = grandes[--nGrandes];
+            probabilidades[i] = 1.0;
+            aliases[i] = i;
+        }
+        while (nPequenos > 0) {
+            int i = pequenos[--nPequenos];
+            probabilidades[i] = 1.0;
+            aliases[i] = i;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmo.operadores.seletores;
+
+import ic.ce.base.Ser;
+import ic.ce.populacional.algoritmo.operadores.SeletorPorIndices;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Seleção baseada em postos (<i>ranking</i>).
+ *
+ * <p>
+ * A probabilidade de seleção de cada ser depende apenas de seu posto na
+ * população – 0 para o pior, n-1 para o melhor –, e não da magnitude de sua
+ * adaptação. As derivações definem os pesos por posto; as probabilidades
+ * acumuladas são calculadas uma vez por tamanho de população e reutilizadas
+ * entre gerações.
+ * </p>
+ * <p>
+ * Em populações ordenadas, a ordem do retrato já corresponde aos postos e
+ * nenhuma ordenação é realizada; nas demais, os índices são ordenados uma vez
+ * por seleção, sobre o array primitivo de adaptações. Cada sorteio é uma
+ * busca binária sobre as probabilidades acumuladas.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public abstract class SeletorPorPosto<G extends Number & Comparable<G>, S extends Ser<G>> extends SeletorPorIndices<G, S> {
+
+    private double[] acumulados = new double[0];
+
+    /**
+     * Calcula os pesos de seleção por posto.
+     *
+     * @since 1.0
+     * @param n Tamanho da população.
+     * @return Pesos não negativos, do pior (posto 0) ao melhor (posto n-1);
+     * não precisam somar 1, mas a soma deve ser positiva.
+     */
+    protected abstract double[] pesosPorPosto(int n);
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    protected int[] seleciona(int n) {
+        int tamanho = getTamanho();
+        if (acumulados.length != tamanho) {
+            acumulados = acumula(pesosPorPosto(tamanho));
+        }
+        int[] ordem = isOrdenado() ? null : ordem(getAdaptacoes());
+
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        double total = acumulados[tamanho - 1];
+        int[] selecionados = new int[n];
+        for (int i = 0; i < n; i++) {
+            int posto = busca(acumulados, aleatorio.nextDouble() * total);
+            selecionados[i] = (ordem == null) ? posto : ordem[posto];
+        }
+        return selecionados;
+    }
+
+    /**
+     * Calcula os pesos acumulados.
+     *
+     * @since 1.0
+     * @param pesos Pesos não negativos.
+     * @return Novo array com as somas parciais dos pesos.
+     */
+    public static double[] acumula(double[] pesos) {
+        double[] acumulados = new double[pesos.length];
+        double soma = 0;
+        for (int i = 0; i < pesos.length; i++) {
+            soma += pesos[i];
+            acumulados[i] = soma;
+        }
+        return acumulados;
+    }
+
+    /**
+     * Busca binária: primeira posição cujo valor acumulado excede o alvo.
+     *
+     * <p>
+     * Posições de peso nulo nunca são retornadas, exceto se o alvo exceder o
+     * total – caso em que a última posição é retornada.
+     * </p>
+     *
+     * @since 1.0
+     * @param acumulados Pesos acumulados, não decrescentes.
+     * @param alvo Valor sorteado, em [0, total).
+     * @return Posição selecionada.
+     */
+    public static int busca(double[] acumulados, double alvo) {
+        int inicio = 0;
+        int fim = acumulados.length - 1;
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (acumulados[meio] > alvo) {
+                fim = meio;
+            } else {
+                inicio = meio + 1;
+            }
+        }
+        return inicio;
+    }
+
+    /**
+     * Ordena índices por adaptação crescente.
+     *
+     * @since 1.0
+     * @param adaptacoes Adaptações.
+     * @return Índices: a posição k contém o índice do ser de posto k.
+     */
+    public static int[] ordem(double[] adaptacoes) {
+        Integer[] indices = new Integer[adaptacoes.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        Arrays.sort(indices, (i1, i2) -> Double.compare(adaptacoes[i1], adaptacoes[i2]));
+
+        int[] ordem = new int[indices.length];
+        for (int i = 0; i < ordem.length; i++) {
+            ordem[i] = indices[i];
+        }
+        return ordem;
+    }
+}
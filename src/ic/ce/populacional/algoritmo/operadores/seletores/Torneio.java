@@ -0,0 +1,144 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmo.operadores.seletores;
+
+import ic.ce.base.Ser;
+import ic.ce.populacional.algoritmo.operadores.SeletorPorIndices;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Seleção por torneio, em lote.
+ *
+ * <p>
+ * Cada seleção sorteia, com reposição, um número fixo de competidores e
+ * retorna o melhor entre eles. Todos os torneios de uma geração são
+ * realizados em um único lote sobre o array primitivo de adaptações, sem
+ * filas de prioridade, comparadores ou listas intermediárias: o resultado é
+ * um vetor de índices.
+ * </p>
+ * <p>
+ * Lotes grandes são divididos em blocos processados em paralelo; cada linha
+ * de execução utiliza seu próprio gerador de números aleatórios
+ * ({@link ThreadLocalRandom}). Empates são resolvidos em favor do primeiro
+ * competidor sorteado.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class Torneio<G extends Number & Comparable<G>, S extends Ser<G>> extends SeletorPorIndices<G, S> {
+
+    /**
+     * Número de torneios por bloco paralelo.
+     */
+    private static final int TAMANHO_DO_BLOCO = 1024;
+
+    private final int competidores;
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param competidores Número de competidores por torneio; usualmente 2.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Caso o número de competidores seja menor que 1.</li>
+     * </ul>
+     */
+    public Torneio(int competidores) {
+        if (competidores < 1) {
+            throw new IllegalArgumentException("Número de competidores deve ser maior ou igual a 1.");
+        }
+        this.competidores = competidores;
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    protected int[] seleciona(int n) {
+        return torneios(getAdaptacoes(), n, competidores);
+    }
+
+    /**
+     * Realiza um lote de torneios.
+     *
+     * @since 1.0
+     * @param adaptacoes Adaptações: maiores valores são melhores.
+     * @param n Número de torneios.
+     * @param competidores Número de competidores por torneio.
+     * @return Índices dos vencedores, um por torneio.
+     */
+    public static int[] torneios(double[] adaptacoes, int n, int competidores) {
+        int[] vencedores = new int[n];
+        int nBlocos = (n + TAMANHO_DO_BLOCO - 1) / TAMANHO_DO_BLOCO;
+
+        if (nBlocos <= 1) {
+            torneios(adaptacoes, competidores, vencedores, 0, n);
+        } else {
+            IntStream.range(0, nBlocos).parallel().forEach(b
+                    -> torneios(adaptacoes, competidores, vencedores,
+                            b * TAMANHO_DO_BLOCO, Math.min(n, (b + 1) * TAMANHO_DO_BLOCO)));
+        }
+        return vencedores;
+    }
+
+    /**
+     * Realiza os torneios de um bloco: posições [inicio, fim) do destino.
+     */
+    private static void torneios(double[] adaptacoes, int competidores, int[] vencedores, int inicio, int fim) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        int tamanho = adaptacoes.length;
+
+        for (int i = inicio; i < fim; i++) {
+            int vencedor = aleatorio.nextInt(tamanho);
+            double melhor = adaptacoes[vencedor];
+            for (int k = 1; k < competidores; k++) {
+                int competidor = aleatorio.nextInt(tamanho);
+                if (adaptacoes[competidor] > melhor) {
+                    vencedor = competidor;
+                    melhor = adaptacoes[competidor];
+                }
+            }
+            vencedores[i] = vencedor;
+        }
+    }
+
+    /**
+     * Recupera o número de competidores por torneio.
+     *
+     * @since 1.0
+     * @return Número de competidores.
+     */
+    public final int getCompetidores() {
+        return competidores;
+    }
+}
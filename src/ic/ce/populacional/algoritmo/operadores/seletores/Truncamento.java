@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmo.operadores.seletores;
+
+import ic.ce.base.Ser;
+
+/**
+ * Seleção por truncamento.
+ *
+ * <p>
+ * Apenas a fração superior da população – os f·n melhores seres, arredondado, e ao menos
+ * um – pode ser
+ * selecionada, com probabilidades iguais; os demais têm peso nulo.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class Truncamento<G extends Number & Comparable<G>, S extends Ser<G>> extends SeletorPorPosto<G, S> {
+
+    private final double fracao;
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param fracao Fração selecionável da população, em (0,1].
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Caso a fração não esteja em (0,1].</li>
+     * </ul>
+     */
+    public Truncamento(double fracao) {
+        if (!(fracao > 0) || fracao > 1) {
+            throw new IllegalArgumentException("Fração deve estar em (0,1].");
+        }
+        this.fracao = fracao;
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    protected double[] pesosPorPosto(int n) {
+        double[] pesos = new double[n];
+        int selecionaveis = Math.max(1, (int) Math.round(fracao * n));
+        for (int i = n - selecionaveis; i < n; i++) {
+            pesos[i] = 1.0;
+        }
+        return pesos;
+    }
+
+    /**
+     * Recupera a fração selecionável.
+     *
+     * @since 1.0
+     * @return Fração.
+     */
+    public final double getFracao() {
+        return fracao;
+    }
+}
@@ -0,0 +1,556 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmos.CMAES;
+
+import ic.ce.base.utilidades.AlgebraLinear;
+import ic.ce.base.utilidades.Ordenacao;
+import ic.ce.populacional.algoritmo.AlgoritmoPopulacional;
+import ic.ce.populacional.algoritmo.metricas.Fase;
+import ic.ce.seres.reais.SerReal;
+import static java.lang.Math.exp;
+import static java.lang.Math.log;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.pow;
+import static java.lang.Math.sqrt;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Algoritmo evolucionário: CMA-ES.
+ *
+ * <p>
+ * Estratégia evolutiva com adaptação da matriz de covariância, (μ/μ<sub>w</sub>,
+ * λ)-CMA-ES, com atualizações de posto um e posto μ.
+ * </p>
+ * <p>
+ * O estado do algoritmo (média, caminhos de evolução, matriz de covariância e
+ * sua decomposição) é mantido em arrays primitivos; a população contém apenas
+ * os λ seres da geração corrente. A decomposição espectral, O(n³), é realizada
+ * apenas a cada <i>k</i> gerações – por padrão, k = 1/(10·n·(c<sub>1</sub> +
+ * c<sub>μ</sub>)).
+ * </p>
+ * <p>
+ * Opcionalmente, reinícios com população crescente (IPOP-CMA-ES) são realizados
+ * ao se detectar estagnação: a cada reinício, λ é multiplicado pelo fator de
+ * crescimento e a busca recomeça a partir de um ser aleatório.
+ * </p>
+ *
+ * Características:
+ * <ul>
+ * <li>Forma de Representação: Codificação real;</li>
+ * <li>Geração: Amostragem de uma distribuição normal multivariada;</li>
+ * <li>Seleção dos Sobreviventes: Recombinação ponderada dos μ melhores.</li>
+ * </ul>
+ *
+ * <p>
+ * A média inicial é o melhor ser da população inicial; os limites dos locus
+ * são obtidos do mesmo ser. Amostras fora dos limites são ajustadas ao limite
+ * mais próximo.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class CMAES<G extends Number & Comparable<G>, S extends SerReal<G>> extends AlgoritmoPopulacional<G, S> {
+
+    private final double sigmaInicial;
+    private Integer lambdaInicial;
+    private int intervaloDecomposicao = 0;
+    private int maxReinicios = 0;
+    private double fatorCrescimento = 2.0;
+    private double toleranciaX = 1e-12;
+    private double toleranciaGrau = 1e-12;
+
+    //Estado
+    private int n;
+    private int lambda;
+    private int mu;
+    private double[] pesos;
+    private double mueff, cc, cs, c1, cmu, damps, chiN;
+    private double sigma;
+    private double[] media;
+    private double[] pc;
+    private double[] ps;
+    private double[] autovalores;
+    private double[][] c;
+    private double[][] b;
+    private double[][] invSqrtC;
+    private double[][] amostras;
+    private double[] limitesInferiores;
+    private double[] limitesSuperiores;
+    private int geracao;
+    private int ultimaDecomposicao;
+    private int intervaloEfetivo;
+    private int reinicios;
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param sigmaInicial Passo inicial (σ<sub>0</sub>), aproximadamente 1/3
+     * do intervalo de busca.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se σ<sub>0</sub> não for positivo.</li>
+     * </ul>
+     */
+    public CMAES(double sigmaInicial) {
+        if (!(sigmaInicial > 0)) {
+            throw new IllegalArgumentException("σ inicial deve ser maior que zero.");
+        }
+        this.sigmaInicial = sigmaInicial;
+        setNome("CMA-ES");
+    }
+
+    @Override
+    protected void inicia() {
+        super.inicia();
+
+        S melhor = getPopulacao().getMelhor();
+        n = melhor.getSize();
+        limitesInferiores = melhor.getLimitesInferiores();
+        limitesSuperiores = melhor.getLimitesSuperiores();
+        lambda = (lambdaInicial != null) ? lambdaInicial : 4 + (int) (3 * log(n));
+        reinicios = 0;
+
+        configura(melhor.getValores());
+    }
+
+    /**
+     * Configura os parâmetros e reinicia o estado da distribuição.
+     *
+     * @param mediaInicial Média inicial da distribuição.
+     */
+    private void configura(double[] mediaInicial) {
+        mu = lambda / 2;
+        pesos = new double[mu];
+        double soma = 0;
+        for (int i = 0; i < mu; i++) {
+            pesos[i] = log(lambda / 2.0 + 0.5) - log(i + 1);
+            soma += pesos[i];
+        }
+        double somaQuadrados = 0;
+        for (int i = 0; i < mu; i++) {
+            pesos[i] /= soma;
+            somaQuadrados += pesos[i] * pesos[i];
+        }
+        mueff = 1.0 / somaQuadrados;
+
+        cc = (4 + mueff / n) / (n + 4 + 2 * mueff / n);
+        cs = (mueff + 2) / (n + mueff + 5);
+        c1 = 2 / ((n + 1.3) * (n + 1.3) + mueff);
+        cmu = min(1 - c1, 2 * (mueff - 2 + 1 / mueff) / ((n + 2) * (n + 2) + mueff));
+        damps = 1 + 2 * max(0, sqrt((mueff - 1) / (n + 1)) - 1) + cs;
+        chiN = sqrt(n) * (1 - 1.0 / (4 * n) + 1.0 / (21.0 * n * n));
+
+        intervaloEfetivo = (intervaloDecomposicao > 0)
+                ? intervaloDecomposicao
+                : max(1, (int) (1 / ((c1 + cmu) * n * 10)));
+
+        sigma = sigmaInicial;
+        media = mediaInicial.clone();
+        pc = new double[n];
+        ps = new double[n];
+        autovalores = new double[n];
+        Arrays.fill(autovalores, 1.0);
+        c = AlgebraLinear.identidade(n);
+        b = AlgebraLinear.identidade(n);
+        invSqrtC = AlgebraLinear.identidade(n);
+        amostras = new double[lambda][n];
+        geracao = 0;
+        ultimaDecomposicao = 0;
+    }
+
+    @Override
+    public void iteracao() {
+        long t = System.nanoTime();
+
+        List<S> filhos = IntStream.range(0, lambda).parallel()
+                .mapToObj(k -> amostra(amostras[k]))
+                .collect(Collectors.toList());
+        t = registraFase(Fase.MUTACAO, t);
+
+        getAmbiente().avalia(filhos);
+        t = registraFase(Fase.AVALIACAO, t);
+
+        Integer[] ordem = new Integer[lambda];
+        for (int k = 0; k < lambda; k++) {
+            ordem[k] = k;
+        }
+        Ordenacao.selecionaMaiores(ordem, mu, (k1, k2) -> getAmbiente().compare(filhos.get(k1), filhos.get(k2)));
+        t = registraFase(Fase.SELECAO, t);
+
+        atualiza(ordem);
+        t = registraFase(Fase.RECOMBINACAO, t);
+
+        getPopulacao().setIndividuos(filhos);
+
+        if (reinicios < maxReinicios && estagnou(filhos)) {
+            reinicia();
+        }
+        registraFase(Fase.SUBSTITUICAO, t);
+    }
+
+    /**
+     * Amostra um novo ser: x = m + σ·B·D·z, z ~ N(0, I).
+     *
+     * @param x Array de destino da amostra.
+     * @return Novo ser, não avaliado.
+     */
+    private S amostra(double[] x) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+
+        double[] dz = new double[n];
+        for (int j = 0; j < n; j++) {
+            dz[j] = sqrt(autovalores[j]) * aleatorio.nextGaussian();
+        }
+
+        for (int i = 0; i < n; i++) {
+            double[] linha = b[i];
+            double y = 0;
+            for (int j = 0; j < n; j++) {
+                y += linha[j] * dz[j];
+            }
+            x[i] = SerReal.ajusta(media[i] + sigma * y, limitesInferiores[i], limitesSuperiores[i]);
+        }
+
+        S ser = getGerador().get();
+        ser.setValores(x, limitesInferiores, limitesSuperiores);
+        return ser;
+    }
+
+    /**
+     * Atualiza média, caminhos de evolução, covariância e passo.
+     *
+     * @param ordem Índices das amostras; os μ primeiros são os melhores, em
+     * ordem decrescente de adaptação.
+     */
+    private void atualiza(Integer[] ordem) {
+        double[] anterior = media;
+        media = new double[n];
+        for (int k = 0; k < mu; k++) {
+            double[] x = amostras[ordem[k]];
+            double w = pesos[k];
+            for (int i = 0; i < n; i++) {
+                media[i] += w * x[i];
+            }
+        }
+
+        double[] yw = new double[n];
+        for (int i = 0; i < n; i++) {
+            yw[i] = (media[i] - anterior[i]) / sigma;
+        }
+
+        double[] z = new double[n];
+        AlgebraLinear.multiplica(invSqrtC, yw, z);
+
+        double fatorPs = sqrt(cs * (2 - cs) * mueff);
+        for (int i = 0; i < n; i++) {
+            ps[i] = (1 - cs) * ps[i] + fatorPs * z[i];
+        }
+        double normaPs = AlgebraLinear.norma(ps);
+
+        geracao++;
+        boolean hsig = normaPs / sqrt(1 - pow(1 - cs, 2.0 * geracao)) / chiN < 1.4 + 2.0 / (n + 1);
+
+        double fatorPc = hsig ? sqrt(cc * (2 - cc) * mueff) : 0;
+        for (int i = 0; i < n; i++) {
+            pc[i] = (1 - cc) * pc[i] + fatorPc * yw[i];
+        }
+
+        double[][] y = new double[mu][n];
+        for (int k = 0; k < mu; k++) {
+            double[] x = amostras[ordem[k]];
+            for (int i = 0; i < n; i++) {
+                y[k][i] = (x[i] - anterior[i]) / sigma;
+            }
+        }
+
+        double fatorC = 1 - c1 - cmu + (hsig ? 0 : c1 * cc * (2 - cc));
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j <= i; j++) {
+                double postoMu = 0;
+                for (int k = 0; k < mu; k++) {
+                    postoMu += pesos[k] * y[k][i] * y[k][j];
+                }
+                double valor = fatorC * c[i][j] + c1 * pc[i] * pc[j] + cmu * postoMu;
+                c[i][j] = valor;
+                c[j][i] = valor;
+            }
+        }
+
+        sigma *= exp((cs / damps) * (normaPs / chiN - 1));
+
+        if (geracao - ultimaDecomposicao >= intervaloEfetivo) {
+            decompoe();
+        }
+    }
+
+    /**
+     * Decomposição espectral da covariância: C = B·D²·Bᵀ; atualiza C<sup>-½</sup>.
+     */
+    private void decompoe() {
+        ultimaDecomposicao = geracao;
+
+        double[][] vetores = new double[n][];
+        for (int i = 0; i < n; i++) {
+            vetores[i] = c[i].clone();
+        }
+        double[] valores = new double[n];
+        AlgebraLinear.autodecomposicaoSimetrica(vetores, valores);
+
+        double[] inverso = new double[n];
+        for (int k = 0; k < n; k++) {
+            valores[k] = max(valores[k], Double.MIN_NORMAL);
+            inverso[k] = 1.0 / sqrt(valores[k]);
+        }
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j <= i; j++) {
+                double soma = 0;
+                for (int k = 0; k < n; k++) {
+                    soma += vetores[i][k] * inverso[k] * vetores[j][k];
+                }
+                invSqrtC[i][j] = soma;
+                invSqrtC[j][i] = soma;
+            }
+        }
+        b = vetores;
+        autovalores = valores;
+    }
+
+    /**
+     * Verifica critérios de estagnação para reinício.
+     *
+     * <ul>
+     * <li>Graus de adaptação da geração praticamente iguais;</li>
+     * <li>Passos, em todas as coordenadas, menores que a tolerância;</li>
+     * <li>Número de condição da covariância superior a 10<sup>14</sup>;</li>
+     * <li>Passo não finito.</li>
+     * </ul>
+     *
+     * @param filhos Seres da geração corrente, avaliados.
+     * @return true se a busca estagnou.
+     */
+    private boolean estagnou(List<S> filhos) {
+        if (!Double.isFinite(sigma) || sigma <= 0) {
+            return true;
+        }
+
+        double menor = Double.POSITIVE_INFINITY;
+        double maior = Double.NEGATIVE_INFINITY;
+        for (S filho : filhos) {
+            double grau = filho.getGrauDeAdaptacao().doubleValue();
+            menor = min(menor, grau);
+            maior = max(maior, grau);
+        }
+        if (maior - menor <= toleranciaGrau) {
+            return true;
+        }
+
+        boolean passosPequenos = true;
+        for (int i = 0; i < n && passosPequenos; i++) {
+            passosPequenos = sigma * max(Math.abs(pc[i]), sqrt(c[i][i])) < toleranciaX * sigmaInicial;
+        }
+        if (passosPequenos) {
+            return true;
+        }
+
+        double maiorAutovalor = 0;
+        double menorAutovalor = Double.POSITIVE_INFINITY;
+        for (double autovalor : autovalores) {
+            maiorAutovalor = max(maiorAutovalor, autovalor);
+            menorAutovalor = min(menorAutovalor, autovalor);
+        }
+        return maiorAutovalor > 1e14 * menorAutovalor;
+    }
+
+    /**
+     * Reinício IPOP: população aumentada e nova média aleatória.
+     */
+    private void reinicia() {
+        reinicios++;
+        lambda = (int) Math.ceil(lambda * fatorCrescimento);
+        configura(getGerador().getAleatorio().getValores());
+    }
+
+    /**
+     * Verifica as condições necessárias para execução do algoritmo.
+     *
+     * <h3>Condições:</h3>
+     * <ul>
+     * <li>Ambiente definido;</li>
+     * <li>População definida;</li>
+     * <li>Gerador definido.</li>
+     * </ul>
+     *
+     * @since 1.0
+     */
+    @Override
+    protected void verificacaoInicial() throws IllegalStateException {
+        super.verificacaoInicial();
+
+        if (getGerador() == null) {
+            throw new IllegalStateException("Gerador não definido: referencia nula.");
+        }
+    }
+
+    /**
+     * Define o número de amostras por geração (λ) inicial.
+     *
+     * <p>
+     * Padrão: 4 + ⌊3·ln(n)⌋.
+     * </p>
+     *
+     * @since 1.0
+     * @param lambda Número de amostras por geração.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se λ for menor que 2.</li>
+     * </ul>
+     */
+    public final void setLambda(int lambda) {
+        if (lambda < 2) {
+            throw new IllegalArgumentException("λ deve ser maior ou igual a 2.");
+        }
+        this.lambdaInicial = lambda;
+    }
+
+    /**
+     * Define o intervalo, em gerações, entre decomposições da covariância.
+     *
+     * @since 1.0
+     * @param intervalo Número de gerações; 0 para o valor automático.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o intervalo for negativo.</li>
+     * </ul>
+     */
+    public final void setIntervaloDecomposicao(int intervalo) {
+        if (intervalo < 0) {
+            throw new IllegalArgumentException("Intervalo deve ser maior ou igual a zero.");
+        }
+        this.intervaloDecomposicao = intervalo;
+    }
+
+    /**
+     * Habilita reinícios com população crescente (IPOP).
+     *
+     * @since 1.0
+     * @param maxReinicios Número máximo de reinícios; 0 desabilita.
+     * @param fatorCrescimento Fator de multiplicação de λ a cada reinício.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o número de reinícios for negativo;</li>
+     * <li>Se o fator de crescimento for menor que 1.</li>
+     * </ul>
+     */
+    public final void setIPOP(int maxReinicios, double fatorCrescimento) {
+        if (maxReinicios < 0) {
+            throw new IllegalArgumentException("Número de reinícios deve ser maior ou igual a zero.");
+        }
+        if (fatorCrescimento < 1) {
+            throw new IllegalArgumentException("Fator de crescimento deve ser maior ou igual a 1.");
+        }
+        this.maxReinicios = maxReinicios;
+        this.fatorCrescimento = fatorCrescimento;
+    }
+
+    /**
+     * Define as tolerâncias dos critérios de reinício.
+     *
+     * @since 1.0
+     * @param toleranciaX Tolerância relativa (a σ<sub>0</sub>) dos passos.
+     * @param toleranciaGrau Tolerância absoluta da variação dos graus de
+     * adaptação em uma geração.
+     */
+    public final void setTolerancias(double toleranciaX, double toleranciaGrau) {
+        this.toleranciaX = toleranciaX;
+        this.toleranciaGrau = toleranciaGrau;
+    }
+
+    /**
+     * Recupera o passo corrente.
+     *
+     * @since 1.0
+     * @return σ.
+     */
+    public final double getSigma() {
+        return sigma;
+    }
+
+    /**
+     * Recupera o número corrente de amostras por geração.
+     *
+     * @since 1.0
+     * @return λ.
+     */
+    public final int getLambda() {
+        return lambda;
+    }
+
+    /**
+     * Recupera uma cópia da média corrente da distribuição.
+     *
+     * @since 1.0
+     * @return Média.
+     */
+    public final double[] getMedia() {
+        return media.clone();
+    }
+
+    /**
+     * Recupera o número de reinícios realizados.
+     *
+     * @since 1.0
+     * @return Número de reinícios.
+     */
+    public final int getReinicios() {
+        return reinicios;
+    }
+
+    @Override
+    public String relatorio() {
+        StringBuilder relatorio = new StringBuilder(super.relatorio());
+
+        relatorio.append("\tσ:\t" + sigma + "\n");
+        relatorio.append("\tλ:\t" + lambda + "\n");
+        relatorio.append("\tReinícios:\t" + reinicios + "\n");
+
+        return relatorio.toString();
+    }
+}
@@ -27,6 +27,7 @@
 package ic.ce.populacional.algoritmos.DE;
 
 import ic.ce.populacional.algoritmo.AlgoritmoPopulacional;
+import ic.ce.populacional.algoritmo.metricas.Fase;
 import ic.ce.seres.reais.SerReal;
 import java.util.List;
 
@@ -53,14 +54,21 @@ public class DE<G extends Number & Comparable<G>, S extends SerReal<G>> extends
 
     @Override
     public void iteracao() {
+        long t = System.nanoTime();
         
         List<S> novaGeracao = getGerador().getN(getPopulacao().size()); 
         
         getMutador().muta(novaGeracao);
+        t = registraFase(Fase.MUTACAO, t);
                 
         List<S> filhos = getRecombinador().recombinaTodos(novaGeracao);
+        t = registraFase(Fase.RECOMBINACAO, t);
+
+        filhos = aplicaBuscaLocal(filhos);
+        t = registraFase(Fase.BUSCA_LOCAL, t);
     
         getPopulacao().setIndividuos(filhos);
+        registraFase(Fase.SUBSTITUICAO, t);
         
     }
     
@@ -0,0 +1,336 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmos.DE;
+
+import ic.ce.base.utilidades.Ordenacao;
+import ic.ce.populacional.algoritmo.AlgoritmoPopulacional;
+import ic.ce.populacional.algoritmo.metricas.Fase;
+import ic.ce.seres.reais.SerReal;
+import static java.lang.Math.abs;
+import static java.lang.Math.max;
+import static java.lang.Math.round;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Classe base para DE com parâmetros adaptativos.
+ *
+ * <p>
+ * DE/current-to-pbest/1/bin, com arquivo externo de soluções substituídas.
+ * </p>
+ * <p>
+ * Cada iteração ocorre em três fases:
+ * </p>
+ * <ol>
+ * <li>Amostragem dos parâmetros (F, CR) de cada alvo, pela subclasse;</li>
+ * <li>Geração e avaliação de todos os vetores experimentais, em paralelo, sem
+ * modificar a população;</li>
+ * <li>Seleção síncrona: cada experimental substitui seu alvo se não for pior;
+ * os parâmetros bem sucedidos são repassados à subclasse para adaptação.</li>
+ * </ol>
+ * <p>
+ * O vetor doador é: v = x<sub>i</sub> + F·(x<sub>pbest</sub> - x<sub>i</sub>) +
+ * F·(x<sub>r1</sub> - x<sub>r2</sub>), com x<sub>pbest</sub> sorteado entre os
+ * 100p% melhores, x<sub>r1</sub> da população e x<sub>r2</sub> da união da
+ * população com o arquivo. Valores fora dos limites são substituídos pelo ponto
+ * médio entre o limite violado e o valor do alvo.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ *
+ * @see JADE
+ * @see SHADE
+ */
+public abstract class DEAdaptativo<G extends Number & Comparable<G>, S extends SerReal<G>> extends AlgoritmoPopulacional<G, S> {
+
+    private double taxaArquivo = 1.0;
+    private final List<double[]> arquivo = new ArrayList<>();
+
+    @Override
+    public void iteracao() {
+        long t = System.nanoTime();
+
+        List<S> alvos = new ArrayList<>(getPopulacao());
+        int np = alvos.size();
+
+        double[][] vetores = alvos.parallelStream().map(SerReal::getValores).toArray(double[][]::new);
+        double[][] externos = arquivo.toArray(new double[arquivo.size()][]);
+        double[] limitesInferiores = alvos.get(0).getLimitesInferiores();
+        double[] limitesSuperiores = alvos.get(0).getLimitesSuperiores();
+
+        double[] f = new double[np];
+        double[] cr = new double[np];
+        double[] p = new double[np];
+        amostraParametros(f, cr, p);
+
+        double pMaximo = 0;
+        for (double pi : p) {
+            pMaximo = max(pMaximo, pi);
+        }
+        Integer[] ordem = new Integer[np];
+        for (int i = 0; i < np; i++) {
+            ordem[i] = i;
+        }
+        Ordenacao.selecionaMaiores(ordem, Math.min(np, max(1, (int) round(pMaximo * np))),
+                (i1, i2) -> getAmbiente().compare(alvos.get(i1), alvos.get(i2)));
+        t = registraFase(Fase.SELECAO, t);
+
+        List<S> experimentais = IntStream.range(0, np).parallel()
+                .mapToObj(i -> experimental(i, vetores, externos, ordem, f[i], cr[i], p[i], limitesInferiores, limitesSuperiores))
+                .collect(Collectors.toList());
+        t = registraFase(Fase.MUTACAO, t);
+
+        getAmbiente().avalia(experimentais);
+        t = registraFase(Fase.AVALIACAO, t);
+
+        List<S> novaGeracao = new ArrayList<>(np);
+        List<Double> sucessosF = new ArrayList<>();
+        List<Double> sucessosCR = new ArrayList<>();
+        List<Double> melhorias = new ArrayList<>();
+
+        for (int i = 0; i < np; i++) {
+            S alvo = alvos.get(i);
+            S experimental = experimentais.get(i);
+            int comparacao = getAmbiente().compare(experimental.getGrauDeAdaptacao(), alvo.getGrauDeAdaptacao());
+
+            if (comparacao >= 0) {
+                novaGeracao.add(experimental);
+                if (comparacao > 0) {
+                    arquivo.add(vetores[i]);
+                    sucessosF.add(f[i]);
+                    sucessosCR.add(cr[i]);
+                    melhorias.add(abs(experimental.getGrauDeAdaptacao().doubleValue() - alvo.getGrauDeAdaptacao().doubleValue()));
+                }
+            } else {
+                novaGeracao.add(alvo);
+            }
+        }
+
+        limitaArquivo((int) round(taxaArquivo * np));
+        atualizaParametros(sucessosF, sucessosCR, melhorias);
+
+        getPopulacao().setIndividuos(novaGeracao);
+        registraFase(Fase.SUBSTITUICAO, t);
+    }
+
+    /**
+     * Gera um vetor experimental: current-to-pbest/1 com recombinação binomial.
+     */
+    private S experimental(int i, double[][] vetores, double[][] externos, Integer[] ordem,
+            double f, double cr, double p, double[] limitesInferiores, double[] limitesSuperiores) {
+
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        int np = vetores.length;
+        int n = limitesInferiores.length;
+
+        int pbest = ordem[aleatorio.nextInt(max(1, (int) round(p * np)))];
+
+        int r1;
+        do {
+            r1 = aleatorio.nextInt(np);
+        } while (r1 == i);
+
+        int r2;
+        do {
+            r2 = aleatorio.nextInt(np + externos.length);
+        } while (r2 == i || r2 == r1);
+
+        double[] alvo = vetores[i];
+        double[] melhor = vetores[pbest];
+        double[] a = vetores[r1];
+        double[] b = (r2 < np) ? vetores[r2] : externos[r2 - np];
+
+        double[] resultado = new double[n];
+        int jAleatorio = aleatorio.nextInt(n);
+        for (int j = 0; j < n; j++) {
+            if (j == jAleatorio || aleatorio.nextDouble() < cr) {
+                double valor = alvo[j] + f * (melhor[j] - alvo[j]) + f * (a[j] - b[j]);
+                if (valor < limitesInferiores[j]) {
+                    valor = (limitesInferiores[j] + alvo[j]) / 2;
+                } else if (valor >= limitesSuperiores[j]) {
+                    valor = (limitesSuperiores[j] + alvo[j]) / 2;
+                }
+                resultado[j] = valor;
+            } else {
+                resultado[j] = alvo[j];
+            }
+        }
+
+        S experimental = getGerador().get();
+        experimental.setValores(resultado, limitesInferiores, limitesSuperiores);
+        return experimental;
+    }
+
+    /**
+     * Remove elementos aleatórios do arquivo até o tamanho máximo.
+     *
+     * @param tamanhoMaximo Tamanho máximo do arquivo.
+     */
+    private void limitaArquivo(int tamanhoMaximo) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        while (arquivo.size() > tamanhoMaximo) {
+            int indice = aleatorio.nextInt(arquivo.size());
+            arquivo.set(indice, arquivo.get(arquivo.size() - 1));
+            arquivo.remove(arquivo.size() - 1);
+        }
+    }
+
+    /**
+     * Amostra os parâmetros de controle de cada alvo da iteração.
+     *
+     * <p>
+     * Chamado uma vez por iteração, antes da geração – sequencialmente – dos
+     * vetores experimentais.
+     * </p>
+     *
+     * @since 1.0
+     * @param f Fator de perturbação de cada alvo, a ser preenchido.
+     * @param cr Probabilidade de crossover de cada alvo, a ser preenchida.
+     * @param p Fração dos melhores para escolha de x<sub>pbest</sub>, a ser
+     * preenchida.
+     */
+    protected abstract void amostraParametros(double[] f, double[] cr, double[] p);
+
+    /**
+     * Adapta os parâmetros de controle a partir dos sucessos da iteração.
+     *
+     * @since 1.0
+     * @param sucessosF Fatores de perturbação que geraram melhoras.
+     * @param sucessosCR Probabilidades de crossover que geraram melhoras.
+     * @param melhorias Melhora absoluta do grau de adaptação obtida por cada
+     * sucesso.
+     */
+    protected abstract void atualizaParametros(List<Double> sucessosF, List<Double> sucessosCR, List<Double> melhorias);
+
+    /**
+     * Define o tamanho do arquivo externo, relativo ao tamanho da população.
+     *
+     * @since 1.0
+     * @param taxaArquivo Razão entre os tamanhos do arquivo e da população; 0
+     * desabilita o arquivo.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se a taxa for negativa.</li>
+     * </ul>
+     */
+    public final void setTaxaArquivo(double taxaArquivo) {
+        if (taxaArquivo < 0) {
+            throw new IllegalArgumentException("Taxa do arquivo deve ser maior ou igual a zero.");
+        }
+        this.taxaArquivo = taxaArquivo;
+    }
+
+    /**
+     * Recupera o tamanho do arquivo, relativo ao tamanho da população.
+     *
+     * @since 1.0
+     * @return Taxa do arquivo.
+     */
+    public final double getTaxaArquivo() {
+        return taxaArquivo;
+    }
+
+    /**
+     * Recupera o número de soluções no arquivo externo.
+     *
+     * @since 1.0
+     * @return Tamanho do arquivo.
+     */
+    public final int getTamanhoArquivo() {
+        return arquivo.size();
+    }
+
+    /**
+     * Amostra de uma distribuição de Cauchy.
+     *
+     * @since 1.0
+     * @param locacao Parâmetro de locação.
+     * @param escala Parâmetro de escala.
+     * @return Valor sorteado.
+     */
+    protected static double cauchy(double locacao, double escala) {
+        return locacao + escala * Math.tan(Math.PI * (ThreadLocalRandom.current().nextDouble() - 0.5));
+    }
+
+    /**
+     * Amostra F: Cauchy, truncada em 1 e repetida enquanto não positiva.
+     *
+     * @since 1.0
+     * @param locacao Locação da distribuição.
+     * @return F em (0, 1].
+     */
+    protected static double amostraF(double locacao) {
+        double f;
+        do {
+            f = cauchy(locacao, 0.1);
+        } while (f <= 0);
+        return Math.min(f, 1.0);
+    }
+
+    /**
+     * Amostra CR: normal com desvio 0.1, limitada a [0, 1].
+     *
+     * @since 1.0
+     * @param media Média da distribuição.
+     * @return CR em [0, 1].
+     */
+    protected static double amostraCR(double media) {
+        double cr = media + 0.1 * ThreadLocalRandom.current().nextGaussian();
+        return Math.min(1.0, max(0.0, cr));
+    }
+
+    /**
+     * Verifica as condições necessárias para execução do algoritmo.
+     *
+     * <h3>Condições:</h3>
+     * <ul>
+     * <li>Ambiente definido;</li>
+     * <li>População definida, com ao menos 4 seres;</li>
+     * <li>Gerador definido.</li>
+     * </ul>
+     *
+     * @since 1.0
+     */
+    @Override
+    protected void verificacaoInicial() throws IllegalStateException {
+        super.verificacaoInicial();
+
+        if (getGerador() == null) {
+            throw new IllegalStateException("Gerador não definido: referencia nula.");
+        }
+        if (getPopulacao().size() < 4) {
+            throw new IllegalStateException("População deve conter ao menos 4 seres.");
+        }
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmos.DE;
+
+import ic.ce.populacional.algoritmo.AlgoritmoPopulacional;
+import ic.ce.populacional.algoritmo.metricas.Fase;
+import ic.ce.seres.reais.AvaliadorDeMatriz;
+import ic.ce.seres.reais.AvaliadorVetorial;
+import ic.ce.seres.reais.SerReal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Algoritmo evolucionário: DE vetorizado.
+ *
+ * <p>
+ * DE/rand/1 ou DE/best/1, com recombinação binomial ou exponencial.
+ * </p>
+ * <p>
+ * A população é armazenada como uma matriz NP×D contígua (<code>double[]</code>,
+ * linha <i>i</i> em [i·D, (i+1)·D)). Doadores e vetores experimentais são
+ * calculados linha a linha em um buffer reutilizado, para cada alvo em ordem,
+ * e a seleção é síncrona: todos os experimentais são gerados a partir da
+ * geração corrente antes de qualquer substituição.
+ * </p>
+ * <p>
+ * Se o ambiente implementar {@link AvaliadorVetorial}, as linhas são avaliadas
+ * diretamente; caso contrário, cada thread reutiliza um ser de trabalho, cujos
+ * locus são sobrescritos antes da avaliação. Seres são criados apenas para os
+ * experimentais vencedores, para manter a população – usada em relatórios e no
+ * controle do melhor ser – sincronizada com a matriz.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class DEVetorial<G extends Number & Comparable<G>, S extends SerReal<G>> extends AlgoritmoPopulacional<G, S> {
+
+    /**
+     * Escolha do vetor base.
+     */
+    public enum Base {
+
+        /**
+         * DE/rand: base aleatória.
+         */
+        RAND,
+        /**
+         * DE/best: melhor ser da geração.
+         */
+        MELHOR
+    };
+
+    /**
+     * Esquema de recombinação.
+     */
+    public enum Recombinacao {
+
+        /**
+         * Cada componente é herdado do doador com probabilidade CR.
+         */
+        BINOMIAL,
+        /**
+         * Bloco contíguo, circular, herdado do doador.
+         */
+        EXPONENCIAL
+    };
+
+    private final double fatorDePerturbacao;
+    private final double probabilidadeDeCrossover;
+    private final Base base;
+    private final Recombinacao recombinacao;
+
+    private int np;
+    private int d;
+    private double[] matriz;
+    private double[] experimentais;
+    private G[] graus;
+    private G[] grausExperimentais;
+    private boolean[] substituidos;
+    private List<S> seres;
+    private double[] limitesInferiores;
+    private double[] limitesSuperiores;
+    private AvaliadorDeMatriz<G, S> avaliador;
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param fatorDePerturbacao Fator F.
+     * @param probabilidadeDeCrossover Probabilidade CR.
+     * @param base Escolha do vetor base.
+     * @param recombinacao Esquema de recombinação.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se F não for positivo;</li>
+     * <li>Se CR não estiver em [0, 1].</li>
+     * </ul>
+     */
+    public DEVetorial(double fatorDePerturbacao, double probabilidadeDeCrossover, Base base, Recombinacao recombinacao) {
+        if (fatorDePerturbacao <= 0) {
+            throw new IllegalArgumentException("Fator de perturbação deve ser maior que zero.");
+        }
+        if (probabilidadeDeCrossover < 0 || probabilidadeDeCrossover > 1) {
+            throw new IllegalArgumentException("Probabilidade de crossover deve estar em [0, 1].");
+        }
+        this.fatorDePerturbacao = fatorDePerturbacao;
+        this.probabilidadeDeCrossover = probabilidadeDeCrossover;
+        this.base = base;
+        this.recombinacao = recombinacao;
+        setNome("DE/" + ((base == Base.RAND) ? "rand" : "best") + "/1/" + ((recombinacao == Recombinacao.BINOMIAL) ? "bin" : "exp"));
+    }
+
+    @Override
+    protected void inicia() {
+        super.inicia();
+
+        S primeiro = getPopulacao().getMelhor();
+        np = getPopulacao().size();
+        d = primeiro.getSize();
+        limitesInferiores = primeiro.getLimitesInferiores();
+        limitesSuperiores = primeiro.getLimitesSuperiores();
+
+        matriz = new double[np * d];
+        experimentais = new double[np * d];
+        graus = AvaliadorDeMatriz.novoVetorDeGraus(np);
+        grausExperimentais = AvaliadorDeMatriz.novoVetorDeGraus(np);
+        substituidos = new boolean[np];
+        seres = new ArrayList<>(getPopulacao());
+
+        for (int i = 0; i < np; i++) {
+            S ser = seres.get(i);
+            ser.copiaValores(matriz, i * d);
+            graus[i] = ser.getGrauDeAdaptacao();
+        }
+
+        avaliador = new AvaliadorDeMatriz<>(getAmbiente(), getGerador(), limitesInferiores, limitesSuperiores);
+    }
+
+    @Override
+    public void iteracao() {
+        long t = System.nanoTime();
+
+        int melhor = (base == Base.MELHOR) ? indiceMelhor() : -1;
+
+        IntStream.range(0, np).parallel().forEach(i -> geraExperimental(i, melhor));
+        t = registraFase(Fase.MUTACAO, t);
+
+        IntStream.range(0, np).parallel().forEach(i -> grausExperimentais[i] = avaliador.avalia(experimentais, i * d));
+        t = registraFase(Fase.AVALIACAO, t);
+
+        IntStream.range(0, np).parallel().forEach(i -> {
+            substituidos[i] = getAmbiente().compare(grausExperimentais[i], graus[i]) >= 0;
+            if (substituidos[i]) {
+                System.arraycopy(experimentais, i * d, matriz, i * d, d);
+                graus[i] = grausExperimentais[i];
+            }
+        });
+
+        if (avaliador.sincroniza(seres, matriz, graus, substituidos)) {
+            getPopulacao().setIndividuos(seres);
+        }
+        registraFase(Fase.SUBSTITUICAO, t);
+    }
+
+    /**
+     * Calcula o vetor experimental do alvo <i>i</i> no buffer de
+     * experimentais.
+     *
+     * @param i Índice do alvo.
+     * @param melhor Índice do melhor ser, para DE/best.
+     */
+    private void geraExperimental(int i, int melhor) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+
+        int r0;
+        int r1;
+        int r2;
+        do {
+            r0 = (melhor >= 0) ? melhor : aleatorio.nextInt(np);
+        } while (r0 == i && melhor < 0);
+        do {
+            r1 = aleatorio.nextInt(np);
+        } while (r1 == i || r1 == r0);
+        do {
+            r2 = aleatorio.nextInt(np);
+        } while (r2 == i || r2 == r0 || r2 == r1);
+
+        int alvo = i * d;
+        int linhaBase = r0 * d;
+        int linha1 = r1 * d;
+        int linha2 = r2 * d;
+
+        System.arraycopy(matriz, alvo, experimentais, alvo, d);
+
+        int j = aleatorio.nextInt(d);
+        if (recombinacao == Recombinacao.BINOMIAL) {
+            int jAleatorio = j;
+            for (j = 0; j < d; j++) {
+                if (j == jAleatorio || aleatorio.nextDouble() < probabilidadeDeCrossover) {
+                    experimentais[alvo + j] = doador(linhaBase, linha1, linha2, j);
+                }
+            }
+        } else {
+            int l = 0;
+            do {
+                experimentais[alvo + j] = doador(linhaBase, linha1, linha2, j);
+                j = (j + 1) % d;
+                l++;
+            } while (l < d && aleatorio.nextDouble() < probabilidadeDeCrossover);
+        }
+    }
+
+    /**
+     * Componente <i>j</i> do doador: x<sub>r0</sub> + F·(x<sub>r1</sub> -
+     * x<sub>r2</sub>), limitado ao domínio.
+     */
+    private double doador(int linhaBase, int linha1, int linha2, int j) {
+        double valor = matriz[linhaBase + j] + fatorDePerturbacao * (matriz[linha1 + j] - matriz[linha2 + j]);
+        return SerReal.ajusta(valor, limitesInferiores[j], limitesSuperiores[j]);
+    }
+
+    /**
+     * Índice do melhor ser da matriz.
+     *
+     * @return Índice da linha mais adaptada.
+     */
+    private int indiceMelhor() {
+        int melhor = 0;
+        for (int i = 1; i < np; i++) {
+            if (getAmbiente().compare(graus[i], graus[melhor]) > 0) {
+                melhor = i;
+            }
+        }
+        return melhor;
+    }
+
+    /**
+     * Recupera uma cópia da matriz da população.
+     *
+     * @since 1.0
+     * @return Matriz NP×D, armazenada por linhas.
+     */
+    public final double[] getMatriz() {
+        return matriz.clone();
+    }
+
+    /**
+     * Verifica as condições necessárias para execução do algoritmo.
+     *
+     * <h3>Condições:</h3>
+     * <ul>
+     * <li>Ambiente definido;</li>
+     * <li>População definida, com ao menos 4 seres;</li>
+     * <li>Gerador definido.</li>
+     * </ul>
+     *
+     * @since 1.0
+     */
+    @Override
+    protected void verificacaoInicial() throws IllegalStateException {
+        super.verificacaoInicial();
+
+        if (getGerador() == null) {
+            throw new IllegalStateException("Gerador não definido: referencia nula.");
+        }
+        if (getPopulacao().size() < 4) {
+            throw new IllegalStateException("População deve conter ao menos 4 seres.");
+        }
+    }
+}
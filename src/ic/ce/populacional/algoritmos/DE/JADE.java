@@ -0,0 +1,150 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmos.DE;
+
+import ic.ce.seres.reais.SerReal;
+import java.util.List;
+
+/**
+ * Algoritmo evolucionário: JADE.
+ *
+ * <p>
+ * DE adaptativo: F ~ Cauchy(μ<sub>F</sub>, 0.1) e CR ~ N(μ<sub>CR</sub>, 0.1).
+ * Após cada iteração: μ<sub>CR</sub> = (1-c)·μ<sub>CR</sub> +
+ * c·média(S<sub>CR</sub>) e μ<sub>F</sub> = (1-c)·μ<sub>F</sub> +
+ * c·média<sub>Lehmer</sub>(S<sub>F</sub>).
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class JADE<G extends Number & Comparable<G>, S extends SerReal<G>> extends DEAdaptativo<G, S> {
+
+    private final double c;
+    private final double p;
+    private double mediaF = 0.5;
+    private double mediaCR = 0.5;
+
+    /**
+     * Construtor.
+     *
+     * <p>
+     * Parâmetros padrão: c = 0.1 e p = 0.05.
+     * </p>
+     *
+     * @since 1.0
+     */
+    public JADE() {
+        this(0.1, 0.05);
+    }
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param c Taxa de aprendizado das médias.
+     * @param p Fração dos melhores para escolha de x<sub>pbest</sub>.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se c não estiver em [0, 1];</li>
+     * <li>Se p não estiver em (0, 1].</li>
+     * </ul>
+     */
+    public JADE(double c, double p) {
+        if (c < 0 || c > 1) {
+            throw new IllegalArgumentException("Taxa de aprendizado deve estar em [0, 1].");
+        }
+        if (p <= 0 || p > 1) {
+            throw new IllegalArgumentException("Fração p deve estar em (0, 1].");
+        }
+        this.c = c;
+        this.p = p;
+        setNome("JADE");
+    }
+
+    @Override
+    protected void amostraParametros(double[] f, double[] cr, double[] p) {
+        for (int i = 0; i < f.length; i++) {
+            f[i] = amostraF(mediaF);
+            cr[i] = amostraCR(mediaCR);
+            p[i] = this.p;
+        }
+    }
+
+    @Override
+    protected void atualizaParametros(List<Double> sucessosF, List<Double> sucessosCR, List<Double> melhorias) {
+        if (sucessosF.isEmpty()) {
+            return;
+        }
+
+        double somaCR = 0;
+        double somaF = 0;
+        double somaF2 = 0;
+        for (int i = 0; i < sucessosF.size(); i++) {
+            double f = sucessosF.get(i);
+            somaF += f;
+            somaF2 += f * f;
+            somaCR += sucessosCR.get(i);
+        }
+
+        mediaCR = (1 - c) * mediaCR + c * somaCR / sucessosCR.size();
+        mediaF = (1 - c) * mediaF + c * somaF2 / somaF;
+    }
+
+    /**
+     * Recupera a média corrente de F.
+     *
+     * @since 1.0
+     * @return μ<sub>F</sub>.
+     */
+    public final double getMediaF() {
+        return mediaF;
+    }
+
+    /**
+     * Recupera a média corrente de CR.
+     *
+     * @since 1.0
+     * @return μ<sub>CR</sub>.
+     */
+    public final double getMediaCR() {
+        return mediaCR;
+    }
+
+    @Override
+    public String relatorio() {
+        StringBuilder relatorio = new StringBuilder(super.relatorio());
+
+        relatorio.append("\tμF:\t" + mediaF + "\n");
+        relatorio.append("\tμCR:\t" + mediaCR + "\n");
+
+        return relatorio.toString();
+    }
+}
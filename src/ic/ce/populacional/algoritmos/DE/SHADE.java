@@ -0,0 +1,154 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmos.DE;
+
+import ic.ce.seres.reais.SerReal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Algoritmo evolucionário: SHADE.
+ *
+ * <p>
+ * DE adaptativo baseado em histórico de sucessos: memórias circulares
+ * M<sub>F</sub> e M<sub>CR</sub>, de tamanho H. Cada alvo sorteia uma posição
+ * r da memória: F ~ Cauchy(M<sub>F,r</sub>, 0.1) e CR ~ N(M<sub>CR,r</sub>,
+ * 0.1). A fração p é sorteada em [2/NP, 0.2] para cada alvo.
+ * </p>
+ * <p>
+ * Após cada iteração com sucessos, a posição corrente da memória recebe as
+ * médias ponderadas pela melhora obtida: aritmética para CR e de Lehmer para
+ * F.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class SHADE<G extends Number & Comparable<G>, S extends SerReal<G>> extends DEAdaptativo<G, S> {
+
+    private final double[] memoriaF;
+    private final double[] memoriaCR;
+    private int posicao = 0;
+
+    /**
+     * Construtor.
+     *
+     * <p>
+     * Memória com H = 100 posições.
+     * </p>
+     *
+     * @since 1.0
+     */
+    public SHADE() {
+        this(100);
+    }
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param tamanhoMemoria Número de posições das memórias (H).
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o tamanho da memória for menor ou igual a zero.</li>
+     * </ul>
+     */
+    public SHADE(int tamanhoMemoria) {
+        if (tamanhoMemoria <= 0) {
+            throw new IllegalArgumentException("Tamanho da memória deve ser maior que zero.");
+        }
+        memoriaF = new double[tamanhoMemoria];
+        memoriaCR = new double[tamanhoMemoria];
+        Arrays.fill(memoriaF, 0.5);
+        Arrays.fill(memoriaCR, 0.5);
+        setNome("SHADE");
+    }
+
+    @Override
+    protected void amostraParametros(double[] f, double[] cr, double[] p) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        double pMinimo = 2.0 / f.length;
+
+        for (int i = 0; i < f.length; i++) {
+            int r = aleatorio.nextInt(memoriaF.length);
+            f[i] = amostraF(memoriaF[r]);
+            cr[i] = amostraCR(memoriaCR[r]);
+            p[i] = (pMinimo < 0.2) ? aleatorio.nextDouble(pMinimo, 0.2) : pMinimo;
+        }
+    }
+
+    @Override
+    protected void atualizaParametros(List<Double> sucessosF, List<Double> sucessosCR, List<Double> melhorias) {
+        if (sucessosF.isEmpty()) {
+            return;
+        }
+
+        double somaMelhorias = 0;
+        for (double melhoria : melhorias) {
+            somaMelhorias += melhoria;
+        }
+
+        double mediaCR = 0;
+        double somaF = 0;
+        double somaF2 = 0;
+        for (int i = 0; i < sucessosF.size(); i++) {
+            double peso = (somaMelhorias > 0) ? melhorias.get(i) / somaMelhorias : 1.0 / sucessosF.size();
+            double f = sucessosF.get(i);
+            mediaCR += peso * sucessosCR.get(i);
+            somaF += peso * f;
+            somaF2 += peso * f * f;
+        }
+
+        memoriaCR[posicao] = mediaCR;
+        memoriaF[posicao] = somaF2 / somaF;
+        posicao = (posicao + 1) % memoriaF.length;
+    }
+
+    /**
+     * Recupera uma cópia da memória de F.
+     *
+     * @since 1.0
+     * @return M<sub>F</sub>.
+     */
+    public final double[] getMemoriaF() {
+        return memoriaF.clone();
+    }
+
+    /**
+     * Recupera uma cópia da memória de CR.
+     *
+     * @since 1.0
+     * @return M<sub>CR</sub>.
+     */
+    public final double[] getMemoriaCR() {
+        return memoriaCR.clone();
+    }
+}
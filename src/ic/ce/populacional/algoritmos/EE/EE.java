@@ -0,0 +1,222 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmos.EE;
+
+import ic.ce.base.utilidades.Ordenacao;
+import ic.ce.populacional.algoritmo.AlgoritmoPopulacional;
+import ic.ce.populacional.algoritmo.metricas.Fase;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Algoritmo evolucionário: Estratégias Evolutivas (EE).
+ *
+ * <p>
+ * (μ+λ)-EE ou (μ,λ)-EE com passos auto adaptativos.
+ * </p>
+ * <p>
+ * A cada iteração, λ filhos são criados em paralelo: cada um copia um pai
+ * sorteado uniformemente entre os μ seres da população e sofre mutação pelo
+ * operador de mutação do algoritmo – tipicamente
+ * {@link ic.ce.populacional.algoritmos.EE.mutadores.MutadorAutoAdaptativo}.
+ * </p>
+ * <p>
+ * Os μ sobreviventes são escolhidos por truncamento, entre os filhos (μ,λ) ou
+ * entre pais e filhos (μ+λ). A seleção é feita por ordenação parcial, sem
+ * ordenar todos os candidatos.
+ * </p>
+ *
+ * Características:
+ * <ul>
+ * <li>Forma de Representação: Codificação real com passos;</li>
+ * <li>Operador de Mutação: Gaussiana auto adaptativa;</li>
+ * <li>Seleção dos Pais: Aleatória uniforme;</li>
+ * <li>Seleção dos Sobreviventes: Determinística, truncamento.</li>
+ * </ul>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ *
+ * @see Ordenacao#selecionaMaiores(java.lang.Object[], int,
+ * java.util.Comparator)
+ */
+public class EE<G extends Number & Comparable<G>, S extends SerEE<G>> extends AlgoritmoPopulacional<G, S> {
+
+    /**
+     * Esquema de seleção dos sobreviventes.
+     */
+    public enum Selecao {
+
+        /**
+         * (μ+λ): pais competem com os filhos.
+         */
+        MAIS,
+        /**
+         * (μ,λ): apenas filhos sobrevivem.
+         */
+        VIRGULA
+    };
+
+    private final int mu;
+    private final int lambda;
+    private final Selecao selecao;
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param mu Número de pais (sobreviventes).
+     * @param lambda Número de filhos por iteração.
+     * @param selecao Esquema de seleção: (μ+λ) ou (μ,λ).
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se μ ou λ forem menores ou iguais a zero;</li>
+     * <li>Se λ for menor que μ em uma seleção (μ,λ).</li>
+     * </ul>
+     */
+    public EE(int mu, int lambda, Selecao selecao) {
+        if (mu <= 0 || lambda <= 0) {
+            throw new IllegalArgumentException("μ e λ devem ser maiores que zero.");
+        }
+        if (selecao == Selecao.VIRGULA && lambda < mu) {
+            throw new IllegalArgumentException("λ deve ser maior ou igual a μ na seleção (μ,λ).");
+        }
+        this.mu = mu;
+        this.lambda = lambda;
+        this.selecao = selecao;
+        setNome("EE(" + mu + ((selecao == Selecao.MAIS) ? "+" : ",") + lambda + ")");
+    }
+
+    @Override
+    public void iteracao() {
+        long t = System.nanoTime();
+
+        List<S> pais = new ArrayList<>(getPopulacao());
+
+        List<S> filhos = IntStream.range(0, lambda).parallel()
+                .mapToObj(i -> geraFilho(pais))
+                .collect(Collectors.toList());
+        t = registraFase(Fase.MUTACAO, t);
+
+        getAmbiente().avalia(filhos);
+        t = registraFase(Fase.AVALIACAO, t);
+
+        List<S> candidatos = filhos;
+        if (selecao == Selecao.MAIS) {
+            candidatos = new ArrayList<>(lambda + pais.size());
+            candidatos.addAll(filhos);
+            candidatos.addAll(pais);
+        }
+
+        @SuppressWarnings("unchecked")
+        S[] selecionados = candidatos.toArray((S[]) new SerEE[candidatos.size()]);
+        int sobreviventes = Math.min(mu, selecionados.length);
+
+        Ordenacao.selecionaMaiores(selecionados, sobreviventes, getAmbiente());
+
+        getPopulacao().setIndividuos(Arrays.asList(selecionados).subList(0, sobreviventes));
+        registraFase(Fase.SUBSTITUICAO, t);
+    }
+
+    /**
+     * Cria um filho: cópia mutada de um pai sorteado.
+     *
+     * @param pais Pais disponíveis.
+     * @return Novo ser, não avaliado.
+     */
+    private S geraFilho(List<S> pais) {
+        S pai = pais.get(ThreadLocalRandom.current().nextInt(pais.size()));
+        S filho = getGerador().get();
+
+        filho.setCaracteristicasCopia(0, pai.getCaracteristicas());
+        filho.setPassos(pai.getPassos());
+
+        getMutador().muta(filho);
+        return filho;
+    }
+
+    /**
+     * Verifica as condições necessárias para execução do algoritmo.
+     *
+     * <h3>Condições:</h3>
+     * <ul>
+     * <li>Ambiente definido;</li>
+     * <li>População definida;</li>
+     * <li>Gerador e mutador definidos.</li>
+     * </ul>
+     *
+     * @since 1.0
+     */
+    @Override
+    protected void verificacaoInicial() throws IllegalStateException {
+        super.verificacaoInicial();
+
+        if (getGerador() == null) {
+            throw new IllegalStateException("Gerador não definido: referencia nula.");
+        }
+        if (getMutador() == null) {
+            throw new IllegalStateException("Mutador não definido: referencia nula.");
+        }
+    }
+
+    /**
+     * Recupera o número de pais.
+     *
+     * @since 1.0
+     * @return μ.
+     */
+    public final int getMu() {
+        return mu;
+    }
+
+    /**
+     * Recupera o número de filhos por iteração.
+     *
+     * @since 1.0
+     * @return λ.
+     */
+    public final int getLambda() {
+        return lambda;
+    }
+
+    /**
+     * Recupera o esquema de seleção dos sobreviventes.
+     *
+     * @since 1.0
+     * @return Esquema de seleção.
+     */
+    public final Selecao getSelecao() {
+        return selecao;
+    }
+}
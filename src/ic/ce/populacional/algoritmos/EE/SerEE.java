@@ -0,0 +1,181 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmos.EE;
+
+import ic.ce.seres.reais.SerReal;
+import java.util.Arrays;
+
+/**
+ * Ser para estratégias evolutivas.
+ *
+ * <p>
+ * Além do vetor de características reais, cada ser carrega seus próprios
+ * tamanhos de passo (desvios padrão da mutação), armazenados em um array
+ * primitivo. Os passos são herdados pelos filhos e sofrem mutação antes das
+ * características – auto adaptação.
+ * </p>
+ * <ul>
+ * <li>Um único passo: o mesmo desvio é usado para todos os locus;</li>
+ * <li>Um passo por locus: cada locus possui seu próprio desvio.</li>
+ * </ul>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ */
+public class SerEE<G extends Number & Comparable<G>> extends SerReal<G> {
+
+    private final double[] passos;
+
+    /**
+     * Construtor.
+     *
+     * <p>
+     * Passos iniciados com valor unitário.
+     * </p>
+     *
+     * @since 1.0
+     * @param ncaracteristicas Número de locus.
+     * @param npassos Número de passos: 1 ou igual ao número de locus.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o número de passos não for 1 nem igual ao número de locus.</li>
+     * </ul>
+     */
+    public SerEE(int ncaracteristicas, int npassos) {
+        this(ncaracteristicas, npassos, 1.0);
+    }
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param ncaracteristicas Número de locus.
+     * @param npassos Número de passos: 1 ou igual ao número de locus.
+     * @param passoInicial Valor inicial de todos os passos.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o número de passos não for 1 nem igual ao número de locus;</li>
+     * <li>Se o passo inicial não for positivo.</li>
+     * </ul>
+     */
+    public SerEE(int ncaracteristicas, int npassos, double passoInicial) {
+        super(ncaracteristicas);
+        if (npassos != 1 && npassos != ncaracteristicas) {
+            throw new IllegalArgumentException("Número de passos deve ser 1 ou igual ao número de locus.");
+        }
+        if (passoInicial <= 0) {
+            throw new IllegalArgumentException("Passo inicial deve ser maior que zero.");
+        }
+        passos = new double[npassos];
+        Arrays.fill(passos, passoInicial);
+    }
+
+    /**
+     * Recupera o número de passos do ser.
+     *
+     * @since 1.0
+     * @return Número de passos: 1 ou o número de locus.
+     */
+    public final int getNPassos() {
+        return passos.length;
+    }
+
+    /**
+     * Recupera o passo usado para um locus.
+     *
+     * @since 1.0
+     * @param locus Índice do locus.
+     * @return Passo (desvio padrão) associado ao locus.
+     */
+    public final double getPasso(int locus) {
+        return (passos.length == 1) ? passos[0] : passos[locus];
+    }
+
+    /**
+     * Recupera uma cópia dos passos.
+     *
+     * @since 1.0
+     * @return Cópia do array de passos.
+     */
+    public final double[] getPassos() {
+        return passos.clone();
+    }
+
+    /**
+     * Atribui um passo.
+     *
+     * @since 1.0
+     * @param indice Índice do passo.
+     * @param passo Novo valor.
+     *
+     * @throws IllegalStateException
+     * <ul>
+     * <li>Se o ser já tiver sido avaliado.</li>
+     * </ul>
+     */
+    public final void setPasso(int indice, double passo) {
+        verificaModificavel();
+        passos[indice] = passo;
+    }
+
+    /**
+     * Atribui todos os passos, por cópia.
+     *
+     * @since 1.0
+     * @param origem Passos de origem, de mesmo tamanho.
+     *
+     * @throws IllegalStateException
+     * <ul>
+     * <li>Se o ser já tiver sido avaliado.</li>
+     * </ul>
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o número de passos for diferente.</li>
+     * </ul>
+     */
+    public final void setPassos(double[] origem) {
+        verificaModificavel();
+        if (origem.length != passos.length) {
+            throw new IllegalArgumentException("Número de passos incompatível.");
+        }
+        System.arraycopy(origem, 0, passos, 0, passos.length);
+    }
+
+    private void verificaModificavel() {
+        if (getGrauDeAdaptacao() != null) {
+            throw new IllegalStateException("Ser já avaliado não pode ser modificado.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return super.toString() + " σ" + Arrays.toString(passos);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmos.EE.mutadores;
+
+import ic.ce.populacional.algoritmos.EE.SerEE;
+import ic.ce.seres.reais.LocusReal;
+import ic.ce.seres.reais.mutadores.MutadorReal;
+import static java.lang.Math.exp;
+import static java.lang.Math.max;
+import static java.lang.Math.sqrt;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Operador de mutação auto adaptativa para estratégias evolutivas.
+ *
+ * <p>
+ * Os passos do ser sofrem mutação log-normal e, em seguida, são usados como
+ * desvios da mutação gaussiana das características.
+ * </p>
+ * <ul>
+ * <li>Um passo: σ'=σ·exp(τ·N(0,1)), com τ=1/√n;</li>
+ * <li>Um passo por locus: σ'ᵢ=σᵢ·exp(τ'·N(0,1)+τ·Nᵢ(0,1)), com τ'=1/√(2n) e
+ * τ=1/√(2√n).</li>
+ * </ul>
+ * <p>
+ * Em ambos os casos: x'ᵢ=xᵢ+σ'ᵢ·Nᵢ(0,1), com passos limitados inferiormente por
+ * ε₀.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <S> Classe dos Seres.
+ */
+public class MutadorAutoAdaptativo<S extends SerEE> extends MutadorReal<S> {
+
+    private final double passoMinimo;
+
+    /**
+     * Construtor.
+     *
+     * <p>
+     * Passo mínimo: 1e-8.
+     * </p>
+     *
+     * @since 1.0
+     */
+    public MutadorAutoAdaptativo() {
+        this(1e-8);
+    }
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param passoMinimo Limite inferior para os passos (ε₀).
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o passo mínimo for negativo.</li>
+     * </ul>
+     */
+    public MutadorAutoAdaptativo(double passoMinimo) {
+        super(1d);
+        if (passoMinimo < 0) {
+            throw new IllegalArgumentException("Passo mínimo deve ser maior ou igual a zero.");
+        }
+        this.passoMinimo = passoMinimo;
+    }
+
+    /**
+     * Recupera o limite inferior dos passos.
+     *
+     * @since 1.0
+     * @return Passo mínimo (ε₀).
+     */
+    public final double getPassoMinimo() {
+        return passoMinimo;
+    }
+
+    @Override
+    public void muta(S ser) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        int n = ser.getSize();
+
+        if (ser.getNPassos() == 1) {
+            double tau = 1.0 / sqrt(n);
+            ser.setPasso(0, max(passoMinimo, ser.getPasso(0) * exp(tau * aleatorio.nextGaussian())));
+        } else {
+            double tauGlobal = 1.0 / sqrt(2.0 * n);
+            double tau = 1.0 / sqrt(2.0 * sqrt(n));
+            double global = tauGlobal * aleatorio.nextGaussian();
+
+            for (int i = 0; i < n; i++) {
+                ser.setPasso(i, max(passoMinimo, ser.getPasso(i) * exp(global + tau * aleatorio.nextGaussian())));
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            perturba((LocusReal) ser.getCaracteristica(i), ser.getPasso(i) * aleatorio.nextGaussian());
+        }
+    }
+}
@@ -0,0 +1,340 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmos.NSGAII;
+
+import ic.ce.base.Ser;
+import ic.ce.base.multiobjetivo.AmbienteMultiobjetivo;
+import ic.ce.base.multiobjetivo.Dominancia;
+import ic.ce.base.utilidades.Ordenacao;
+import ic.ce.populacional.algoritmo.AlgoritmoPopulacional;
+import ic.ce.populacional.algoritmo.metricas.Fase;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Algoritmo evolucionário multiobjetivo: NSGA-II.
+ *
+ * <p>
+ * A cada iteração, N filhos são gerados por torneio binário – menor frente e,
+ * em empate, maior distância de aglomeração –, recombinação e mutação. Pais e
+ * filhos são reunidos, ordenados em frentes não dominadas e os N sobreviventes
+ * escolhidos frente a frente; a última frente admitida é truncada pela
+ * distância de aglomeração.
+ * </p>
+ * <p>
+ * Os vetores de objetivos são mantidos em arrays primitivos, alinhados à
+ * população, e avaliados em paralelo. O grau escalar de cada ser é atribuído a
+ * partir do mesmo vetor, mantido no ser: a população inicial, já avaliada,
+ * não é reavaliada.
+ * </p>
+ *
+ * Características:
+ * <ul>
+ * <li>Forma de Representação: Qualquer;</li>
+ * <li>Operadores de Recombinação e Mutação: Definidos pelo usuário;</li>
+ * <li>Seleção dos Pais: Torneio binário por frente e aglomeração;</li>
+ * <li>Seleção dos Sobreviventes: Elitista, (μ+λ), por frente e
+ * aglomeração.</li>
+ * </ul>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ *
+ * @see AmbienteMultiobjetivo
+ * @see Dominancia
+ */
+public class NSGAII<G extends Number & Comparable<G>, S extends Ser<G>> extends AlgoritmoPopulacional<G, S> {
+
+    private List<S> seres;
+    private double[][] objetivos;
+    private int[] frentes;
+    private double[] aglomeracao;
+
+    {
+        setNome("NSGA-II");
+    }
+
+    @Override
+    protected void inicia() {
+        super.inicia();
+
+        seres = new ArrayList<>(getPopulacao());
+        objetivos = avaliaObjetivos(seres);
+        classifica(seres, objetivos, seres.size());
+    }
+
+    @Override
+    public void iteracao() {
+        long t = System.nanoTime();
+        int n = seres.size();
+
+        List<S> pais = torneio(n);
+        t = registraFase(Fase.SELECAO, t);
+
+        List<S> filhos = reproduz(pais, n);
+        t = registraFase(Fase.RECOMBINACAO, t);
+
+        if (getMutador() != null) {
+            getMutador().muta(filhos);
+        }
+        t = registraFase(Fase.MUTACAO, t);
+
+        double[][] objetivosFilhos = avaliaObjetivos(filhos);
+        t = registraFase(Fase.AVALIACAO, t);
+
+        List<S> uniao = new ArrayList<>(n + filhos.size());
+        uniao.addAll(seres);
+        uniao.addAll(filhos);
+
+        double[][] objetivosUniao = new double[uniao.size()][];
+        System.arraycopy(objetivos, 0, objetivosUniao, 0, n);
+        System.arraycopy(objetivosFilhos, 0, objetivosUniao, n, filhos.size());
+
+        classifica(uniao, objetivosUniao, n);
+
+        getPopulacao().setIndividuos(seres);
+        registraFase(Fase.SUBSTITUICAO, t);
+    }
+
+    /**
+     * Ordena em frentes, calcula a aglomeração e mantém os <i>n</i> melhores.
+     *
+     * @param candidatos Seres candidatos.
+     * @param objetivosCandidatos Objetivos, para minimização, dos candidatos.
+     * @param n Número de sobreviventes.
+     */
+    private void classifica(List<S> candidatos, double[][] objetivosCandidatos, int n) {
+        int[] frentesCandidatos = Dominancia.ordenacaoNaoDominada(objetivosCandidatos);
+        double[] aglomeracaoCandidatos = new double[candidatos.size()];
+
+        int[] escolhidos = new int[n];
+        int nEscolhidos = 0;
+
+        for (int[] frente : Dominancia.agrupaFrentes(frentesCandidatos)) {
+            if (nEscolhidos == n) {
+                break;
+            }
+            Dominancia.distanciaDeAglomeracao(objetivosCandidatos, frente, aglomeracaoCandidatos);
+
+            if (nEscolhidos + frente.length <= n) {
+                System.arraycopy(frente, 0, escolhidos, nEscolhidos, frente.length);
+                nEscolhidos += frente.length;
+            } else {
+                Integer[] ordem = new Integer[frente.length];
+                for (int i = 0; i < frente.length; i++) {
+                    ordem[i] = frente[i];
+                }
+                int restantes = n - nEscolhidos;
+                Ordenacao.selecionaMaiores(ordem, restantes, (i1, i2) -> Double.compare(aglomeracaoCandidatos[i1], aglomeracaoCandidatos[i2]));
+                for (int i = 0; i < restantes; i++) {
+                    escolhidos[nEscolhidos++] = ordem[i];
+                }
+            }
+        }
+
+        seres = new ArrayList<>(n);
+        objetivos = new double[n][];
+        frentes = new int[n];
+        aglomeracao = new double[n];
+        for (int i = 0; i < n; i++) {
+            int escolhido = escolhidos[i];
+            seres.add(candidatos.get(escolhido));
+            objetivos[i] = objetivosCandidatos[escolhido];
+            frentes[i] = frentesCandidatos[escolhido];
+            aglomeracao[i] = aglomeracaoCandidatos[escolhido];
+        }
+    }
+
+    /**
+     * Recupera os objetivos dos seres, avaliando, em paralelo, apenas os ainda
+     * não avaliados pelo ambiente, e os oferece ao arquivo de Pareto.
+     *
+     * @param avaliados Seres.
+     * @return Objetivos, para minimização, de cada ser.
+     */
+    private double[][] avaliaObjetivos(List<S> avaliados) {
+        AmbienteMultiobjetivo<G, S> ambiente = (AmbienteMultiobjetivo<G, S>) getAmbiente();
+        ambiente.avalia(avaliados);
+
+        return avaliados.parallelStream().map(ser -> {
+            double[] valores = ser.getObjetivos();
+            if (valores == null) {
+                ambiente.registraAvaliacao();
+                valores = ambiente.avaliaObjetivos(ser);
+            }
+            double[] orientados = ambiente.orientaParaMinimizacao(valores);
+            arquiva(ser, orientados);
+            return orientados;
+        }).toArray(double[][]::new);
+    }
+
+    /**
+     * Seleciona pais por torneio binário: menor frente; em empate, maior
+     * distância de aglomeração.
+     *
+     * @param n Número de pais.
+     * @return Pais selecionados.
+     */
+    private List<S> torneio(int n) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        int nParceiros = (getRecombinador() != null) ? getRecombinador().getNParceiros() : 1;
+        int nPais = ((n + nParceiros - 1) / nParceiros) * nParceiros;
+
+        List<S> pais = new ArrayList<>(nPais);
+        for (int k = 0; k < nPais; k++) {
+            int a = aleatorio.nextInt(seres.size());
+            int b = aleatorio.nextInt(seres.size());
+            boolean aVence = frentes[a] < frentes[b] || (frentes[a] == frentes[b] && aglomeracao[a] > aglomeracao[b]);
+            pais.add(seres.get(aVence ? a : b));
+        }
+        return pais;
+    }
+
+    /**
+     * Gera até <i>n</i> filhos por recombinação: em paralelo, por grupo de
+     * parceiros.
+     *
+     * <p>
+     * Grupos não recombinados são copiados, para que todos os filhos sejam
+     * novas instâncias, não avaliadas.
+     * </p>
+     *
+     * @param pais Pais selecionados.
+     * @param n Número de filhos.
+     * @return Filhos.
+     */
+    private List<S> reproduz(List<S> pais, int n) {
+        int nParceiros = (getRecombinador() != null) ? getRecombinador().getNParceiros() : 1;
+
+        List<S> filhos = IntStream.range(0, pais.size() / nParceiros).parallel()
+                .mapToObj(g -> {
+                    List<S> grupo = pais.subList(g * nParceiros, (g + 1) * nParceiros);
+                    List<S> gerados = (getRecombinador() != null)
+                            ? getRecombinador().recombinaTodos(grupo)
+                            : Collections.<S>emptyList();
+                    return gerados.isEmpty() ? copia(grupo) : gerados;
+                })
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+
+        if (filhos.size() > n) {
+            filhos = new ArrayList<>(filhos.subList(0, n));
+        }
+        return filhos;
+    }
+
+    /**
+     * Copia seres em novas instâncias.
+     *
+     * @param origem Seres de origem.
+     * @return Cópias, não avaliadas.
+     */
+    private List<S> copia(List<S> origem) {
+        List<S> copias = new ArrayList<>(origem.size());
+        for (S ser : origem) {
+            S copia = getGerador().get();
+            copia.setCaracteristicasCopia(0, ser.getCaracteristicas());
+            copias.add(copia);
+        }
+        return copias;
+    }
+
+    /**
+     * Recupera a frente de Pareto da população corrente.
+     *
+     * @since 1.0
+     * @return Seres não dominados da população.
+     */
+    public final List<S> getFrentePareto() {
+        List<S> frente = new ArrayList<>();
+        for (int i = 0; i < seres.size(); i++) {
+            if (frentes[i] == 0) {
+                frente.add(seres.get(i));
+            }
+        }
+        return frente;
+    }
+
+    /**
+     * Recupera os objetivos da frente de Pareto da população corrente.
+     *
+     * @since 1.0
+     * @return Vetores de objetivos, nos modos originais, na ordem de
+     * {@link #getFrentePareto()}.
+     */
+    public final List<double[]> getObjetivosFrentePareto() {
+        AmbienteMultiobjetivo<G, S> ambiente = (AmbienteMultiobjetivo<G, S>) getAmbiente();
+        List<double[]> frente = new ArrayList<>();
+        for (int i = 0; i < seres.size(); i++) {
+            if (frentes[i] == 0) {
+                frente.add(ambiente.orientaParaMinimizacao(objetivos[i]));
+            }
+        }
+        return frente;
+    }
+
+    /**
+     * Verifica as condições necessárias para execução do algoritmo.
+     *
+     * <h3>Condições:</h3>
+     * <ul>
+     * <li>Ambiente multiobjetivo definido;</li>
+     * <li>População definida;</li>
+     * <li>Gerador definido.</li>
+     * </ul>
+     *
+     * @since 1.0
+     */
+    @Override
+    protected void verificacaoInicial() throws IllegalStateException {
+        super.verificacaoInicial();
+
+        if (!(getAmbiente() instanceof AmbienteMultiobjetivo)) {
+            throw new IllegalStateException("Ambiente deve ser multiobjetivo.");
+        }
+        if (getGerador() == null) {
+            throw new IllegalStateException("Gerador não definido: referencia nula.");
+        }
+    }
+
+    @Override
+    public String relatorio() {
+        StringBuilder relatorio = new StringBuilder(super.relatorio());
+
+        if (frentes != null) {
+            relatorio.append("\tFrente de Pareto:\t" + getFrentePareto().size() + "\n");
+        }
+
+        return relatorio.toString();
+    }
+}
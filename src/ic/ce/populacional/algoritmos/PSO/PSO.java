@@ -0,0 +1,430 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.populacional.algoritmos.PSO;
+
+import ic.ce.populacional.algoritmo.AlgoritmoPopulacional;
+import ic.ce.populacional.algoritmo.metricas.Fase;
+import ic.ce.seres.reais.AvaliadorDeMatriz;
+import ic.ce.seres.reais.AvaliadorVetorial;
+import ic.ce.seres.reais.SerReal;
+import static java.lang.Math.nextDown;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Algoritmo de inteligência de enxame: PSO.
+ *
+ * <p>
+ * Otimização por enxame de partículas, com fator de inércia:
+ * </p>
+ * <p>
+ * v ← w·v + c<sub>1</sub>·r<sub>1</sub>·(p - x) + c<sub>2</sub>·r<sub>2</sub>·(g
+ * - x); x ← x + v
+ * </p>
+ * <p>
+ * em que <i>p</i> é a melhor posição visitada pela partícula e <i>g</i> a
+ * melhor posição de sua vizinhança: todo o enxame (topologia global) ou as
+ * partículas adjacentes em um anel (topologia local).
+ * </p>
+ * <p>
+ * Posições, velocidades e melhores posições são armazenadas em matrizes N×D
+ * contíguas (<code>double[]</code>, linha <i>i</i> em [i·D, (i+1)·D)) e
+ * atualizadas em paralelo, partícula a partícula. As melhores posições da
+ * vizinhança são determinadas antes de qualquer atualização: a iteração é
+ * síncrona.
+ * </p>
+ * <p>
+ * A população contém as melhores posições de cada partícula; seus seres são
+ * recriados apenas quando a partícula melhora. Assim, o melhor ser da
+ * população é a melhor posição do enxame, e o controle do melhor ser e os
+ * eventos do algoritmo são os mesmos dos demais algoritmos populacionais.
+ * </p>
+ * <p>
+ * Se o ambiente implementar {@link AvaliadorVetorial}, as posições são
+ * avaliadas diretamente; caso contrário, cada thread reutiliza um ser de
+ * trabalho, cujos locus são sobrescritos antes da avaliação.
+ * </p>
+ *
+ * Características:
+ * <ul>
+ * <li>Forma de Representação: Codificação real;</li>
+ * <li>Vizinhança: Global ou em anel;</li>
+ * <li>Velocidade: Limitada a uma fração da amplitude de cada dimensão – em
+ * domínios ilimitados, da extensão do enxame inicial;</li>
+ * <li>Limites: Posições fora do domínio são ajustadas ao limite mais próximo,
+ * com a componente da velocidade zerada.</li>
+ * </ul>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class PSO<G extends Number & Comparable<G>, S extends SerReal<G>> extends AlgoritmoPopulacional<G, S> {
+
+    /**
+     * Topologia da vizinhança.
+     */
+    public enum Topologia {
+
+        /**
+         * Todas as partículas são vizinhas: gbest.
+         */
+        GLOBAL,
+        /**
+         * Cada partícula tem como vizinhas as adjacentes em um anel: lbest.
+         */
+        ANEL
+    };
+
+    private final double inercia;
+    private final double coeficienteCognitivo;
+    private final double coeficienteSocial;
+    private final Topologia topologia;
+    private double fracaoVelocidadeMaxima = 0.5;
+
+    private int n;
+    private int d;
+    private double[] posicoes;
+    private double[] velocidades;
+    private double[] melhoresPosicoes;
+    private G[] grausMelhores;
+    private int[] guias;
+    private boolean[] melhorados;
+    private List<S> seres;
+    private double[] limitesInferiores;
+    private double[] limitesSuperiores;
+    private double[] velocidadesMaximas;
+    private AvaliadorDeMatriz<G, S> avaliador;
+
+    /**
+     * Construtor, com os coeficientes de constrição de Clerc e Kennedy: w =
+     * 0,7298 e c<sub>1</sub> = c<sub>2</sub> = 1,49618.
+     *
+     * @since 1.0
+     * @param topologia Topologia da vizinhança.
+     */
+    public PSO(Topologia topologia) {
+        this(0.7298, 1.49618, 1.49618, topologia);
+    }
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param inercia Fator de inércia w.
+     * @param coeficienteCognitivo Coeficiente c<sub>1</sub>, de atração à
+     * melhor posição da partícula.
+     * @param coeficienteSocial Coeficiente c<sub>2</sub>, de atração à melhor
+     * posição da vizinhança.
+     * @param topologia Topologia da vizinhança.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se a inércia for negativa;</li>
+     * <li>Se algum coeficiente for negativo.</li>
+     * </ul>
+     */
+    public PSO(double inercia, double coeficienteCognitivo, double coeficienteSocial, Topologia topologia) {
+        if (inercia < 0) {
+            throw new IllegalArgumentException("Inércia deve ser maior ou igual a zero.");
+        }
+        if (coeficienteCognitivo < 0 || coeficienteSocial < 0) {
+            throw new IllegalArgumentException("Coeficientes devem ser maiores ou iguais a zero.");
+        }
+        this.inercia = inercia;
+        this.coeficienteCognitivo = coeficienteCognitivo;
+        this.coeficienteSocial = coeficienteSocial;
+        this.topologia = topologia;
+        setNome("PSO/" + ((topologia == Topologia.GLOBAL) ? "gbest" : "lbest"));
+    }
+
+    /**
+     * Define a velocidade máxima, como fração da amplitude de cada dimensão.
+     *
+     * <p>
+     * Em dimensões cuja amplitude não é representável – o domínio padrão de
+     * {@link ic.ce.seres.reais.LocusReal} –, a fração é aplicada à extensão das
+     * posições iniciais.
+     * </p>
+     *
+     * @since 1.0
+     * @param fracaoVelocidadeMaxima Fração, em (0, 1]; padrão: 0,5.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se a fração não estiver em (0, 1].</li>
+     * </ul>
+     */
+    public final void setFracaoVelocidadeMaxima(double fracaoVelocidadeMaxima) {
+        if (fracaoVelocidadeMaxima <= 0 || fracaoVelocidadeMaxima > 1) {
+            throw new IllegalArgumentException("Fração da velocidade máxima deve estar em (0, 1].");
+        }
+        this.fracaoVelocidadeMaxima = fracaoVelocidadeMaxima;
+    }
+
+    @Override
+    protected void inicia() {
+        super.inicia();
+
+        S primeiro = getPopulacao().getMelhor();
+        n = getPopulacao().size();
+        d = primeiro.getSize();
+        limitesInferiores = primeiro.getLimitesInferiores();
+        limitesSuperiores = primeiro.getLimitesSuperiores();
+
+        posicoes = new double[n * d];
+        velocidades = new double[n * d];
+        melhoresPosicoes = new double[n * d];
+        grausMelhores = AvaliadorDeMatriz.novoVetorDeGraus(n);
+        guias = new int[n];
+        melhorados = new boolean[n];
+        seres = new ArrayList<>(getPopulacao());
+
+        for (int i = 0; i < n; i++) {
+            S ser = seres.get(i);
+            ser.copiaValores(posicoes, i * d);
+            grausMelhores[i] = ser.getGrauDeAdaptacao();
+        }
+        System.arraycopy(posicoes, 0, melhoresPosicoes, 0, n * d);
+
+        double[] origens = new double[d];
+        double[] amplitudes = new double[d];
+        velocidadesMaximas = new double[d];
+        for (int j = 0; j < d; j++) {
+            defineRegiao(j, origens, amplitudes);
+            velocidadesMaximas[j] = fracaoVelocidadeMaxima * amplitudes[j];
+        }
+
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < d; j++) {
+                double alvo = origens[j] + aleatorio.nextDouble() * amplitudes[j];
+                velocidades[i * d + j] = limita((alvo - posicoes[i * d + j]) / 2, velocidadesMaximas[j]);
+            }
+        }
+
+        avaliador = new AvaliadorDeMatriz<>(getAmbiente(), getGerador(), limitesInferiores, limitesSuperiores);
+    }
+
+    @Override
+    public void iteracao() {
+        long t = System.nanoTime();
+
+        defineGuias();
+        t = registraFase(Fase.SELECAO, t);
+
+        IntStream.range(0, n).parallel().forEach(this::move);
+        t = registraFase(Fase.MUTACAO, t);
+
+        IntStream.range(0, n).parallel().forEach(i -> {
+            G grau = avaliador.avalia(posicoes, i * d);
+            melhorados[i] = getAmbiente().compare(grau, grausMelhores[i]) > 0;
+            if (melhorados[i]) {
+                System.arraycopy(posicoes, i * d, melhoresPosicoes, i * d, d);
+                grausMelhores[i] = grau;
+            }
+        });
+        t = registraFase(Fase.AVALIACAO, t);
+
+        if (avaliador.sincroniza(seres, melhoresPosicoes, grausMelhores, melhorados)) {
+            getPopulacao().setIndividuos(seres);
+        }
+        registraFase(Fase.SUBSTITUICAO, t);
+    }
+
+    /**
+     * Define a região da dimensão <i>j</i> que orienta velocidades: o domínio
+     * ou, se sua amplitude não for representável, a extensão do enxame
+     * inicial, centrada nele.
+     *
+     * @param j Dimensão.
+     * @param origens Início das regiões; modificado.
+     * @param amplitudes Amplitudes das regiões; modificado.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o domínio for ilimitado e a extensão do enxame não for
+     * representável.</li>
+     * </ul>
+     */
+    private void defineRegiao(int j, double[] origens, double[] amplitudes) {
+        origens[j] = limitesInferiores[j];
+        amplitudes[j] = limitesSuperiores[j] - limitesInferiores[j];
+        if (Double.isFinite(amplitudes[j])) {
+            return;
+        }
+
+        double minimo = Double.POSITIVE_INFINITY;
+        double maximo = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            minimo = Math.min(minimo, posicoes[i * d + j]);
+            maximo = Math.max(maximo, posicoes[i * d + j]);
+        }
+        double referencia = (maximo > minimo) ? maximo - minimo : Math.max(Math.abs(minimo), 1);
+
+        amplitudes[j] = SerReal.amplitude(limitesInferiores[j], limitesSuperiores[j], referencia);
+        origens[j] = (minimo / 2 + maximo / 2) - amplitudes[j] / 2;
+    }
+
+    /**
+     * Determina, para cada partícula, o índice da melhor posição de sua
+     * vizinhança.
+     */
+    private void defineGuias() {
+        if (topologia == Topologia.GLOBAL) {
+            int melhor = 0;
+            for (int i = 1; i < n; i++) {
+                if (getAmbiente().compare(grausMelhores[i], grausMelhores[melhor]) > 0) {
+                    melhor = i;
+                }
+            }
+            for (int i = 0; i < n; i++) {
+                guias[i] = melhor;
+            }
+        } else {
+            IntStream.range(0, n).parallel().forEach(i -> {
+                int melhor = i;
+                int anterior = (i + n - 1) % n;
+                int posterior = (i + 1) % n;
+                if (getAmbiente().compare(grausMelhores[anterior], grausMelhores[melhor]) > 0) {
+                    melhor = anterior;
+                }
+                if (getAmbiente().compare(grausMelhores[posterior], grausMelhores[melhor]) > 0) {
+                    melhor = posterior;
+                }
+                guias[i] = melhor;
+            });
+        }
+    }
+
+    /**
+     * Atualiza velocidade e posição da partícula <i>i</i>.
+     *
+     * @param i Índice da partícula.
+     */
+    private void move(int i) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        int linha = i * d;
+        int linhaGuia = guias[i] * d;
+
+        for (int j = 0; j < d; j++) {
+            int k = linha + j;
+            double x = posicoes[k];
+
+            double v = inercia * velocidades[k]
+                    + coeficienteCognitivo * aleatorio.nextDouble() * (melhoresPosicoes[k] - x)
+                    + coeficienteSocial * aleatorio.nextDouble() * (melhoresPosicoes[linhaGuia + j] - x);
+            v = limita(v, velocidadesMaximas[j]);
+            x += v;
+
+            if (x < limitesInferiores[j]) {
+                x = limitesInferiores[j];
+                v = 0;
+            } else if (x >= limitesSuperiores[j]) {
+                x = nextDown(limitesSuperiores[j]);
+                v = 0;
+            }
+
+            velocidades[k] = v;
+            posicoes[k] = x;
+        }
+    }
+
+    /**
+     * Limita um valor ao intervalo [-limite, limite].
+     */
+    private static double limita(double valor, double limite) {
+        return (valor > limite) ? limite : ((valor < -limite) ? -limite : valor);
+    }
+
+    /**
+     * Recupera uma cópia da matriz de posições correntes.
+     *
+     * @since 1.0
+     * @return Matriz N×D, armazenada por linhas.
+     */
+    public final double[] getPosicoes() {
+        return posicoes.clone();
+    }
+
+    /**
+     * Recupera uma cópia da matriz de velocidades correntes.
+     *
+     * @since 1.0
+     * @return Matriz N×D, armazenada por linhas.
+     */
+    public final double[] getVelocidades() {
+        return velocidades.clone();
+    }
+
+    /**
+     * Recupera a topologia da vizinhança.
+     *
+     * @since 1.0
+     * @return Topologia.
+     */
+    public final Topologia getTopologia() {
+        return topologia;
+    }
+
+    /**
+     * Verifica as condições necessárias para execução do algoritmo.
+     *
+     * <h3>Condições:</h3>
+     * <ul>
+     * <li>Ambiente definido;</li>
+     * <li>População definida, com ao menos 3 seres;</li>
+     * <li>Gerador definido.</li>
+     * </ul>
+     *
+     * @since 1.0
+     */
+    @Override
+    protected void verificacaoInicial() throws IllegalStateException {
+        super.verificacaoInicial();
+
+        if (getGerador() == null) {
+            throw new IllegalStateException("Gerador não definido: referencia nula.");
+        }
+        if (getPopulacao().size() < 3) {
+            throw new IllegalStateException("População deve conter ao menos 3 seres.");
+        }
+    }
+
+    @Override
+    public String relatorio() {
+        StringBuilder relatorio = new StringBuilder(super.relatorio());
+
+        relatorio.append("\tInércia:\t" + inercia + "\n");
+        relatorio.append("\tCoeficientes (c1, c2):\t" + coeficienteCognitivo + ", " + coeficienteSocial + "\n");
+
+        return relatorio.toString();
+    }
+}
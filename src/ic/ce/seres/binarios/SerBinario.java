@@ -27,6 +27,7 @@
 package ic.ce.seres.binarios;
 
 import ic.ce.base.Caracteristica;
+import ic.ce.base.utilidades.Binarios;
 import ic.ce.seres.SerFixo;
 import java.util.ArrayList;
 import java.util.List;
@@ -63,24 +64,108 @@ public class SerBinario<G extends Number & Comparable<G>> extends SerFixo<G> {
         return locus;
     }
 
-    public final static Integer bits2Int(List<Boolean> bits) {
+    /**
+     * Compacta os bits do ser em palavras de 64 bits.
+     *
+     * <p>
+     * O bit <i>i</i> ocupa a posição <i>i</i> mod 64 da palavra <i>i</i>/64;
+     * bits além do tamanho do ser são zero.
+     * </p>
+     *
+     * @since 1.0
+     * @return Novo vetor de palavras.
+     *
+     * @see Binarios#getBit(long[], int)
+     */
+    public final long[] getPalavras() {
+        int n = getSize();
+        long[] palavras = new long[Binarios.nPalavras(n)];
+        for (int i = 0; i < n; i++) {
+            if (((LocusBinario) getCaracteristica(i)).getBit()) {
+                palavras[i >>> 6] |= 1L << i;
+            }
+        }
+        return palavras;
+    }
 
-        double valor = 0;
-        for (int i = 0; i < bits.size(); i++) {
-            if (bits.get(i)) {
-                valor += Math.pow(2, bits.size() - 1 - i);
+    /**
+     * Atribui os bits do ser a partir de palavras de 64 bits.
+     *
+     * <p>
+     * Locus existentes são reutilizados; posições vazias recebem novos
+     * locus.
+     * </p>
+     *
+     * @since 1.0
+     * @param palavras Vetor de palavras, no formato de {@link #getPalavras()}.
+     *
+     * @throws IllegalStateException
+     * <ul>
+     * <li>Se o ser já tiver sido avaliado.</li>
+     * </ul>
+     */
+    public final void setPalavras(long[] palavras) {
+        if (getGrauDeAdaptacao() != null) {
+            throw new IllegalStateException("Ser já avaliado não pode ser modificado.");
+        }
+        for (int i = 0; i < getSize(); i++) {
+            boolean bit = (palavras[i >>> 6] & (1L << i)) != 0;
+            LocusBinario locus = (LocusBinario) getCaracteristica(i);
+            if (locus == null) {
+                setCaracteristica(i, new LocusBinario(bit));
+            } else {
+                locus.setBit(bit);
             }
         }
-        return (int) valor;
+    }
+
+    /**
+     * Decodifica o ser como variáveis inteiras consecutivas de mesmo tamanho.
+     *
+     * @since 1.0
+     * @param nBits Número de bits por variável, em [1, 64].
+     * @param gray Se as variáveis estão codificadas em código Gray.
+     * @return Novo vetor com os inteiros sem sinal: tamanho do ser dividido
+     * pelo número de bits.
+     *
+     * @see Binarios#decodifica(long[], int, int, boolean, long[])
+     */
+    public final long[] getInteiros(int nBits, boolean gray) {
+        long[] inteiros = new long[getSize() / nBits];
+        Binarios.decodifica(getPalavras(), 0, nBits, gray, inteiros);
+        return inteiros;
+    }
+
+    /**
+     * Decodifica o ser como variáveis reais consecutivas de mesmo tamanho,
+     * por escala linear.
+     *
+     * @since 1.0
+     * @param nBits Número de bits por variável, em [1, 64].
+     * @param gray Se as variáveis estão codificadas em código Gray.
+     * @param inferiores Limites inferiores, por variável.
+     * @param superiores Limites superiores, por variável.
+     * @return Novo vetor com os reais: tamanho do ser dividido pelo número de
+     * bits.
+     *
+     * @see Binarios#decodifica(long[], int, int, boolean, double[], double[],
+     * double[])
+     */
+    public final double[] getReais(int nBits, boolean gray, double[] inferiores, double[] superiores) {
+        double[] reais = new double[getSize() / nBits];
+        Binarios.decodifica(getPalavras(), 0, nBits, gray, inferiores, superiores, reais);
+        return reais;
+    }
+
+    public final static Integer bits2Int(List<Boolean> bits) {
+        return Binarios.bits2Int(bits);
     }
 
     public final static Integer locusBinarios2Int(List<Caracteristica> bits) {
 
-        double valor = 0;
-        for (int i = 0; i < bits.size(); i++) {
-            if (((LocusBinario)bits.get(i)).getBit()) {
-                valor += Math.pow(2, bits.size() - 1 - i);
-            }
+        long valor = 0;
+        for (Caracteristica bit : bits) {
+            valor = (valor << 1) | (((LocusBinario) bit).getBit() ? 1 : 0);
         }
         return (int) valor;
     }
@@ -0,0 +1,110 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.seres.binarios.buscalocal;
+
+import ic.ce.base.algoritmo.operadores.BuscaLocal;
+import ic.ce.seres.binarios.LocusBinario;
+import ic.ce.seres.binarios.SerBinario;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Busca local para seres binários: subida de encosta por inversão de bits.
+ *
+ * <p>
+ * Os bits são percorridos em ordem aleatória; cada inversão é mantida se
+ * melhorar a solução corrente e desfeita caso contrário (primeira melhora). As
+ * passagens se repetem, em nova ordem, enquanto houver melhora e o orçamento
+ * de avaliações permitir.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class BuscaLocalBinaria<G extends Number & Comparable<G>, S extends SerBinario<G>> extends BuscaLocal<G, S> {
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param probabilidadeDeAplicacao Probabilidade de aplicação a cada ser.
+     * @param maxAvaliacoes Número máximo de avaliações por aplicação.
+     */
+    public BuscaLocalBinaria(double probabilidadeDeAplicacao, int maxAvaliacoes) {
+        super(probabilidadeDeAplicacao, maxAvaliacoes);
+    }
+
+    @Override
+    public S busca(S origem) {
+        G grauOrigem = grauDe(origem);
+        int n = origem.getSize();
+
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        S atual = copia(origem);
+        S candidato = copia(origem);
+        G grauAtual = grauOrigem;
+        boolean melhorou = false;
+
+        int[] ordem = new int[n];
+        for (int i = 0; i < n; i++) {
+            ordem[i] = i;
+        }
+
+        int avaliacoes = 0;
+        boolean melhorouNaPassagem = true;
+        while (melhorouNaPassagem && avaliacoes < getMaxAvaliacoes()) {
+            melhorouNaPassagem = false;
+
+            for (int i = n - 1; i > 0; i--) {
+                int j = aleatorio.nextInt(i + 1);
+                int temp = ordem[i];
+                ordem[i] = ordem[j];
+                ordem[j] = temp;
+            }
+
+            for (int k = 0; k < n && avaliacoes < getMaxAvaliacoes(); k++) {
+                int bit = ordem[k];
+                ((LocusBinario) candidato.getCaracteristica(bit)).flip();
+
+                G grau = avaliaCandidato(atual, grauAtual, candidato, new int[]{bit});
+                avaliacoes++;
+
+                if (getAmbiente().compare(grau, grauAtual) > 0) {
+                    ((LocusBinario) atual.getCaracteristica(bit)).flip();
+                    grauAtual = grau;
+                    melhorou = true;
+                    melhorouNaPassagem = true;
+                } else {
+                    ((LocusBinario) candidato.getCaracteristica(bit)).flip();
+                }
+            }
+        }
+
+        return melhorou ? materializa(atual, grauAtual) : origem;
+    }
+}
@@ -57,4 +57,17 @@ public abstract class RecombinadorBinario<G extends Number & Comparable<G>,S ext
         super(probabilidadeDeRecombinacao, nParceiros);
     }
 
+    /**
+     * Cria um ser, por meio do gerador, a partir de palavras de 64 bits.
+     *
+     * @since 1.0
+     * @param palavras Vetor de palavras, no formato de
+     * {@link SerBinario#getPalavras()}.
+     * @return Novo ser.
+     */
+    protected final S paraSer(long[] palavras) {
+        S ser = getAlgoritmo().getGerador().get();
+        ser.setPalavras(palavras);
+        return ser;
+    }
 }
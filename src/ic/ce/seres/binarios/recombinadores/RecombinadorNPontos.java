@@ -0,0 +1,151 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.seres.binarios.recombinadores;
+
+import ic.ce.base.utilidades.Binarios;
+import ic.ce.base.utilidades.IndiceAleatorio;
+import ic.ce.seres.binarios.SerBinario;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Recombinação de <i>n</i> pontos para seres binários.
+ *
+ * <p>
+ * Sorteia <i>n</i> pontos de corte distintos; os segmentos entre cortes são
+ * copiados alternadamente de cada pai – o primeiro segmento do primeiro filho
+ * provém do primeiro pai. O segundo filho recebe os segmentos
+ * complementares.
+ * </p>
+ * <p>
+ * Os pais são compactados em palavras de 64 bits; os segmentos trocados são
+ * marcados em uma máscara – palavras internas preenchidas integralmente e
+ * extremos por máscaras deslocadas – e aplicados palavra a palavra. A
+ * recombinação de uma coleção é realizada em paralelo.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class RecombinadorNPontos<G extends Number & Comparable<G>, S extends SerBinario<G>> extends RecombinadorBinario<G, S> {
+
+    private final int nPontos;
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param probabilidadeDeRecombinacao Probabilidade de recombinação, entre
+     * [0-1].
+     * @param nPontos Número de pontos de corte.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Caso a probabilidade de recombinação não esteja em [0,1];</li>
+     * <li>Caso o número de pontos seja menor que 1.</li>
+     * </ul>
+     */
+    public RecombinadorNPontos(double probabilidadeDeRecombinacao, int nPontos) {
+        super(probabilidadeDeRecombinacao, 2);
+        if (nPontos < 1) {
+            throw new IllegalArgumentException("Número de pontos de corte deve ser maior ou igual a 1.");
+        }
+        this.nPontos = nPontos;
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public List<S> recombinaTodos(List<S> pares) {
+        return recombinaTodosEmParalelo(pares);
+    }
+
+    /**
+     * @since 1.0
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o ser tiver menos que <i>n</i> + 1 bits.</li>
+     * </ul>
+     */
+    @Override
+    public List<S> recombina(List<S> pares) {
+        S par1 = pares.get(0);
+        int nBits = par1.getSize();
+
+        List<Integer> sorteio = IndiceAleatorio.getUniforme(par1, nPontos, 1, nBits - 1);
+        int[] cortes = new int[nPontos];
+        for (int i = 0; i < nPontos; i++) {
+            cortes[i] = sorteio.get(i);
+        }
+        Arrays.sort(cortes);
+
+        long[] filho1 = par1.getPalavras();
+        long[] filho2 = pares.get(1).getPalavras();
+
+        nPontos(filho1, filho2, cortes, nBits);
+
+        List<S> filhos = new ArrayList<>(2);
+        filhos.add(paraSer(filho1));
+        filhos.add(paraSer(filho2));
+        return filhos;
+    }
+
+    /**
+     * Realiza o cruzamento de <i>n</i> pontos in loco: os vetores dos pais são
+     * substituídos pelos dos filhos.
+     *
+     * @since 1.0
+     * @param a Primeiro pai; recebe o primeiro filho.
+     * @param b Segundo pai; recebe o segundo filho.
+     * @param cortes Pontos de corte, em ordem crescente: um corte em <i>c</i>
+     * inicia um novo segmento no bit <i>c</i>.
+     * @param nBits Número de bits.
+     */
+    public static void nPontos(long[] a, long[] b, int[] cortes, int nBits) {
+        long[] mascara = new long[a.length];
+        for (int k = 0; k < cortes.length; k += 2) {
+            int fim = (k + 1 < cortes.length) ? cortes[k + 1] : nBits;
+            Binarios.ativaIntervalo(mascara, cortes[k], fim);
+        }
+        Binarios.combina(a, b, mascara, a, b);
+    }
+
+    /**
+     * Recupera o número de pontos de corte.
+     *
+     * @since 1.0
+     * @return Número de pontos.
+     */
+    public final int getNPontos() {
+        return nPontos;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.seres.binarios.recombinadores;
+
+import ic.ce.base.utilidades.Binarios;
+import ic.ce.seres.binarios.SerBinario;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Recombinação uniforme para seres binários.
+ *
+ * <p>
+ * Cada bit do primeiro filho provém de um dos pais com igual probabilidade; o
+ * segundo filho recebe os bits complementares.
+ * </p>
+ * <p>
+ * Os pais são compactados em palavras de 64 bits e combinados por máscaras
+ * aleatórias: um sorteio por palavra, em vez de um por bit. A recombinação de
+ * uma coleção é realizada em paralelo.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class RecombinadorUniforme<G extends Number & Comparable<G>, S extends SerBinario<G>> extends RecombinadorBinario<G, S> {
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param probabilidadeDeRecombinacao Probabilidade de recombinação, entre
+     * [0-1].
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Caso a probabilidade de recombinação não esteja em [0,1].</li>
+     * </ul>
+     */
+    public RecombinadorUniforme(double probabilidadeDeRecombinacao) {
+        super(probabilidadeDeRecombinacao, 2);
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public List<S> recombinaTodos(List<S> pares) {
+        return recombinaTodosEmParalelo(pares);
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public List<S> recombina(List<S> pares) {
+        long[] filho1 = pares.get(0).getPalavras();
+        long[] filho2 = pares.get(1).getPalavras();
+
+        uniforme(filho1, filho2);
+
+        List<S> filhos = new ArrayList<>(2);
+        filhos.add(paraSer(filho1));
+        filhos.add(paraSer(filho2));
+        return filhos;
+    }
+
+    /**
+     * Realiza o cruzamento uniforme in loco: os vetores dos pais são
+     * substituídos pelos dos filhos.
+     *
+     * @since 1.0
+     * @param a Primeiro pai; recebe o primeiro filho.
+     * @param b Segundo pai; recebe o segundo filho.
+     */
+    public static void uniforme(long[] a, long[] b) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        long[] mascara = new long[a.length];
+        for (int w = 0; w < mascara.length; w++) {
+            mascara[w] = aleatorio.nextLong();
+        }
+        Binarios.combina(a, b, mascara, a, b);
+    }
+}
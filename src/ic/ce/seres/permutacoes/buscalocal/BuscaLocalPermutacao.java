@@ -0,0 +1,175 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.seres.permutacoes.buscalocal;
+
+import ic.ce.base.Caracteristica;
+import ic.ce.base.Ser;
+import ic.ce.base.algoritmo.operadores.BuscaLocal;
+import ic.ce.seres.permutacoes.SerPermutacao;
+import ic.ce.seres.permutacoes.muradores.MutadorPermutacao;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Busca local para permutações: 2-opt e Or-opt.
+ *
+ * <p>
+ * A cada passo, um movimento aleatório é aplicado à cópia de trabalho e
+ * mantido se melhorar a solução corrente; caso contrário, é desfeito
+ * (primeira melhora, vizinhança amostrada):
+ * </p>
+ * <ul>
+ * <li>2-opt: inversão do trecho entre duas posições;</li>
+ * <li>Or-opt: deslocamento de um segmento de 1 a 3 elementos para outra
+ * posição.</li>
+ * </ul>
+ * <p>
+ * Os dois movimentos são sorteados com igual probabilidade, até que o
+ * orçamento de avaliações se esgote. As posições alteradas são as do trecho
+ * invertido ou rotacionado.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class BuscaLocalPermutacao<G extends Number & Comparable<G>, S extends SerPermutacao<G>> extends BuscaLocal<G, S> {
+
+    /**
+     * Tamanho máximo dos segmentos do Or-opt.
+     */
+    private static final int SEGMENTO_MAXIMO = 3;
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param probabilidadeDeAplicacao Probabilidade de aplicação a cada ser.
+     * @param maxAvaliacoes Número máximo de avaliações por aplicação.
+     */
+    public BuscaLocalPermutacao(double probabilidadeDeAplicacao, int maxAvaliacoes) {
+        super(probabilidadeDeAplicacao, maxAvaliacoes);
+    }
+
+    @Override
+    public S busca(S origem) {
+        G grauOrigem = grauDe(origem);
+        int n = origem.getSize();
+        if (n < 3) {
+            return origem;
+        }
+
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        S atual = copia(origem);
+        S candidato = copia(origem);
+        G grauAtual = grauOrigem;
+        boolean melhorou = false;
+
+        for (int avaliacao = 0; avaliacao < getMaxAvaliacoes(); avaliacao++) {
+            int inicio;
+            int fim;
+            int deslocamento;
+
+            if (aleatorio.nextBoolean()) {
+                inicio = aleatorio.nextInt(n - 1);
+                fim = inicio + 2 + aleatorio.nextInt(n - inicio - 1);
+                deslocamento = 0;
+                inverte(candidato, inicio, fim);
+            } else {
+                int tamanho = 1 + aleatorio.nextInt(Math.min(SEGMENTO_MAXIMO, n - 1));
+                int de = aleatorio.nextInt(n - tamanho + 1);
+                int para;
+                do {
+                    para = aleatorio.nextInt(n - tamanho + 1);
+                } while (para == de);
+                inicio = Math.min(de, para);
+                fim = Math.max(de, para) + tamanho;
+                deslocamento = (para > de) ? -tamanho : tamanho;
+                rotaciona(candidato, inicio, fim, deslocamento);
+            }
+
+            int[] alterados = new int[fim - inicio];
+            for (int i = 0; i < alterados.length; i++) {
+                alterados[i] = inicio + i;
+            }
+
+            G grau = avaliaCandidato(atual, grauAtual, candidato, alterados);
+
+            if (getAmbiente().compare(grau, grauAtual) > 0) {
+                if (deslocamento == 0) {
+                    inverte(atual, inicio, fim);
+                } else {
+                    rotaciona(atual, inicio, fim, deslocamento);
+                }
+                grauAtual = grau;
+                melhorou = true;
+            } else if (deslocamento == 0) {
+                inverte(candidato, inicio, fim);
+            } else {
+                rotaciona(candidato, inicio, fim, -deslocamento);
+            }
+        }
+
+        return melhorou ? materializa(atual, grauAtual) : origem;
+    }
+
+    /**
+     * Inverte o trecho [inicio, fim) de um ser.
+     *
+     * @since 1.0
+     * @param ser Ser não avaliado.
+     * @param inicio Posição inicial, inclusiva.
+     * @param fim Posição final, exclusiva.
+     */
+    public final static void inverte(Ser ser, int inicio, int fim) {
+        for (int i = inicio, j = fim - 1; i < j; i++, j--) {
+            MutadorPermutacao.swap(ser, i, j);
+        }
+    }
+
+    /**
+     * Rotaciona o trecho [inicio, fim) de um ser: o elemento na posição
+     * <i>inicio</i> + <i>k</i> passa à posição <i>inicio</i> + (<i>k</i> +
+     * <i>deslocamento</i>) mod (<i>fim</i> - <i>inicio</i>).
+     *
+     * @since 1.0
+     * @param ser Ser não avaliado.
+     * @param inicio Posição inicial, inclusiva.
+     * @param fim Posição final, exclusiva.
+     * @param deslocamento Deslocamento, positivo ou negativo.
+     */
+    public final static void rotaciona(Ser ser, int inicio, int fim, int deslocamento) {
+        int tamanho = fim - inicio;
+        Caracteristica[] trecho = new Caracteristica[tamanho];
+        for (int k = 0; k < tamanho; k++) {
+            trecho[k] = ser.getCaracteristica(inicio + k);
+        }
+        for (int k = 0; k < tamanho; k++) {
+            ser.setCaracteristica(inicio + Math.floorMod(k + deslocamento, tamanho), trecho[k]);
+        }
+    }
+}
@@ -0,0 +1,389 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.seres.permutacoes.buscalocal;
+
+import java.util.stream.IntStream;
+
+/**
+ * Otimizador local de rotas: 2-opt e Or-opt com listas de vizinhos.
+ *
+ * <p>
+ * Destinado a problemas do tipo caixeiro-viajante simétrico, com rotas
+ * representadas por permutações de 0 a n-1 em <code>int[]</code>, tratadas como
+ * ciclos. Os movimentos são avaliados em O(1) pela matriz de distâncias:
+ * </p>
+ * <ul>
+ * <li>2-opt: troca de duas arestas, realizada pela inversão do trecho entre
+ * elas – do lado mais curto do ciclo;</li>
+ * <li>Or-opt: deslocamento de um segmento de 1 a 3 cidades para outra aresta,
+ * com ou sem inversão, realizado por até três inversões.</li>
+ * </ul>
+ * <p>
+ * Candidatos são restritos aos <i>k</i> vizinhos mais próximos de cada cidade,
+ * calculados uma única vez, em paralelo, na construção. Bits "não olhe": uma
+ * fila mantém as cidades ativas; uma cidade sem movimento de melhora sai da
+ * fila e só retorna quando uma de suas arestas é alterada. A busca termina
+ * quando a fila se esvazia: a rota é um ótimo local das duas vizinhanças
+ * restritas.
+ * </p>
+ * <p>
+ * O otimizador não tem estado mutável após a construção: chamadas
+ * concorrentes, sobre rotas distintas, são seguras – e.g., a otimização de
+ * todos os filhos de uma geração em paralelo, por
+ * {@link ic.ce.seres.permutacoes.muradores.MutadorDoisOpt}.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ */
+public class OtimizadorDoisOpt {
+
+    /**
+     * Melhora mínima para aceitação de um movimento, contra ciclos por erros
+     * de arredondamento.
+     */
+    private static final double EPSILON = 1e-10;
+
+    /**
+     * Tamanho máximo dos segmentos do Or-opt.
+     */
+    private static final int SEGMENTO_MAXIMO = 3;
+
+    private final double[][] distancias;
+    private final int[][] vizinhos;
+    private final int n;
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param distancias Matriz de distâncias simétrica, n×n; não é copiada e
+     * não deve ser modificada.
+     * @param k Número de vizinhos mais próximos considerados por cidade.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se a matriz não for quadrada ou tiver menos de 4 cidades;</li>
+     * <li>Se <i>k</i> for menor que 1.</li>
+     * </ul>
+     */
+    public OtimizadorDoisOpt(double[][] distancias, int k) {
+        n = distancias.length;
+        if (n < 4) {
+            throw new IllegalArgumentException("Número de cidades deve ser maior ou igual a 4.");
+        }
+        for (double[] linha : distancias) {
+            if (linha.length != n) {
+                throw new IllegalArgumentException("Matriz de distâncias deve ser quadrada.");
+            }
+        }
+        if (k < 1) {
+            throw new IllegalArgumentException("Número de vizinhos deve ser maior ou igual a 1.");
+        }
+        this.distancias = distancias;
+
+        int nVizinhos = Math.min(k, n - 1);
+        vizinhos = new int[n][];
+        IntStream.range(0, n).parallel().forEach(cidade -> vizinhos[cidade] = maisProximos(cidade, nVizinhos));
+    }
+
+    /**
+     * Seleciona as <i>k</i> cidades mais próximas, em ordem crescente de
+     * distância, por inserção em um vetor limitado.
+     */
+    private int[] maisProximos(int cidade, int k) {
+        int[] indices = new int[k];
+        double[] proximas = new double[k];
+        int tamanho = 0;
+        double[] linha = distancias[cidade];
+
+        for (int outra = 0; outra < n; outra++) {
+            if (outra == cidade) {
+                continue;
+            }
+            double distancia = linha[outra];
+            if (tamanho == k && distancia >= proximas[k - 1]) {
+                continue;
+            }
+            int i = (tamanho < k) ? tamanho++ : k - 1;
+            while (i > 0 && proximas[i - 1] > distancia) {
+                proximas[i] = proximas[i - 1];
+                indices[i] = indices[i - 1];
+                i--;
+            }
+            proximas[i] = distancia;
+            indices[i] = outra;
+        }
+        return indices;
+    }
+
+    /**
+     * Otimiza uma rota, em seu próprio array.
+     *
+     * @since 1.0
+     * @param rota Permutação de 0 a n-1.
+     * @return Redução do comprimento da rota.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se a rota não tiver o número de cidades do otimizador.</li>
+     * </ul>
+     */
+    public double otimiza(int[] rota) {
+        if (rota.length != n) {
+            throw new IllegalArgumentException("Rota deve conter " + n + " cidades.");
+        }
+        return new Busca(rota).executa();
+    }
+
+    /**
+     * Calcula o comprimento de uma rota, como ciclo.
+     *
+     * @since 1.0
+     * @param rota Permutação das cidades.
+     * @return Comprimento.
+     */
+    public double comprimento(int[] rota) {
+        double comprimento = distancias[rota[rota.length - 1]][rota[0]];
+        for (int i = 1; i < rota.length; i++) {
+            comprimento += distancias[rota[i - 1]][rota[i]];
+        }
+        return comprimento;
+    }
+
+    /**
+     * Recupera o número de cidades.
+     *
+     * @since 1.0
+     * @return Número de cidades.
+     */
+    public final int getNCidades() {
+        return n;
+    }
+
+    /**
+     * Estado de uma otimização: rota, posições e fila de cidades ativas.
+     */
+    private final class Busca {
+
+        private final int[] rota;
+        private final int[] posicao;
+        private final int[] fila;
+        private final boolean[] naFila;
+        private int inicioFila = 0;
+        private int tamanhoFila = 0;
+
+        Busca(int[] rota) {
+            this.rota = rota;
+            this.posicao = new int[n];
+            this.fila = new int[n];
+            this.naFila = new boolean[n];
+            for (int i = 0; i < n; i++) {
+                posicao[rota[i]] = i;
+                ativa(rota[i]);
+            }
+        }
+
+        double executa() {
+            double ganho = 0;
+            while (tamanhoFila > 0) {
+                int cidade = fila[inicioFila];
+                inicioFila = (inicioFila + 1) % n;
+                tamanhoFila--;
+                naFila[cidade] = false;
+
+                double melhora = doisOpt(cidade);
+                if (melhora == 0) {
+                    melhora = orOpt(cidade);
+                }
+                ganho += melhora;
+            }
+            return ganho;
+        }
+
+        private void ativa(int cidade) {
+            if (!naFila[cidade]) {
+                naFila[cidade] = true;
+                fila[(inicioFila + tamanhoFila) % n] = cidade;
+                tamanhoFila++;
+            }
+        }
+
+        private int sucessor(int cidade) {
+            int i = posicao[cidade] + 1;
+            return rota[(i == n) ? 0 : i];
+        }
+
+        private int antecessor(int cidade) {
+            int i = posicao[cidade];
+            return rota[(i == 0) ? n - 1 : i - 1];
+        }
+
+        /**
+         * Procura e aplica o primeiro 2-opt de melhora com arestas da cidade.
+         *
+         * @return Melhora obtida, ou 0.
+         */
+        private double doisOpt(int a) {
+            for (int direcao = 0; direcao < 2; direcao++) {
+                int b = (direcao == 0) ? sucessor(a) : antecessor(a);
+                double dab = distancias[a][b];
+
+                for (int c : vizinhos[a]) {
+                    double dac = distancias[a][c];
+                    if (dac >= dab - EPSILON) {
+                        break;
+                    }
+                    int d = (direcao == 0) ? sucessor(c) : antecessor(c);
+                    if (c == b || d == a) {
+                        continue;
+                    }
+                    double delta = dac + distancias[b][d] - dab - distancias[c][d];
+                    if (delta < -EPSILON) {
+                        troca(a, b, c, d);
+                        ativa(a);
+                        ativa(b);
+                        ativa(c);
+                        ativa(d);
+                        return -delta;
+                    }
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * Procura e aplica o primeiro Or-opt de melhora para segmentos que
+         * começam na cidade.
+         *
+         * @return Melhora obtida, ou 0.
+         */
+        private double orOpt(int s1) {
+            int s2 = s1;
+            for (int tamanho = 1; tamanho <= SEGMENTO_MAXIMO && tamanho + 3 <= n; tamanho++) {
+                if (tamanho > 1) {
+                    s2 = sucessor(s2);
+                }
+                int p = antecessor(s1);
+                int proximo = sucessor(s2);
+                double remocao = distancias[p][s1] + distancias[s2][proximo] - distancias[p][proximo];
+                if (remocao <= EPSILON) {
+                    continue;
+                }
+
+                for (int extremo = 0; extremo < 2; extremo++) {
+                    int[] candidatos = vizinhos[(extremo == 0) ? s1 : s2];
+                    for (int c : candidatos) {
+                        for (int lado = 0; lado < 2; lado++) {
+                            int x = (lado == 0) ? c : antecessor(c);
+                            int y = (lado == 0) ? sucessor(c) : c;
+                            if (x == p || noSegmento(x, s1, tamanho)) {
+                                continue;
+                            }
+                            double dxy = distancias[x][y];
+                            double invertido = distancias[x][s2] + distancias[s1][y] - dxy;
+                            double direto = distancias[x][s1] + distancias[s2][y] - dxy;
+                            boolean inverte = invertido <= direto;
+                            double insercao = inverte ? invertido : direto;
+
+                            if (remocao - insercao > EPSILON) {
+                                desloca(p, s1, s2, proximo, x, y, inverte);
+                                ativa(p);
+                                ativa(proximo);
+                                ativa(s1);
+                                ativa(s2);
+                                ativa(x);
+                                ativa(y);
+                                return remocao - insercao;
+                            }
+                        }
+                    }
+                }
+            }
+            return 0;
+        }
+
+        private boolean noSegmento(int cidade, int s1, int tamanho) {
+            int atual = s1;
+            for (int i = 0; i < tamanho; i++) {
+                if (atual == cidade) {
+                    return true;
+                }
+                atual = sucessor(atual);
+            }
+            return false;
+        }
+
+        /**
+         * 2-opt: substitui as arestas (a, b) e (c, d) por (a, c) e (b, d);
+         * <i>b</i> e <i>d</i> devem seguir <i>a</i> e <i>c</i> no mesmo
+         * sentido.
+         */
+        private void troca(int a, int b, int c, int d) {
+            if (sucessor(a) == b) {
+                inverte(posicao[b], posicao[c]);
+            } else {
+                inverte(posicao[a], posicao[d]);
+            }
+        }
+
+        /**
+         * Or-opt: move o segmento s1..s2, entre <i>p</i> e <i>proximo</i>,
+         * para a aresta (x, y), por até três trocas 2-opt.
+         */
+        private void desloca(int p, int s1, int s2, int proximo, int x, int y, boolean invertido) {
+            troca(p, s1, x, y);
+            if (x != proximo) {
+                troca(p, x, proximo, s2);
+            }
+            if (!invertido && s1 != s2) {
+                troca(x, s2, s1, y);
+            }
+        }
+
+        /**
+         * Inverte o trecho circular de <i>i</i> a <i>j</i>, inclusive – ou seu
+         * complemento, se menor: o ciclo resultante é o mesmo.
+         */
+        private void inverte(int i, int j) {
+            int tamanho = ((j - i + n) % n) + 1;
+            if (2 * tamanho > n) {
+                int inicio = (j + 1) % n;
+                j = (i - 1 + n) % n;
+                i = inicio;
+                tamanho = n - tamanho;
+            }
+            for (int s = 0; s < tamanho / 2; s++) {
+                int ci = rota[i];
+                int cj = rota[j];
+                rota[i] = cj;
+                rota[j] = ci;
+                posicao[cj] = i;
+                posicao[ci] = j;
+                i = (i + 1 == n) ? 0 : i + 1;
+                j = (j == 0) ? n - 1 : j - 1;
+            }
+        }
+    }
+}
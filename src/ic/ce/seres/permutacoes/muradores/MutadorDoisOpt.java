@@ -0,0 +1,107 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.seres.permutacoes.muradores;
+
+import ic.ce.base.Caracteristica;
+import ic.ce.seres.permutacoes.SerPermutacao;
+import ic.ce.seres.permutacoes.buscalocal.OtimizadorDoisOpt;
+
+/**
+ * Mutador de otimização local: 2-opt e Or-opt.
+ *
+ * <p>
+ * Aplica {@link OtimizadorDoisOpt} à rota representada pelo ser, levando-a a
+ * um ótimo local. A rota é extraída para um <code>int[]</code> – cidades
+ * numeradas a partir do limite inferior do ser –, otimizada e as
+ * características do ser reordenadas de acordo.
+ * </p>
+ * <p>
+ * Como em todo mutador, a aplicação a uma coleção ocorre em paralelo, um ser
+ * por tarefa: com um algoritmo genético, cada filho da geração é otimizado
+ * concorrentemente.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <S> Classe dos Seres.
+ */
+public class MutadorDoisOpt<S extends SerPermutacao> extends MutadorPermutacao<S> {
+
+    private final OtimizadorDoisOpt otimizador;
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param probabilidadeDeMutacao Probabilidade de aplicação a cada ser.
+     * @param otimizador Otimizador, construído para as distâncias do problema.
+     */
+    public MutadorDoisOpt(double probabilidadeDeMutacao, OtimizadorDoisOpt otimizador) {
+        super(probabilidadeDeMutacao);
+        this.otimizador = otimizador;
+    }
+
+    /**
+     * @since 1.0
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o ser não tiver o número de cidades do otimizador.</li>
+     * </ul>
+     */
+    @Override
+    public void muta(S origem) {
+        int n = origem.getSize();
+        if (n != otimizador.getNCidades()) {
+            throw new IllegalArgumentException("Ser deve conter " + otimizador.getNCidades() + " cidades.");
+        }
+        int base = origem.getLimiteInferior();
+
+        int[] rota = new int[n];
+        Caracteristica[] porCidade = new Caracteristica[n];
+        for (int i = 0; i < n; i++) {
+            Caracteristica locus = origem.getCaracteristica(i);
+            int cidade = locus.getValor().intValue() - base;
+            rota[i] = cidade;
+            porCidade[cidade] = locus;
+        }
+
+        if (otimizador.otimiza(rota) > 0) {
+            for (int i = 0; i < n; i++) {
+                origem.setCaracteristica(i, porCidade[rota[i]]);
+            }
+        }
+    }
+
+    /**
+     * Recupera o otimizador.
+     *
+     * @since 1.0
+     * @return Otimizador.
+     */
+    public final OtimizadorDoisOpt getOtimizador() {
+        return otimizador;
+    }
+}
@@ -23,16 +23,26 @@
  */
 package ic.ce.seres.permutacoes.muradores;
 
+import ic.ce.base.Alteracao;
 import ic.ce.base.Caracteristica;
 import ic.ce.base.Ser;
 import ic.ce.base.algoritmo.operadores.Mutador;
 import ic.ce.seres.permutacoes.SerPermutacao;
 import ic.ce.base.utilidades.IndiceAleatorio;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Operador de mutação para seres baseados em permutação.
  *
+ * <p>
+ * Além da troca, oferece inversão, inserção e embaralhamento, sobre seres ou
+ * sobre vetores de inteiros. As operações alteram um intervalo contíguo:
+ * apenas esse intervalo é copiado para um vetor, modificado com cópias em
+ * bloco e reescrito – as características são reordenadas, sem cópia – e
+ * o intervalo é retornado como registro de alteração.
+ * </p>
+ *
  * @author Victor de Lima Soares
  * @version 1.0
  *
@@ -89,4 +99,213 @@ public abstract class MutadorPermutacao<S extends SerPermutacao> extends Mutador
         origem.setCaracteristica(indiceJ, cI);
     }
 
+    /**
+     * Realiza a inversão de um segmento de um ser, com extremos selecionados
+     * aleatoriamente.
+     *
+     * <p>
+     * Sorteio uniforme e sem repetição.
+     * </p>
+     *
+     * @since 1.0
+     * @param origem Ser objeto da mutação.
+     * @return Registro da alteração.
+     */
+    public final static Alteracao inversionMutation(SerPermutacao<?> origem) {
+        List<Integer> indices = IndiceAleatorio.getUniforme(origem, 2);
+        return inversao(origem, Math.min(indices.get(0), indices.get(1)), Math.max(indices.get(0), indices.get(1)));
+    }
+
+    /**
+     * Realiza a inserção de uma característica, selecionada aleatoriamente,
+     * em uma nova posição, também aleatória.
+     *
+     * <p>
+     * Sorteio uniforme e sem repetição.
+     * </p>
+     *
+     * @since 1.0
+     * @param origem Ser objeto da mutação.
+     * @return Registro da alteração.
+     */
+    public final static Alteracao insertionMutation(SerPermutacao<?> origem) {
+        List<Integer> indices = IndiceAleatorio.getUniforme(origem, 2);
+        return insercao(origem, indices.get(0), indices.get(1));
+    }
+
+    /**
+     * Realiza o embaralhamento de um segmento de um ser, com extremos
+     * selecionados aleatoriamente.
+     *
+     * <p>
+     * Sorteio uniforme e sem repetição.
+     * </p>
+     *
+     * @since 1.0
+     * @param origem Ser objeto da mutação.
+     * @return Registro da alteração.
+     */
+    public final static Alteracao scrambleMutation(SerPermutacao<?> origem) {
+        List<Integer> indices = IndiceAleatorio.getUniforme(origem, 2);
+        return embaralhamento(origem, Math.min(indices.get(0), indices.get(1)), Math.max(indices.get(0), indices.get(1)));
+    }
+
+    /**
+     * Inverte a ordem das características em [inicio, fim].
+     *
+     * @since 1.0
+     * @param origem Ser objeto da mutação.
+     * @param inicio Posição inicial.
+     * @param fim Posição final, inclusive.
+     * @return Registro da alteração.
+     */
+    public final static Alteracao inversao(SerPermutacao<?> origem, int inicio, int fim) {
+        Caracteristica<?>[] segmento = segmento(origem, inicio, fim);
+        for (int k = 0; k < segmento.length; k++) {
+            origem.setCaracteristica(inicio + k, segmento[segmento.length - 1 - k]);
+        }
+        return new Alteracao(inicio, fim);
+    }
+
+    /**
+     * Move a característica da posição <i>de</i> para a posição <i>para</i>,
+     * deslocando as intermediárias.
+     *
+     * @since 1.0
+     * @param origem Ser objeto da mutação.
+     * @param de Posição de origem.
+     * @param para Posição de destino.
+     * @return Registro da alteração.
+     */
+    public final static Alteracao insercao(SerPermutacao<?> origem, int de, int para) {
+        int inicio = Math.min(de, para);
+        int fim = Math.max(de, para);
+        Caracteristica<?>[] segmento = segmento(origem, inicio, fim);
+        desloca(segmento, de < para);
+        escreve(origem, inicio, segmento);
+        return new Alteracao(inicio, fim);
+    }
+
+    /**
+     * Embaralha as características em [inicio, fim].
+     *
+     * <p>
+     * Distribuição uniforme sobre as permutações do segmento.
+     * </p>
+     *
+     * @since 1.0
+     * @param origem Ser objeto da mutação.
+     * @param inicio Posição inicial.
+     * @param fim Posição final, inclusive.
+     * @return Registro da alteração.
+     */
+    public final static Alteracao embaralhamento(SerPermutacao<?> origem, int inicio, int fim) {
+        Caracteristica<?>[] segmento = segmento(origem, inicio, fim);
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        for (int k = segmento.length - 1; k > 0; k--) {
+            int j = aleatorio.nextInt(k + 1);
+            Caracteristica<?> c = segmento[k];
+            segmento[k] = segmento[j];
+            segmento[j] = c;
+        }
+        escreve(origem, inicio, segmento);
+        return new Alteracao(inicio, fim);
+    }
+
+    /**
+     * Inverte a ordem dos elementos em [inicio, fim].
+     *
+     * @since 1.0
+     * @param permutacao Permutação, modificada in loco.
+     * @param inicio Posição inicial.
+     * @param fim Posição final, inclusive.
+     * @return Registro da alteração.
+     */
+    public final static Alteracao inversao(int[] permutacao, int inicio, int fim) {
+        for (int i = inicio, j = fim; i < j; i++, j--) {
+            int e = permutacao[i];
+            permutacao[i] = permutacao[j];
+            permutacao[j] = e;
+        }
+        return new Alteracao(inicio, fim);
+    }
+
+    /**
+     * Move o elemento da posição <i>de</i> para a posição <i>para</i>,
+     * deslocando os intermediários em bloco.
+     *
+     * @since 1.0
+     * @param permutacao Permutação, modificada in loco.
+     * @param de Posição de origem.
+     * @param para Posição de destino.
+     * @return Registro da alteração.
+     */
+    public final static Alteracao insercao(int[] permutacao, int de, int para) {
+        int e = permutacao[de];
+        if (de < para) {
+            System.arraycopy(permutacao, de + 1, permutacao, de, para - de);
+        } else {
+            System.arraycopy(permutacao, para, permutacao, para + 1, de - para);
+        }
+        permutacao[para] = e;
+        return new Alteracao(Math.min(de, para), Math.max(de, para));
+    }
+
+    /**
+     * Embaralha os elementos em [inicio, fim].
+     *
+     * @since 1.0
+     * @param permutacao Permutação, modificada in loco.
+     * @param inicio Posição inicial.
+     * @param fim Posição final, inclusive.
+     * @return Registro da alteração.
+     */
+    public final static Alteracao embaralhamento(int[] permutacao, int inicio, int fim) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        for (int k = fim; k > inicio; k--) {
+            int j = inicio + aleatorio.nextInt(k - inicio + 1);
+            int e = permutacao[k];
+            permutacao[k] = permutacao[j];
+            permutacao[j] = e;
+        }
+        return new Alteracao(inicio, fim);
+    }
+
+    /**
+     * Copia as características em [inicio, fim] para um vetor.
+     */
+    private static Caracteristica<?>[] segmento(SerPermutacao<?> origem, int inicio, int fim) {
+        Caracteristica<?>[] segmento = new Caracteristica<?>[fim - inicio + 1];
+        for (int k = 0; k < segmento.length; k++) {
+            segmento[k] = origem.getCaracteristica(inicio + k);
+        }
+        return segmento;
+    }
+
+    /**
+     * Reescreve um segmento no ser, a partir da posição inicial.
+     */
+    private static void escreve(SerPermutacao<?> origem, int inicio, Caracteristica<?>[] segmento) {
+        for (int k = 0; k < segmento.length; k++) {
+            origem.setCaracteristica(inicio + k, segmento[k]);
+        }
+    }
+
+    /**
+     * Desloca um segmento circularmente em uma posição: para a esquerda – o
+     * primeiro elemento passa ao fim – ou para a direita.
+     */
+    private static void desloca(Caracteristica<?>[] segmento, boolean paraEsquerda) {
+        int n = segmento.length;
+        if (paraEsquerda) {
+            Caracteristica<?> primeiro = segmento[0];
+            System.arraycopy(segmento, 1, segmento, 0, n - 1);
+            segmento[n - 1] = primeiro;
+        } else {
+            Caracteristica<?> ultimo = segmento[n - 1];
+            System.arraycopy(segmento, 0, segmento, 1, n - 1);
+            segmento[0] = ultimo;
+        }
+    }
+
 }
@@ -0,0 +1,136 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.seres.permutacoes.recombinadores;
+
+import ic.ce.seres.permutacoes.SerPermutacao;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Cycle Crossover (CX).
+ *
+ * <p>
+ * Recombinação para representações baseadas em permutações: preserva a
+ * posição absoluta dos elementos – cada posição do filho recebe o valor de um
+ * dos progenitores na mesma posição.
+ * </p>
+ * <h3>Passos:</h3>
+ * <ol>
+ * <li>Identifica os ciclos entre P1 e P2: partindo de uma posição <i>i</i>, a
+ * próxima posição do ciclo é a ocupada em P1 pelo valor de P2 em <i>i</i>;</li>
+ * <li>Ciclos alternados são copiados de P1 e de P2 para o primeiro filho;</li>
+ * <li>O segundo filho recebe a escolha complementar.</li>
+ * </ol>
+ * <p>
+ * Operação sobre vetores de inteiros, com índice inverso de P1: O(n) para os
+ * dois filhos.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class CX<G extends Number & Comparable<G>, S extends SerPermutacao<G>> extends RecombinadorPermutacao<G, S> {
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param probabilidadeDeRecombinacao Probabilidade de recombinação, entre
+     * [0-1].
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Caso a probabilidade de recombinação não esteja em [0,1].</li>
+     * </ul>
+     */
+    public CX(double probabilidadeDeRecombinacao) {
+        super(probabilidadeDeRecombinacao, 2);
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public List<S> recombina(List<S> pares) {
+        S par1 = pares.get(0);
+        S par2 = pares.get(1);
+
+        int[] p1 = paraVetor(par1);
+        int[] p2 = paraVetor(par2);
+        int[] filho1 = new int[p1.length];
+        int[] filho2 = new int[p1.length];
+
+        cx(p1, p2, filho1, filho2, new int[p1.length]);
+
+        List<S> filhos = new ArrayList<>(2);
+        filhos.add(paraSer(filho1, par1.getLimiteInferior()));
+        filhos.add(paraSer(filho2, par1.getLimiteInferior()));
+        return filhos;
+    }
+
+    /**
+     * Realiza cruzamento, gerando dois filhos.
+     *
+     * @since 1.0
+     * @param p1 Primeiro progenitor: permutação de [0, n).
+     * @param p2 Segundo progenitor: permutação de [0, n).
+     * @param filho1 Vetor de destino do primeiro filho, de tamanho n.
+     * @param filho2 Vetor de destino do segundo filho, de tamanho n.
+     * @param posicao Vetor de trabalho, de tamanho n; sobrescrito.
+     */
+    public static void cx(int[] p1, int[] p2, int[] filho1, int[] filho2, int[] posicao) {
+        int n = p1.length;
+        for (int i = 0; i < n; i++) {
+            posicao[p1[i]] = i;
+        }
+
+        // -1: posição ainda não visitada.
+        Arrays.fill(filho1, -1);
+
+        boolean deP1 = true;
+        for (int inicio = 0; inicio < n; inicio++) {
+            if (filho1[inicio] != -1) {
+                continue;
+            }
+            int i = inicio;
+            do {
+                if (deP1) {
+                    filho1[i] = p1[i];
+                    filho2[i] = p2[i];
+                } else {
+                    filho1[i] = p2[i];
+                    filho2[i] = p1[i];
+                }
+                i = posicao[p2[i]];
+            } while (i != inicio);
+            deP1 = !deP1;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.seres.permutacoes.recombinadores;
+
+import ic.ce.seres.permutacoes.SerPermutacao;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Edge Recombination Crossover (ERX).
+ *
+ * <p>
+ * Recombinação para representações baseadas em permutações: preserva as
+ * adjacências dos progenitores, tratando a permutação como um ciclo – adequada
+ * ao caixeiro viajante simétrico.
+ * </p>
+ * <h3>Passos:</h3>
+ * <ol>
+ * <li>Constrói a tabela de arestas: para cada elemento, a união de seus
+ * vizinhos em P1 e P2 (até quatro);</li>
+ * <li>Inicia o filho pelo primeiro elemento de um dos progenitores;</li>
+ * <li>Remove o elemento corrente da tabela e escolhe o próximo entre seus
+ * vizinhos restantes, preferindo o de menor número de vizinhos – empates
+ * resolvidos aleatoriamente;</li>
+ * <li>Sem vizinhos restantes, escolhe aleatoriamente um elemento ainda não
+ * visitado;</li>
+ * <li>O segundo filho é construído da mesma forma, iniciando por P2.</li>
+ * </ol>
+ * <p>
+ * Operação sobre vetores de inteiros: tabela de arestas em vetor de tamanho
+ * 4n e elementos não visitados em vetor com índice inverso, removidos por
+ * troca com o último – O(n) por filho.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class ERX<G extends Number & Comparable<G>, S extends SerPermutacao<G>> extends RecombinadorPermutacao<G, S> {
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param probabilidadeDeRecombinacao Probabilidade de recombinação, entre
+     * [0-1].
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Caso a probabilidade de recombinação não esteja em [0,1].</li>
+     * </ul>
+     */
+    public ERX(double probabilidadeDeRecombinacao) {
+        super(probabilidadeDeRecombinacao, 2);
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public List<S> recombina(List<S> pares) {
+        S par1 = pares.get(0);
+        S par2 = pares.get(1);
+
+        int[] p1 = paraVetor(par1);
+        int[] p2 = paraVetor(par2);
+        int n = p1.length;
+
+        int[] vizinhos = new int[4 * n];
+        int[] graus = new int[n];
+        tabelaDeArestas(p1, p2, vizinhos, graus);
+
+        int[] trabalhoVizinhos = new int[4 * n];
+        int[] trabalhoGraus = new int[n];
+        int[] filho = new int[n];
+
+        List<S> filhos = new ArrayList<>(2);
+        for (int[] progenitor : new int[][]{p1, p2}) {
+            System.arraycopy(vizinhos, 0, trabalhoVizinhos, 0, vizinhos.length);
+            System.arraycopy(graus, 0, trabalhoGraus, 0, n);
+            erx(progenitor[0], trabalhoVizinhos, trabalhoGraus, filho);
+            filhos.add(paraSer(filho, par1.getLimiteInferior()));
+        }
+        return filhos;
+    }
+
+    /**
+     * Constrói a tabela de arestas de dois progenitores.
+     *
+     * @since 1.0
+     * @param p1 Primeiro progenitor: permutação de [0, n).
+     * @param p2 Segundo progenitor: permutação de [0, n).
+     * @param vizinhos Vetor de destino, de tamanho 4n: vizinhos do elemento
+     * <i>e</i> em [4e, 4e + graus[e]).
+     * @param graus Vetor de destino, de tamanho n: número de vizinhos de cada
+     * elemento.
+     */
+    public static void tabelaDeArestas(int[] p1, int[] p2, int[] vizinhos, int[] graus) {
+        Arrays.fill(graus, 0);
+        for (int[] p : new int[][]{p1, p2}) {
+            int n = p.length;
+            for (int i = 0; i < n; i++) {
+                int a = p[i];
+                int b = p[(i + 1) % n];
+                adicionaAresta(a, b, vizinhos, graus);
+                adicionaAresta(b, a, vizinhos, graus);
+            }
+        }
+    }
+
+    /**
+     * Adiciona b à lista de vizinhos de a, se ausente.
+     */
+    private static void adicionaAresta(int a, int b, int[] vizinhos, int[] graus) {
+        int base = 4 * a;
+        for (int k = base; k < base + graus[a]; k++) {
+            if (vizinhos[k] == b) {
+                return;
+            }
+        }
+        vizinhos[base + graus[a]++] = b;
+    }
+
+    /**
+     * Constrói um filho a partir da tabela de arestas.
+     *
+     * @since 1.0
+     * @param inicio Elemento inicial.
+     * @param vizinhos Tabela de arestas, consumida pela operação.
+     * @param graus Graus da tabela de arestas, consumidos pela operação.
+     * @param filho Vetor de destino, de tamanho n.
+     *
+     * @see #tabelaDeArestas(int[], int[], int[], int[])
+     */
+    public static void erx(int inicio, int[] vizinhos, int[] graus, int[] filho) {
+        int n = filho.length;
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+
+        // Elementos não visitados: restantes[0, nRestantes), com índice inverso.
+        int[] restantes = new int[n];
+        int[] indice = new int[n];
+        for (int e = 0; e < n; e++) {
+            restantes[e] = e;
+            indice[e] = e;
+        }
+        int nRestantes = n;
+
+        int atual = inicio;
+        for (int i = 0; i < n; i++) {
+            filho[i] = atual;
+
+            int ultimo = restantes[--nRestantes];
+            restantes[indice[atual]] = ultimo;
+            indice[ultimo] = indice[atual];
+
+            int base = 4 * atual;
+            for (int k = base; k < base + graus[atual]; k++) {
+                removeAresta(vizinhos[k], atual, vizinhos, graus);
+            }
+
+            if (nRestantes == 0) {
+                break;
+            }
+
+            int proximo = -1;
+            int menorGrau = Integer.MAX_VALUE;
+            int empates = 0;
+            for (int k = base; k < base + graus[atual]; k++) {
+                int candidato = vizinhos[k];
+                if (graus[candidato] < menorGrau) {
+                    menorGrau = graus[candidato];
+                    proximo = candidato;
+                    empates = 1;
+                } else if (graus[candidato] == menorGrau && aleatorio.nextInt(++empates) == 0) {
+                    proximo = candidato;
+                }
+            }
+            graus[atual] = 0;
+
+            atual = (proximo != -1) ? proximo : restantes[aleatorio.nextInt(nRestantes)];
+        }
+    }
+
+    /**
+     * Remove b da lista de vizinhos de a.
+     */
+    private static void removeAresta(int a, int b, int[] vizinhos, int[] graus) {
+        int base = 4 * a;
+        int fim = base + graus[a];
+        for (int k = base; k < fim; k++) {
+            if (vizinhos[k] == b) {
+                vizinhos[k] = vizinhos[fim - 1];
+                graus[a]--;
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.seres.permutacoes.recombinadores;
+
+import ic.ce.base.utilidades.IndiceAleatorio;
+import ic.ce.seres.permutacoes.SerPermutacao;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Order Crossover (OX).
+ *
+ * <p>
+ * Recombinação para representações baseadas em permutações: preserva a ordem
+ * relativa dos elementos, adequada a problemas de roteamento.
+ * </p>
+ * <h3>Passos:</h3>
+ * <ol>
+ * <li>Escolhe dois pontos de crossover aleatoriamente;</li>
+ * <li>Copia o segmento de P1 entre os pontos no filho, nas mesmas
+ * posições;</li>
+ * <li>A partir da posição seguinte ao segundo ponto, percorre P2 de forma
+ * circular, copiando no filho – também de forma circular – os elementos ainda
+ * não presentes;</li>
+ * <li>Realiza-se o mesmo procedimento para a obtenção de um segundo filho,
+ * invertendo os papeis de P1 e P2.</li>
+ * </ol>
+ * <p>
+ * Operação sobre vetores de inteiros, com marcação dos elementos copiados em
+ * vetor indexado pelo valor: O(n) por filho.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class OX<G extends Number & Comparable<G>, S extends SerPermutacao<G>> extends RecombinadorPermutacao<G, S> {
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param probabilidadeDeRecombinacao Probabilidade de recombinação, entre
+     * [0-1].
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Caso a probabilidade de recombinação não esteja em [0,1].</li>
+     * </ul>
+     */
+    public OX(double probabilidadeDeRecombinacao) {
+        super(probabilidadeDeRecombinacao, 2);
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public List<S> recombina(List<S> pares) {
+        S par1 = pares.get(0);
+        S par2 = pares.get(1);
+
+        List<Integer> crossover = IndiceAleatorio.getUniforme(par1, 2);
+        crossover.sort(null);
+
+        int[] p1 = paraVetor(par1);
+        int[] p2 = paraVetor(par2);
+        int[] filho = new int[p1.length];
+        boolean[] usados = new boolean[p1.length];
+
+        List<S> filhos = new ArrayList<>(2);
+        ox(p1, p2, crossover.get(0), crossover.get(1), filho, usados);
+        filhos.add(paraSer(filho, par1.getLimiteInferior()));
+        ox(p2, p1, crossover.get(0), crossover.get(1), filho, usados);
+        filhos.add(paraSer(filho, par1.getLimiteInferior()));
+
+        return filhos;
+    }
+
+    /**
+     * Realiza cruzamento, gerando um filho.
+     *
+     * <p>
+     * <b>A ordem dos progenitores altera o resultado.</b>
+     * </p>
+     *
+     * @since 1.0
+     * @param p1 Primeiro progenitor: permutação de [0, n).
+     * @param p2 Segundo progenitor: permutação de [0, n).
+     * @param inicio Posição de corte: posição inicial, inclusive.
+     * @param fim Posição de corte: posição final, inclusive.
+     * @param filho Vetor de destino, de tamanho n.
+     * @param usados Vetor de trabalho, de tamanho n; sobrescrito.
+     */
+    public static void ox(int[] p1, int[] p2, int inicio, int fim, int[] filho, boolean[] usados) {
+        int n = p1.length;
+        Arrays.fill(usados, false);
+
+        System.arraycopy(p1, inicio, filho, inicio, fim - inicio + 1);
+        for (int i = inicio; i <= fim; i++) {
+            usados[p1[i]] = true;
+        }
+
+        int destino = (fim + 1) % n;
+        for (int k = 1; k <= n; k++) {
+            int elemento = p2[(fim + k) % n];
+            if (!usados[elemento]) {
+                filho[destino] = elemento;
+                destino = (destino + 1) % n;
+            }
+        }
+    }
+}
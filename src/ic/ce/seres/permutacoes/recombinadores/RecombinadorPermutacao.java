@@ -24,6 +24,7 @@
 package ic.ce.seres.permutacoes.recombinadores;
 
 import ic.ce.populacional.algoritmo.operadores.Recombinador;
+import ic.ce.seres.permutacoes.LocusPermutacao;
 import ic.ce.seres.permutacoes.SerPermutacao;
 
 /**
@@ -57,4 +58,40 @@ public abstract class RecombinadorPermutacao<G extends Number & Comparable<G>,S
         super(probabilidadeDeRecombinacao, nParceiros);
     }
 
+    /**
+     * Extrai a permutação representada por um ser.
+     *
+     * <p>
+     * Os valores são deslocados pelo limite inferior do ser: o vetor contém
+     * uma permutação de [0, n).
+     * </p>
+     *
+     * @since 1.0
+     * @param ser Ser de origem.
+     * @return Novo vetor com a permutação.
+     */
+    protected static int[] paraVetor(SerPermutacao<?> ser) {
+        int base = ser.getLimiteInferior();
+        int[] permutacao = new int[ser.getSize()];
+        for (int i = 0; i < permutacao.length; i++) {
+            permutacao[i] = ser.getCaracteristica(i).getValor().intValue() - base;
+        }
+        return permutacao;
+    }
+
+    /**
+     * Cria um ser, por meio do gerador, a partir de uma permutação de [0, n).
+     *
+     * @since 1.0
+     * @param permutacao Permutação de [0, n).
+     * @param limiteInferior Limite inferior dos valores do ser.
+     * @return Novo ser.
+     */
+    protected final S paraSer(int[] permutacao, int limiteInferior) {
+        S ser = getAlgoritmo().getGerador().get();
+        for (int i = 0; i < permutacao.length; i++) {
+            ser.setCaracteristica(i, new LocusPermutacao(permutacao[i] + limiteInferior));
+        }
+        return ser;
+    }
 }
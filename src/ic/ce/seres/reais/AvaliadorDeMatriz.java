@@ -0,0 +1,185 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.seres.reais;
+
+import ic.ce.base.Ambiente;
+import ic.ce.base.algoritmo.operadores.Gerador;
+import java.util.List;
+
+/**
+ * Avaliação e materialização de soluções armazenadas em matrizes contíguas.
+ *
+ * <p>
+ * Apoio a algoritmos vetorizados – DE vetorial, PSO –, cujas soluções são
+ * linhas de uma matriz N×D (<code>double[]</code>, linha <i>i</i> em [i·D,
+ * (i+1)·D)).
+ * </p>
+ * <p>
+ * Se o ambiente implementar {@link AvaliadorVetorial}, as linhas são avaliadas
+ * diretamente; caso contrário, cada thread reutiliza um ser de trabalho, cujos
+ * locus são sobrescritos antes da avaliação. Seres são criados apenas na
+ * materialização, com o grau já calculado.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class AvaliadorDeMatriz<G extends Number & Comparable<G>, S extends SerReal<G>> {
+
+    private final Ambiente<G, S> ambiente;
+    private final AvaliadorVetorial<G> avaliadorVetorial;
+    private final Gerador<S> gerador;
+    private final double[] limitesInferiores;
+    private final double[] limitesSuperiores;
+    private final int d;
+    private final ThreadLocal<S> trabalho;
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param ambiente Ambiente de avaliação.
+     * @param gerador Gerador de seres, sem características.
+     * @param limitesInferiores Limites inferiores, inclusive.
+     * @param limitesSuperiores Limites superiores, exclusive.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se os limites tiverem tamanhos distintos.</li>
+     * </ul>
+     */
+    @SuppressWarnings("unchecked")
+    public AvaliadorDeMatriz(Ambiente<G, S> ambiente, Gerador<S> gerador, double[] limitesInferiores, double[] limitesSuperiores) {
+        if (limitesInferiores.length != limitesSuperiores.length) {
+            throw new IllegalArgumentException("Limites devem ter o mesmo tamanho.");
+        }
+        this.ambiente = ambiente;
+        this.avaliadorVetorial = (ambiente instanceof AvaliadorVetorial) ? (AvaliadorVetorial<G>) ambiente : null;
+        this.gerador = gerador;
+        this.limitesInferiores = limitesInferiores.clone();
+        this.limitesSuperiores = limitesSuperiores.clone();
+        this.d = limitesInferiores.length;
+        this.trabalho = ThreadLocal.withInitial(() -> {
+            S ser = gerador.get();
+            for (int j = 0; j < d; j++) {
+                ser.setCaracteristica(j, new LocusReal(this.limitesInferiores[j], this.limitesInferiores[j], this.limitesSuperiores[j]));
+            }
+            return ser;
+        });
+    }
+
+    /**
+     * Cria um vetor de graus de adaptação.
+     *
+     * @since 1.0
+     * @param <G> Classe do grau de adaptação.
+     * @param n Tamanho.
+     * @return Novo vetor, com todos os elementos nulos.
+     */
+    @SuppressWarnings("unchecked")
+    public static <G extends Number & Comparable<G>> G[] novoVetorDeGraus(int n) {
+        return (G[]) new Number[n];
+    }
+
+    /**
+     * Avalia uma linha de uma matriz.
+     *
+     * <p>
+     * Pode ser chamado concorrentemente. A avaliação é contabilizada no
+     * ambiente.
+     * </p>
+     *
+     * @since 1.0
+     * @param matriz Matriz, armazenada por linhas.
+     * @param inicio Início da linha.
+     * @return Grau de adaptação.
+     */
+    public G avalia(double[] matriz, int inicio) {
+        ambiente.registraAvaliacao();
+        if (avaliadorVetorial != null) {
+            return avaliadorVetorial.avalia(matriz, inicio, d);
+        }
+
+        S ser = trabalho.get();
+        for (int j = 0; j < d; j++) {
+            ((LocusReal) ser.getCaracteristica(j)).setValor(matriz[inicio + j]);
+        }
+        return ambiente.avalia(ser);
+    }
+
+    /**
+     * Cria um ser a partir de uma linha de uma matriz, com grau previamente
+     * calculado.
+     *
+     * @since 1.0
+     * @param matriz Matriz, armazenada por linhas.
+     * @param inicio Início da linha.
+     * @param grau Grau de adaptação da linha.
+     * @return Novo ser, avaliado.
+     */
+    public S materializa(double[] matriz, int inicio, G grau) {
+        S ser = gerador.get();
+        ser.setValores(matriz, inicio, limitesInferiores, limitesSuperiores);
+        ser.setGrauDeAdaptacao(ambiente, grau);
+        return ser;
+    }
+
+    /**
+     * Materializa as linhas alteradas, substituindo os seres correspondentes.
+     *
+     * @since 1.0
+     * @param seres Seres, um por linha; modificada.
+     * @param matriz Matriz, armazenada por linhas.
+     * @param graus Graus de adaptação das linhas.
+     * @param alteradas Linhas a materializar.
+     * @return true se algum ser for substituído.
+     */
+    public boolean sincroniza(List<S> seres, double[] matriz, G[] graus, boolean[] alteradas) {
+        boolean alterada = false;
+
+        for (int i = 0; i < alteradas.length; i++) {
+            if (alteradas[i]) {
+                seres.set(i, materializa(matriz, i * d, graus[i]));
+                alterada = true;
+            }
+        }
+
+        return alterada;
+    }
+
+    /**
+     * Recupera o número de colunas da matriz.
+     *
+     * @since 1.0
+     * @return Dimensão das soluções.
+     */
+    public final int getDimensao() {
+        return d;
+    }
+}
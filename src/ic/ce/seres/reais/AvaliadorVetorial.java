@@ -0,0 +1,60 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.seres.reais;
+
+/**
+ * Avaliação direta de vetores reais.
+ *
+ * <p>
+ * Ambientes para seres reais podem implementar essa interface para permitir
+ * que algoritmos vetorizados avaliem soluções armazenadas em arrays
+ * primitivos, sem a criação de seres e locus. O resultado deve ser idêntico ao
+ * de {@link ic.ce.base.Ambiente#avalia(ic.ce.base.Ser)} para um ser com as
+ * mesmas características.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ */
+public interface AvaliadorVetorial<G extends Number & Comparable<G>> {
+
+    /**
+     * Avalia um vetor armazenado em um trecho de array.
+     *
+     * <p>
+     * Implementações devem ser seguras para chamadas concorrentes.
+     * </p>
+     *
+     * @since 1.0
+     * @param valores Array de origem – possivelmente uma matriz contígua.
+     * @param inicio Posição do primeiro elemento do vetor.
+     * @param n Número de elementos do vetor.
+     * @return Grau de adaptação.
+     */
+    G avalia(double[] valores, int inicio, int n);
+}
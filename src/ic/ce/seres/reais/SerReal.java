@@ -28,6 +28,7 @@ package ic.ce.seres.reais;
 
 import ic.ce.base.Caracteristica;
 import ic.ce.seres.SerFixo;
+import static java.lang.Math.nextDown;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -52,7 +53,166 @@ public class SerReal<G extends Number & Comparable<G>> extends SerFixo<G> {
         super(ncaracteristicas);
     }
 
-    
+    /**
+     * Recupera os valores dos locus em um array primitivo.
+     *
+     * @since 1.0
+     * @return Novo array com os valores das características.
+     */
+    public final double[] getValores() {
+        double[] valores = new double[getSize()];
+        for (int i = 0; i < valores.length; i++) {
+            valores[i] = ((LocusReal) getCaracteristica(i)).getValor();
+        }
+        return valores;
+    }
+
+    /**
+     * Copia os valores dos locus para um trecho de array primitivo.
+     *
+     * @since 1.0
+     * @param destino Array de destino.
+     * @param inicio Posição de destino do primeiro locus.
+     */
+    public final void copiaValores(double[] destino, int inicio) {
+        for (int i = 0; i < getSize(); i++) {
+            destino[inicio + i] = ((LocusReal) getCaracteristica(i)).getValor();
+        }
+    }
+
+    /**
+     * Recupera os limites inferiores dos locus.
+     *
+     * @since 1.0
+     * @return Novo array com os limites inferiores, inclusive.
+     */
+    public final double[] getLimitesInferiores() {
+        double[] limites = new double[getSize()];
+        for (int i = 0; i < limites.length; i++) {
+            limites[i] = ((LocusReal) getCaracteristica(i)).getLimiteInferior();
+        }
+        return limites;
+    }
+
+    /**
+     * Recupera os limites superiores dos locus.
+     *
+     * @since 1.0
+     * @return Novo array com os limites superiores, exclusive.
+     */
+    public final double[] getLimitesSuperiores() {
+        double[] limites = new double[getSize()];
+        for (int i = 0; i < limites.length; i++) {
+            limites[i] = ((LocusReal) getCaracteristica(i)).getLimiteSuperior();
+        }
+        return limites;
+    }
+
+    /**
+     * Atribui novos locus ao ser, a partir de um array primitivo.
+     *
+     * <p>
+     * Valores fora dos limites serão ajustados ao limite mais próximo.
+     * </p>
+     *
+     * @since 1.0
+     * @param valores Valores dos locus.
+     * @param limitesInferiores Limites inferiores, inclusive.
+     * @param limitesSuperiores Limites superiores, exclusive.
+     *
+     * @throws IllegalStateException
+     * <ul>
+     * <li>Se o ser já tiver sido avaliado.</li>
+     * </ul>
+     */
+    public final void setValores(double[] valores, double[] limitesInferiores, double[] limitesSuperiores) {
+        setValores(valores, 0, limitesInferiores, limitesSuperiores);
+    }
+
+    /**
+     * Atribui novos locus ao ser, a partir de um trecho de array primitivo.
+     *
+     * <p>
+     * Permite a leitura direta de uma linha de uma matriz armazenada de forma
+     * contígua. Valores fora dos limites serão ajustados ao limite mais
+     * próximo.
+     * </p>
+     *
+     * @since 1.0
+     * @param valores Array de origem.
+     * @param inicio Posição do valor do primeiro locus.
+     * @param limitesInferiores Limites inferiores, inclusive.
+     * @param limitesSuperiores Limites superiores, exclusive.
+     *
+     * @throws IllegalStateException
+     * <ul>
+     * <li>Se o ser já tiver sido avaliado.</li>
+     * </ul>
+     */
+    public final void setValores(double[] valores, int inicio, double[] limitesInferiores, double[] limitesSuperiores) {
+        for (int i = 0; i < limitesInferiores.length; i++) {
+            double valor = ajusta(valores[inicio + i], limitesInferiores[i], limitesSuperiores[i]);
+            setCaracteristica(i, new LocusReal(valor, limitesInferiores[i], limitesSuperiores[i]));
+        }
+    }
+
+    /**
+     * Ajusta um valor aos limites [inferior, superior).
+     *
+     * <p>
+     * Valores menores que o limite inferior são substituídos pelo próprio
+     * limite; valores maiores ou iguais ao limite superior, pelo maior valor
+     * representável abaixo dele.
+     * </p>
+     *
+     * @since 1.0
+     * @param valor Valor.
+     * @param limiteInferior Limite inferior, inclusive.
+     * @param limiteSuperior Limite superior, exclusive.
+     * @return Valor ajustado.
+     */
+    public static double ajusta(double valor, double limiteInferior, double limiteSuperior) {
+        if (valor < limiteInferior) {
+            return limiteInferior;
+        }
+        if (valor >= limiteSuperior) {
+            return nextDown(limiteSuperior);
+        }
+        return valor;
+    }
+
+    /**
+     * Calcula a amplitude de um domínio, protegida contra transbordamento.
+     *
+     * <p>
+     * Para domínios cuja amplitude não é representável – e.g., o domínio
+     * padrão de {@link LocusReal}, [-Double.MAX_VALUE, Double.MAX_VALUE) –, a
+     * amplitude de referência é retornada.
+     * </p>
+     *
+     * @since 1.0
+     * @param limiteInferior Limite inferior.
+     * @param limiteSuperior Limite superior.
+     * @param referencia Amplitude a ser usada em domínios ilimitados.
+     * @return Amplitude do domínio ou, se infinita, a de referência.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o domínio for ilimitado e a amplitude de referência não for
+     * positiva e finita.</li>
+     * </ul>
+     */
+    public static double amplitude(double limiteInferior, double limiteSuperior, double referencia) {
+        double amplitude = limiteSuperior - limiteInferior;
+        if (Double.isFinite(amplitude)) {
+            return amplitude;
+        }
+        if (!(referencia > 0) || Double.isInfinite(referencia)) {
+            throw new IllegalArgumentException("Domínio ilimitado: amplitude de referência deve ser positiva e finita.");
+        }
+        return referencia;
+    }
+
     public static List<Caracteristica<Double>> doubleListToLocusList(List<Double> caracteristicas) {
 
         return caracteristicas.stream().map(LocusReal::new).collect(Collectors.toList());
@@ -0,0 +1,169 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.seres.reais.buscalocal;
+
+import ic.ce.base.algoritmo.operadores.BuscaLocal;
+import ic.ce.seres.reais.LocusReal;
+import ic.ce.seres.reais.SerReal;
+import ic.ce.seres.reais.mutadores.MutadorReal;
+
+/**
+ * Busca local para seres reais: descida coordenada.
+ *
+ * <p>
+ * Cada coordenada, em ordem, é deslocada de +h e, se não houver melhora, de
+ * -h; o primeiro deslocamento que melhora a solução corrente é mantido. Após
+ * uma passagem sem melhora, todos os passos são reduzidos à metade. Os passos
+ * iniciais são uma fração da amplitude de cada coordenada; valores são
+ * limitados ao domínio.
+ * </p>
+ * <p>
+ * Em coordenadas cuja amplitude não é representável – o domínio padrão de
+ * {@link LocusReal} –, a amplitude considerada é o módulo do valor de origem,
+ * com mínimo de 1.
+ * </p>
+ * <p>
+ * A busca termina ao esgotar o orçamento de avaliações ou quando os passos se
+ * tornam desprezíveis diante das amplitudes.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class BuscaLocalReal<G extends Number & Comparable<G>, S extends SerReal<G>> extends BuscaLocal<G, S> {
+
+    /**
+     * Fração da amplitude abaixo da qual um passo é desprezível.
+     */
+    private static final double FRACAO_MINIMA = 1e-12;
+
+    private final double fracaoPassoInicial;
+
+    /**
+     * Construtor, com passo inicial de 10% da amplitude de cada coordenada.
+     *
+     * @since 1.0
+     * @param probabilidadeDeAplicacao Probabilidade de aplicação a cada ser.
+     * @param maxAvaliacoes Número máximo de avaliações por aplicação.
+     */
+    public BuscaLocalReal(double probabilidadeDeAplicacao, int maxAvaliacoes) {
+        this(probabilidadeDeAplicacao, maxAvaliacoes, 0.1);
+    }
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param probabilidadeDeAplicacao Probabilidade de aplicação a cada ser.
+     * @param maxAvaliacoes Número máximo de avaliações por aplicação.
+     * @param fracaoPassoInicial Passo inicial, como fração da amplitude de
+     * cada coordenada, em (0, 1].
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se a fração não estiver em (0, 1].</li>
+     * </ul>
+     */
+    public BuscaLocalReal(double probabilidadeDeAplicacao, int maxAvaliacoes, double fracaoPassoInicial) {
+        super(probabilidadeDeAplicacao, maxAvaliacoes);
+        if (fracaoPassoInicial <= 0 || fracaoPassoInicial > 1) {
+            throw new IllegalArgumentException("Fração do passo inicial deve estar em (0, 1].");
+        }
+        this.fracaoPassoInicial = fracaoPassoInicial;
+    }
+
+    @Override
+    public S busca(S origem) {
+        G grauOrigem = grauDe(origem);
+        int d = origem.getSize();
+
+        S atual = copia(origem);
+        S candidato = copia(origem);
+        G grauAtual = grauOrigem;
+        boolean melhorou = false;
+
+        double[] amplitudes = new double[d];
+        double[] passos = new double[d];
+        for (int j = 0; j < d; j++) {
+            LocusReal locus = (LocusReal) origem.getCaracteristica(j);
+            amplitudes[j] = SerReal.amplitude(locus.getLimiteInferior(), locus.getLimiteSuperior(), Math.max(Math.abs(locus.getValor()), 1));
+            passos[j] = fracaoPassoInicial * amplitudes[j];
+        }
+
+        int avaliacoes = 0;
+        double escala = 1;
+        while (avaliacoes < getMaxAvaliacoes() && escala > FRACAO_MINIMA) {
+            boolean melhorouNaPassagem = false;
+
+            for (int j = 0; j < d && avaliacoes < getMaxAvaliacoes(); j++) {
+                LocusReal locus = (LocusReal) candidato.getCaracteristica(j);
+                double anterior = locus.getValor();
+
+                for (int sinal = 1; sinal >= -1 && avaliacoes < getMaxAvaliacoes(); sinal -= 2) {
+                    MutadorReal.perturba(locus, sinal * passos[j]);
+                    double valor = locus.getValor();
+                    if (valor == anterior) {
+                        continue;
+                    }
+
+                    G grau = avaliaCandidato(atual, grauAtual, candidato, new int[]{j});
+                    avaliacoes++;
+
+                    if (getAmbiente().compare(grau, grauAtual) > 0) {
+                        ((LocusReal) atual.getCaracteristica(j)).setValor(valor);
+                        grauAtual = grau;
+                        melhorou = true;
+                        melhorouNaPassagem = true;
+                        break;
+                    }
+                    locus.setValor(anterior);
+                }
+            }
+
+            if (!melhorouNaPassagem) {
+                escala /= 2;
+                for (int j = 0; j < d; j++) {
+                    passos[j] /= 2;
+                }
+            }
+        }
+
+        return melhorou ? materializa(atual, grauAtual) : origem;
+    }
+
+    /**
+     * Recupera a fração do passo inicial.
+     *
+     * @since 1.0
+     * @return Fração da amplitude de cada coordenada.
+     */
+    public final double getFracaoPassoInicial() {
+        return fracaoPassoInicial;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.seres.reais.mutadores;
+
+import ic.ce.seres.reais.SerReal;
+
+/**
+ * Mutador polinomial, com limites.
+ *
+ * <p>
+ * Complemento usual de {@link ic.ce.seres.reais.recombinadores.SBX}: cada
+ * locus sofre mutação com probabilidade 1/n – ou a atribuída – segundo
+ * {@link MutadorReal#polynomialMutation(ic.ce.seres.reais.SerReal, double, double)}.
+ * Como em todo mutador, a aplicação a uma coleção ocorre em paralelo.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <S> Classe dos Seres.
+ */
+public class MutadorPolinomial<S extends SerReal> extends MutadorReal<S> {
+
+    private final double eta;
+    private final double probabilidadePorLocus;
+
+    /**
+     * Construtor: probabilidade por locus de 1/n.
+     *
+     * @since 1.0
+     * @param probabilidadeDeMutacao Probabilidade de aplicação a cada ser.
+     * @param eta Índice de distribuição, não negativo; usualmente 20.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se a probabilidade de mutação estiver fora de [0-1];</li>
+     * <li>Se o índice de distribuição for negativo.</li>
+     * </ul>
+     */
+    public MutadorPolinomial(double probabilidadeDeMutacao, double eta) {
+        this(probabilidadeDeMutacao, eta, -1);
+    }
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param probabilidadeDeMutacao Probabilidade de aplicação a cada ser.
+     * @param eta Índice de distribuição, não negativo; usualmente 20.
+     * @param probabilidadePorLocus Probabilidade de mutação de cada locus, em
+     * [0-1]; negativa para 1/n.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se a probabilidade de mutação estiver fora de [0-1];</li>
+     * <li>Se o índice de distribuição for negativo;</li>
+     * <li>Se a probabilidade por locus for maior que 1.</li>
+     * </ul>
+     */
+    public MutadorPolinomial(double probabilidadeDeMutacao, double eta, double probabilidadePorLocus) {
+        super(probabilidadeDeMutacao);
+        if (eta < 0) {
+            throw new IllegalArgumentException("Índice de distribuição deve ser maior ou igual a zero.");
+        }
+        if (probabilidadePorLocus > 1) {
+            throw new IllegalArgumentException("Probabilidade por locus deve estar em [0,1].");
+        }
+        this.eta = eta;
+        this.probabilidadePorLocus = probabilidadePorLocus;
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public void muta(S ser) {
+        double probabilidade = (probabilidadePorLocus < 0) ? 1.0 / ser.getSize() : probabilidadePorLocus;
+        polynomialMutation(ser, eta, probabilidade);
+    }
+
+    /**
+     * Recupera o índice de distribuição.
+     *
+     * @since 1.0
+     * @return Índice de distribuição.
+     */
+    public final double getEta() {
+        return eta;
+    }
+}
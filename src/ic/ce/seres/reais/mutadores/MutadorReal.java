@@ -27,6 +27,7 @@ import ic.ce.base.algoritmo.operadores.Mutador;
 import ic.ce.seres.reais.LocusReal;
 import ic.ce.seres.reais.SerReal;
 import ic.ce.base.utilidades.Aleatorios;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Operador de mutação para seres baseados em representações de ponto flutuante.
@@ -80,4 +81,128 @@ public class MutadorReal<S extends SerReal> extends Mutador<S> {
                 }
                 );
     }
+
+    /**
+     * Mutação: Mutação Gaussiana (não correlacionada).
+     *
+     * <p>
+     * Cada locus do vetor de características recebe uma perturbação sorteada
+     * de uma distribuição normal de média zero e desvio padrão <i>sigma</i>:
+     * x'=x+sigma*N(0,1).
+     * </p>
+     * <p>
+     * Valores que ultrapassem os limites do locus são truncados nos limites.
+     * </p>
+     * <p>
+     * Geração segura para multithread.
+     * </p>
+     *
+     * @since 1.0
+     * @param ser Ser para mutação, ainda não avaliado.
+     * @param sigma Desvio padrão da perturbação (tamanho do passo).
+     */
+    public final static void gaussianMutation(SerReal ser, double sigma) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        for (int i = 0; i < ser.getSize(); i++) {
+            perturba((LocusReal) ser.getCaracteristica(i), sigma * aleatorio.nextGaussian());
+        }
+    }
+
+    /**
+     * Mutação: Mutação Polinomial, com limites.
+     *
+     * <p>
+     * Para cada locus, com probabilidade <i>probabilidadeDeMutacao</i>, o
+     * valor é perturbado segundo uma distribuição polinomial de índice
+     * <i>eta</i>, truncada nos limites do locus – valores altos de <i>eta</i>
+     * geram perturbações menores. O valor é atribuído ao próprio locus, sem
+     * alocação por variável.
+     * </p>
+     * <p>
+     * Geração segura para multithread.
+     * </p>
+     *
+     * @since 1.0
+     * @param ser Ser para mutação, ainda não avaliado.
+     * @param eta Índice de distribuição, não negativo; usualmente 20.
+     * @param probabilidadeDeMutacao Probabilidade do locus sofrer mutação.
+     */
+    public final static void polynomialMutation(SerReal ser, double eta, double probabilidadeDeMutacao) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        for (int i = 0; i < ser.getSize(); i++) {
+            if (aleatorio.nextDouble() < probabilidadeDeMutacao) {
+                LocusReal locus = (LocusReal) ser.getCaracteristica(i);
+                double inferior = locus.getLimiteInferior();
+                double superior = locus.getLimiteSuperior();
+                locus.setValor(SerReal.ajusta(polinomial(locus.getValor(), inferior, superior, eta, aleatorio.nextDouble()), inferior, superior));
+            }
+        }
+    }
+
+    /**
+     * Mutação: Mutação Polinomial, com limites, sobre um vetor primitivo.
+     *
+     * @since 1.0
+     * @param valores Valores, modificados in loco.
+     * @param inferiores Limites inferiores, inclusive.
+     * @param superiores Limites superiores, exclusive.
+     * @param eta Índice de distribuição, não negativo.
+     * @param probabilidadeDeMutacao Probabilidade de cada valor sofrer
+     * mutação.
+     *
+     * @see #polynomialMutation(ic.ce.seres.reais.SerReal, double, double)
+     */
+    public final static void polynomialMutation(double[] valores, double[] inferiores, double[] superiores, double eta, double probabilidadeDeMutacao) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        for (int i = 0; i < valores.length; i++) {
+            if (aleatorio.nextDouble() < probabilidadeDeMutacao) {
+                valores[i] = SerReal.ajusta(polinomial(valores[i], inferiores[i], superiores[i], eta, aleatorio.nextDouble()), inferiores[i], superiores[i]);
+            }
+        }
+    }
+
+    /**
+     * Perturbação polinomial de um valor, pela inversa da distribuição
+     * truncada nos limites.
+     */
+    private static double polinomial(double y, double inferior, double superior, double eta, double u) {
+        double amplitude = superior - inferior;
+        double expoente = 1.0 / (eta + 1.0);
+        double deltaQ;
+        if (u < 0.5) {
+            double xy = 1.0 - (y - inferior) / amplitude;
+            double valor = 2.0 * u + (1.0 - 2.0 * u) * Math.pow(xy, eta + 1.0);
+            deltaQ = Math.pow(valor, expoente) - 1.0;
+        } else {
+            double xy = 1.0 - (superior - y) / amplitude;
+            double valor = 2.0 * (1.0 - u) + 2.0 * (u - 0.5) * Math.pow(xy, eta + 1.0);
+            deltaQ = 1.0 - Math.pow(valor, expoente);
+        }
+        return y + deltaQ * amplitude;
+    }
+
+    /**
+     * Soma uma perturbação ao valor de um locus, respeitando seus limites.
+     *
+     * <p>
+     * Valores maiores ou iguais ao limite superior (exclusivo) são substituídos
+     * pelo maior valor representável abaixo dele, e valores menores que o
+     * limite inferior pelo próprio limite.
+     * </p>
+     *
+     * @since 1.0
+     * @param locus Locus a ser modificado.
+     * @param perturbacao Valor a ser somado.
+     */
+    public final static void perturba(LocusReal locus, double perturbacao) {
+        double valor = locus.getValor() + perturbacao;
+
+        if (valor >= locus.getLimiteSuperior()) {
+            locus.maximixa();
+        } else if (valor < locus.getLimiteInferior()) {
+            locus.minimiza();
+        } else {
+            locus.setValor(valor);
+        }
+    }
 }
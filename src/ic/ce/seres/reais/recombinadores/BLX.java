@@ -0,0 +1,143 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.seres.reais.recombinadores;
+
+import ic.ce.seres.reais.SerReal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Blend Crossover (BLX-α).
+ *
+ * <p>
+ * Recombinação para representações reais: cada variável de cada filho é
+ * sorteada uniformemente no intervalo definido pelos pais, estendido por
+ * <i>alfa</i> vezes sua amplitude em cada extremo – [min - αd, max + αd], com
+ * d = |x1 - x2|. Valores fora dos limites são ajustados ao limite mais
+ * próximo.
+ * </p>
+ * <p>
+ * A operação ocorre sobre vetores primitivos, sem alocação por variável; a
+ * recombinação de uma coleção é realizada em paralelo.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class BLX<G extends Number & Comparable<G>, S extends SerReal<G>> extends RecombinadorReal<G, S> {
+
+    private final double alfa;
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param probabilidadeDeRecombinacao Probabilidade de recombinação, entre
+     * [0-1].
+     * @param alfa Extensão do intervalo, não negativa; usualmente 0,5.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Caso a probabilidade de recombinação não esteja em [0,1];</li>
+     * <li>Caso alfa seja negativo.</li>
+     * </ul>
+     */
+    public BLX(double probabilidadeDeRecombinacao, double alfa) {
+        super(probabilidadeDeRecombinacao, 2);
+        if (alfa < 0) {
+            throw new IllegalArgumentException("Alfa deve ser maior ou igual a zero.");
+        }
+        this.alfa = alfa;
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public List<S> recombinaTodos(List<S> pares) {
+        return recombinaTodosEmParalelo(pares);
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public List<S> recombina(List<S> pares) {
+        S par1 = pares.get(0);
+        S par2 = pares.get(1);
+
+        double[] inferiores = limitesInferiores(par1);
+        double[] superiores = limitesSuperiores(par1);
+        double[] filho1 = par1.getValores();
+        double[] filho2 = par2.getValores();
+
+        blx(filho1, filho2, inferiores, superiores, alfa);
+
+        List<S> filhos = new ArrayList<>(2);
+        filhos.add(paraSer(filho1, inferiores, superiores));
+        filhos.add(paraSer(filho2, inferiores, superiores));
+        return filhos;
+    }
+
+    /**
+     * Realiza o cruzamento in loco: os vetores dos pais são substituídos pelos
+     * dos filhos.
+     *
+     * @since 1.0
+     * @param x1 Primeiro pai; recebe o primeiro filho.
+     * @param x2 Segundo pai; recebe o segundo filho.
+     * @param inferiores Limites inferiores, inclusive.
+     * @param superiores Limites superiores, exclusive.
+     * @param alfa Extensão do intervalo.
+     */
+    public static void blx(double[] x1, double[] x2, double[] inferiores, double[] superiores, double alfa) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+
+        for (int i = 0; i < x1.length; i++) {
+            double minimo = Math.min(x1[i], x2[i]);
+            double d = Math.abs(x1[i] - x2[i]);
+            double inicio = minimo - alfa * d;
+            double amplitude = (1.0 + 2.0 * alfa) * d;
+
+            x1[i] = SerReal.ajusta(inicio + aleatorio.nextDouble() * amplitude, inferiores[i], superiores[i]);
+            x2[i] = SerReal.ajusta(inicio + aleatorio.nextDouble() * amplitude, inferiores[i], superiores[i]);
+        }
+    }
+
+    /**
+     * Recupera a extensão do intervalo.
+     *
+     * @since 1.0
+     * @return Alfa.
+     */
+    public final double getAlfa() {
+        return alfa;
+    }
+}
@@ -42,6 +42,9 @@ import java.util.List;
  */
 public abstract class RecombinadorReal<G extends Number & Comparable<G>,S extends SerReal<G>> extends Recombinador<G,S> {
 
+    private double[] limitesInferiores;
+    private double[] limitesSuperiores;
+
     /**
      * Construtor.
      *
@@ -181,4 +184,100 @@ public abstract class RecombinadorReal<G extends Number & Comparable<G>,S extend
     public final List<S> wholeArithmeticRecombination(double alfa, S par1, S par2) {
         return simpleRecombination(0, alfa, par1, par2);
     }
+
+    /**
+     * Atribui os limites do problema, usados pelas operações sobre vetores.
+     *
+     * <p>
+     * Sem limites atribuídos, as operações os obtêm dos locus do primeiro
+     * progenitor, a cada recombinação.
+     * </p>
+     *
+     * @since 1.0
+     * @param limitesInferiores Limites inferiores, inclusive.
+     * @param limitesSuperiores Limites superiores, exclusive.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se os vetores tiverem tamanhos diferentes;</li>
+     * <li>Se o tamanho dos vetores for diferente do número de locus dos seres
+     * do gerador do algoritmo, quando definidos;</li>
+     * <li>Se algum limite superior for menor que o inferior.</li>
+     * </ul>
+     */
+    public final void setLimites(double[] limitesInferiores, double[] limitesSuperiores) {
+        if (limitesInferiores.length != limitesSuperiores.length) {
+            throw new IllegalArgumentException("Vetores de limites devem ter o mesmo tamanho.");
+        }
+        if (getAlgoritmo() != null && getAlgoritmo().getGerador() != null
+                && getAlgoritmo().getGerador().get().getSize() != limitesInferiores.length) {
+            throw new IllegalArgumentException("Vetores de limites devem ter o tamanho do genoma.");
+        }
+        for (int i = 0; i < limitesInferiores.length; i++) {
+            if (limitesSuperiores[i] < limitesInferiores[i]) {
+                throw new IllegalArgumentException("Limite superior é menor que o limite inferior");
+            }
+        }
+        this.limitesInferiores = limitesInferiores.clone();
+        this.limitesSuperiores = limitesSuperiores.clone();
+    }
+
+    /**
+     * Recupera os limites inferiores para uma recombinação.
+     *
+     * @since 1.0
+     * @param par Progenitor, consultado se não houver limites atribuídos.
+     * @return Limites inferiores, inclusive; não deve ser modificado.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se os limites atribuídos não tiverem o tamanho do genoma do
+     * progenitor.</li>
+     * </ul>
+     */
+    protected final double[] limitesInferiores(S par) {
+        return (limitesInferiores != null) ? verificaTamanho(limitesInferiores, par) : par.getLimitesInferiores();
+    }
+
+    /**
+     * Recupera os limites superiores para uma recombinação.
+     *
+     * @since 1.0
+     * @param par Progenitor, consultado se não houver limites atribuídos.
+     * @return Limites superiores, exclusive; não deve ser modificado.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se os limites atribuídos não tiverem o tamanho do genoma do
+     * progenitor.</li>
+     * </ul>
+     */
+    protected final double[] limitesSuperiores(S par) {
+        return (limitesSuperiores != null) ? verificaTamanho(limitesSuperiores, par) : par.getLimitesSuperiores();
+    }
+
+    /**
+     * Verifica se os limites atribuídos têm o tamanho do genoma de um ser.
+     */
+    private static double[] verificaTamanho(double[] limites, SerReal<?> par) {
+        if (limites.length != par.getSize()) {
+            throw new IllegalArgumentException("Vetores de limites devem ter o tamanho do genoma.");
+        }
+        return limites;
+    }
+
+    /**
+     * Cria um ser, por meio do gerador, a partir de um vetor de valores.
+     *
+     * @since 1.0
+     * @param valores Valores dos locus.
+     * @param limitesInferiores Limites inferiores, inclusive.
+     * @param limitesSuperiores Limites superiores, exclusive.
+     * @return Novo ser.
+     */
+    protected final S paraSer(double[] valores, double[] limitesInferiores, double[] limitesSuperiores) {
+        S ser = getAlgoritmo().getGerador().get();
+        ser.setValores(valores, limitesInferiores, limitesSuperiores);
+        return ser;
+    }
 }
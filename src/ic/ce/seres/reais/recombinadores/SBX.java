@@ -0,0 +1,186 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.seres.reais.recombinadores;
+
+import ic.ce.seres.reais.SerReal;
+import static java.lang.Math.pow;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Simulated Binary Crossover (SBX), com limites.
+ *
+ * <p>
+ * Recombinação para representações reais que simula, sobre valores
+ * contínuos, a dispersão de um cruzamento de um ponto binário: os filhos são
+ * distribuídos simetricamente em torno da média dos pais, com dispersão
+ * controlada pelo índice de distribuição <i>eta</i> – valores altos geram
+ * filhos próximos aos pais.
+ * </p>
+ * <p>
+ * Versão com limites: a distribuição de cada filho é truncada de modo a não
+ * gerar valores fora de [inferior, superior); cada variável é recombinada com
+ * probabilidade 0,5 e os filhos são trocados, por variável, com
+ * probabilidade 0,5.
+ * </p>
+ * <p>
+ * A operação ocorre sobre vetores primitivos, sem alocação por variável; a
+ * recombinação de uma coleção é realizada em paralelo.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class SBX<G extends Number & Comparable<G>, S extends SerReal<G>> extends RecombinadorReal<G, S> {
+
+    /**
+     * Diferença mínima entre os pais para que uma variável seja recombinada.
+     */
+    private static final double EPSILON = 1e-14;
+
+    private final double eta;
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param probabilidadeDeRecombinacao Probabilidade de recombinação, entre
+     * [0-1].
+     * @param eta Índice de distribuição, não negativo; usualmente entre 2 e
+     * 20.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Caso a probabilidade de recombinação não esteja em [0,1];</li>
+     * <li>Caso o índice de distribuição seja negativo.</li>
+     * </ul>
+     */
+    public SBX(double probabilidadeDeRecombinacao, double eta) {
+        super(probabilidadeDeRecombinacao, 2);
+        if (eta < 0) {
+            throw new IllegalArgumentException("Índice de distribuição deve ser maior ou igual a zero.");
+        }
+        this.eta = eta;
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public List<S> recombinaTodos(List<S> pares) {
+        return recombinaTodosEmParalelo(pares);
+    }
+
+    /**
+     * @since 1.0
+     */
+    @Override
+    public List<S> recombina(List<S> pares) {
+        S par1 = pares.get(0);
+        S par2 = pares.get(1);
+
+        double[] inferiores = limitesInferiores(par1);
+        double[] superiores = limitesSuperiores(par1);
+        double[] filho1 = par1.getValores();
+        double[] filho2 = par2.getValores();
+
+        sbx(filho1, filho2, inferiores, superiores, eta);
+
+        List<S> filhos = new ArrayList<>(2);
+        filhos.add(paraSer(filho1, inferiores, superiores));
+        filhos.add(paraSer(filho2, inferiores, superiores));
+        return filhos;
+    }
+
+    /**
+     * Realiza o cruzamento in loco: os vetores dos pais são substituídos pelos
+     * dos filhos.
+     *
+     * @since 1.0
+     * @param x1 Primeiro pai; recebe o primeiro filho.
+     * @param x2 Segundo pai; recebe o segundo filho.
+     * @param inferiores Limites inferiores, inclusive.
+     * @param superiores Limites superiores, exclusive.
+     * @param eta Índice de distribuição.
+     */
+    public static void sbx(double[] x1, double[] x2, double[] inferiores, double[] superiores, double eta) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        double expoente = 1.0 / (eta + 1.0);
+
+        for (int i = 0; i < x1.length; i++) {
+            if (aleatorio.nextDouble() > 0.5 || Math.abs(x1[i] - x2[i]) <= EPSILON) {
+                continue;
+            }
+            double y1 = Math.min(x1[i], x2[i]);
+            double y2 = Math.max(x1[i], x2[i]);
+            double inferior = inferiores[i];
+            double superior = superiores[i];
+            double u = aleatorio.nextDouble();
+
+            double beta = 1.0 + 2.0 * (y1 - inferior) / (y2 - y1);
+            double c1 = 0.5 * ((y1 + y2) - betaQ(beta, u, eta, expoente) * (y2 - y1));
+
+            beta = 1.0 + 2.0 * (superior - y2) / (y2 - y1);
+            double c2 = 0.5 * ((y1 + y2) + betaQ(beta, u, eta, expoente) * (y2 - y1));
+
+            c1 = SerReal.ajusta(c1, inferior, superior);
+            c2 = SerReal.ajusta(c2, inferior, superior);
+
+            if (aleatorio.nextDouble() <= 0.5) {
+                x1[i] = c2;
+                x2[i] = c1;
+            } else {
+                x1[i] = c1;
+                x2[i] = c2;
+            }
+        }
+    }
+
+    /**
+     * Fator de dispersão, pela inversa da distribuição truncada no limite.
+     */
+    private static double betaQ(double beta, double u, double eta, double expoente) {
+        double alfa = 2.0 - pow(beta, -(eta + 1.0));
+        if (u <= 1.0 / alfa) {
+            return pow(u * alfa, expoente);
+        }
+        return pow(1.0 / (2.0 - u * alfa), expoente);
+    }
+
+    /**
+     * Recupera o índice de distribuição.
+     *
+     * @since 1.0
+     * @return Índice de distribuição.
+     */
+    public final double getEta() {
+        return eta;
+    }
+}
@@ -0,0 +1,483 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.trajetoria.algoritmo;
+
+import ic.ce.base.Alteracao;
+import ic.ce.base.Ambiente;
+import ic.ce.base.AvaliadorIncremental;
+import ic.ce.base.Ser;
+import ic.ce.base.algoritmo.AlgoritmoEvolucionario;
+import ic.ce.base.algoritmo.operadores.RegistraAlteracoes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Classe base para algoritmos de trajetória: busca sobre uma única solução
+ * corrente.
+ *
+ * <p>
+ * A vizinhança é definida pelo mutador: um vizinho é uma cópia da solução
+ * corrente à qual a mutação é aplicada – sempre, sem sorteio. Se o ambiente
+ * implementar {@link AvaliadorIncremental}, vizinhos são avaliados a partir do
+ * grau da origem e das posições alteradas.
+ * </p>
+ * <p>
+ * Para múltiplos inícios, várias cadeias independentes, cada uma com sua
+ * solução corrente e seu estado, são avançadas em paralelo a cada iteração. O
+ * melhor ser e o contador de iterações sem melhora referem-se ao conjunto das
+ * cadeias.
+ * </p>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public abstract class AlgoritmoTrajetoria<G extends Number & Comparable<G>, S extends Ser<G>> extends AlgoritmoEvolucionario<G, S> {
+
+    private int nCadeias = 1;
+    private S inicial;
+    private List<Cadeia<S>> cadeias;
+
+    /**
+     * Cadeia de busca: solução corrente e melhor solução visitada.
+     *
+     * <p>
+     * Algoritmos com estado próprio por cadeia – temperatura, memória tabu –
+     * devem estender essa classe e sobrescrever
+     * {@link AlgoritmoTrajetoria#criaCadeia(ic.ce.base.Ser)}.
+     * </p>
+     *
+     * @param <S> Classe dos Seres.
+     */
+    protected static class Cadeia<S extends Ser> {
+
+        private S atual;
+        private S melhor;
+
+        /**
+         * Construtor.
+         *
+         * @param inicial Solução inicial, avaliada.
+         */
+        protected Cadeia(S inicial) {
+            this.atual = inicial;
+            this.melhor = inicial;
+        }
+
+        /**
+         * Recupera a solução corrente.
+         *
+         * @return Solução corrente.
+         */
+        public final S getAtual() {
+            return atual;
+        }
+
+        /**
+         * Recupera a melhor solução visitada pela cadeia.
+         *
+         * @return Melhor solução.
+         */
+        public final S getMelhor() {
+            return melhor;
+        }
+    }
+
+    /**
+     * Construtor padrão.
+     *
+     * @since 1.0
+     */
+    public AlgoritmoTrajetoria() {
+        super();
+    }
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param ambiente Ambiente de avaliação.
+     */
+    public AlgoritmoTrajetoria(Ambiente<G, S> ambiente) {
+        super(ambiente);
+    }
+
+    /**
+     * Execução do algoritmo.
+     *
+     * <p>
+     * Cria e avalia as soluções iniciais, e avança as cadeias até que a
+     * condição de parada seja satisfeita ou o número máximo de iterações seja
+     * atingido.
+     * </p>
+     *
+     * @since 1.0
+     */
+    @Override
+    public void run() {
+
+        S melhorDaIteracao;
+        S melhorDaIteracaoPassada;
+
+        verificacaoInicial();
+
+        timerStart();
+        {
+            inicia();
+            setMelhorSer(melhorDasCadeias());
+            melhorDaIteracaoPassada = getMelhorSer();
+
+            while (!terminou() && getContadorDeIteracoes() < getMaxIteracoes()) {
+
+                iteracao();
+                incrementaContadorDeIteracoes();
+
+                melhorDaIteracao = melhorDasCadeias();
+
+                if (getAmbiente().compare(melhorDaIteracaoPassada.getGrauDeAdaptacao(), melhorDaIteracao.getGrauDeAdaptacao()) >= 0) {
+
+                    incrementaContadorSemMelhoras();
+
+                } else {
+
+                    zeraContadorSemMelhoras();
+
+                    if (getAmbiente().compare(melhorDaIteracao.getGrauDeAdaptacao(), getMelhorSer().getGrauDeAdaptacao()) > 0) {
+                        setMelhorSer(melhorDaIteracao);
+                    }
+                }
+
+                melhorDaIteracaoPassada = melhorDaIteracao;
+            }
+            finaliza();
+        }
+        timerStop();
+    }
+
+    /**
+     * Cria as cadeias: a primeira parte da solução inicial, se definida; as
+     * demais, de seres aleatórios. As soluções iniciais são avaliadas em
+     * paralelo.
+     *
+     * @since 1.0
+     */
+    @Override
+    protected void inicia() {
+        List<S> iniciais = new ArrayList<>(nCadeias);
+        for (int i = 0; i < nCadeias; i++) {
+            iniciais.add((i == 0 && inicial != null) ? inicial : getGerador().getAleatorio());
+        }
+        getAmbiente().avalia(iniciais);
+
+        cadeias = new ArrayList<>(nCadeias);
+        for (S ser : iniciais) {
+            cadeias.add(criaCadeia(ser));
+        }
+    }
+
+    /**
+     * Avança todas as cadeias em um passo, em paralelo.
+     *
+     * @since 1.0
+     */
+    @Override
+    public void iteracao() {
+        if (cadeias.size() == 1) {
+            passo(cadeias.get(0));
+        } else {
+            cadeias.parallelStream().forEach(this::passo);
+        }
+    }
+
+    /**
+     * Avança uma cadeia em um passo.
+     *
+     * <p>
+     * Pode ser executado concorrentemente para cadeias distintas: deve alterar
+     * apenas o estado da cadeia recebida.
+     * </p>
+     *
+     * @since 1.0
+     * @param cadeia Cadeia a ser avançada.
+     */
+    protected abstract void passo(Cadeia<S> cadeia);
+
+    /**
+     * Cria uma cadeia.
+     *
+     * @since 1.0
+     * @param inicial Solução inicial, avaliada.
+     * @return Nova cadeia.
+     */
+    protected Cadeia<S> criaCadeia(S inicial) {
+        return new Cadeia<>(inicial);
+    }
+
+    /**
+     * Move a cadeia para uma nova solução corrente, atualizando sua melhor
+     * solução.
+     *
+     * @since 1.0
+     * @param cadeia Cadeia.
+     * @param ser Nova solução corrente, avaliada.
+     */
+    protected final void move(Cadeia<S> cadeia, S ser) {
+        cadeia.atual = ser;
+        if (getAmbiente().compare(ser.getGrauDeAdaptacao(), cadeia.melhor.getGrauDeAdaptacao()) > 0) {
+            cadeia.melhor = ser;
+        }
+    }
+
+    /**
+     * Gera um vizinho, não avaliado: cópia da origem modificada pelo mutador.
+     *
+     * @since 1.0
+     * @param origem Ser de origem.
+     * @return Novo vizinho.
+     */
+    protected final S vizinho(S origem) {
+        S vizinho = getGerador().get();
+        vizinho.setCaracteristicasCopia(0, origem.getCaracteristicas());
+        getMutador().muta(vizinho);
+        return vizinho;
+    }
+
+    /**
+     * Gera e avalia um vizinho.
+     *
+     * <p>
+     * Se o mutador implementar {@link RegistraAlteracoes}, as posições
+     * alteradas são as do registro da mutação; caso contrário, são
+     * determinadas por comparação com a origem.
+     * </p>
+     *
+     * @since 1.0
+     * @param origem Ser de origem, avaliado.
+     * @return Novo vizinho, avaliado.
+     */
+    protected final S vizinhoAvaliado(S origem) {
+        if (!(getMutador() instanceof RegistraAlteracoes)) {
+            S vizinho = vizinho(origem);
+            avaliaVizinho(origem, vizinho);
+            return vizinho;
+        }
+        S vizinho = getGerador().get();
+        vizinho.setCaracteristicasCopia(0, origem.getCaracteristicas());
+        Alteracao alteracao = ((RegistraAlteracoes<S>) getMutador()).mutaRegistrando(vizinho);
+        avaliaVizinho(origem, vizinho, alteracao.getAlterados());
+        return vizinho;
+    }
+
+    /**
+     * Gera e avalia vizinhos.
+     *
+     * <p>
+     * Com uma única cadeia, os vizinhos são gerados e avaliados em paralelo;
+     * com várias, o paralelismo é o das cadeias.
+     * </p>
+     *
+     * @since 1.0
+     * @param origem Ser de origem, avaliado.
+     * @param n Número de vizinhos.
+     * @return Vizinhos avaliados.
+     */
+    protected final List<S> vizinhos(S origem, int n) {
+        IntStream indices = IntStream.range(0, n);
+        if (nCadeias == 1 && n > 1) {
+            indices = indices.parallel();
+        }
+        return indices.mapToObj(i -> vizinhoAvaliado(origem)).collect(Collectors.toList());
+    }
+
+    /**
+     * Avalia um vizinho, incrementalmente se o ambiente permitir.
+     *
+     * @since 1.0
+     * @param origem Ser de origem, avaliado.
+     * @param vizinho Vizinho da origem.
+     * @return Grau de adaptação atribuído ao vizinho.
+     */
+    protected final G avaliaVizinho(S origem, S vizinho) {
+        if (getAmbiente() instanceof AvaliadorIncremental) {
+            return avaliaVizinho(origem, vizinho, alterados(origem, vizinho));
+        }
+        return vizinho.setGrauDeAdaptacao(getAmbiente());
+    }
+
+    /**
+     * Avalia um vizinho cujas posições alteradas são conhecidas,
+     * incrementalmente se o ambiente permitir.
+     *
+     * @since 1.0
+     * @param origem Ser de origem, avaliado.
+     * @param vizinho Vizinho da origem.
+     * @param alterados Posições alteradas, em ordem crescente.
+     * @return Grau de adaptação atribuído ao vizinho.
+     */
+    protected final G avaliaVizinho(S origem, S vizinho, int[] alterados) {
+        if (!(getAmbiente() instanceof AvaliadorIncremental)) {
+            return vizinho.setGrauDeAdaptacao(getAmbiente());
+        }
+        G grau;
+        if (alterados.length == 0) {
+            grau = origem.getGrauDeAdaptacao();
+        } else {
+            getAmbiente().registraAvaliacao();
+            grau = ((AvaliadorIncremental<G, S>) getAmbiente()).avalia(origem, origem.getGrauDeAdaptacao(), vizinho, alterados);
+        }
+        return vizinho.setGrauDeAdaptacao(getAmbiente(), grau);
+    }
+
+    /**
+     * Determina as posições cujos valores diferem entre dois seres de mesmo
+     * tamanho.
+     *
+     * @since 1.0
+     * @param origem Ser de origem.
+     * @param vizinho Vizinho.
+     * @return Posições alteradas, em ordem crescente.
+     */
+    protected static int[] alterados(Ser origem, Ser vizinho) {
+        int n = origem.getSize();
+        int[] posicoes = new int[n];
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            if (!Objects.equals(origem.getCaracteristica(i).getValor(), vizinho.getCaracteristica(i).getValor())) {
+                posicoes[k++] = i;
+            }
+        }
+        int[] alterados = new int[k];
+        System.arraycopy(posicoes, 0, alterados, 0, k);
+        return alterados;
+    }
+
+    /**
+     * Melhor solução visitada pelo conjunto das cadeias.
+     *
+     * @return Melhor ser.
+     */
+    private S melhorDasCadeias() {
+        S melhor = cadeias.get(0).melhor;
+        for (Cadeia<S> cadeia : cadeias) {
+            if (getAmbiente().compare(cadeia.melhor.getGrauDeAdaptacao(), melhor.getGrauDeAdaptacao()) > 0) {
+                melhor = cadeia.melhor;
+            }
+        }
+        return melhor;
+    }
+
+    /**
+     * Define o número de cadeias independentes.
+     *
+     * @since 1.0
+     * @param nCadeias Número de cadeias; padrão: 1. Para usar todos os núcleos:
+     * <code>Runtime.getRuntime().availableProcessors()</code>.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o número de cadeias for menor que 1.</li>
+     * </ul>
+     */
+    public final void setNCadeias(int nCadeias) {
+        if (nCadeias < 1) {
+            throw new IllegalArgumentException("Número de cadeias deve ser maior ou igual a 1.");
+        }
+        this.nCadeias = nCadeias;
+    }
+
+    /**
+     * Recupera o número de cadeias independentes.
+     *
+     * @since 1.0
+     * @return Número de cadeias.
+     */
+    public final int getNCadeias() {
+        return nCadeias;
+    }
+
+    /**
+     * Define a solução inicial da primeira cadeia.
+     *
+     * @since 1.0
+     * @param inicial Solução inicial; nulo para um ser aleatório.
+     */
+    public final void setInicial(S inicial) {
+        this.inicial = inicial;
+    }
+
+    /**
+     * Recupera as soluções correntes das cadeias.
+     *
+     * @since 1.0
+     * @return Lista não modificável das soluções correntes.
+     */
+    public final List<S> getAtuais() {
+        List<S> atuais = new ArrayList<>(cadeias.size());
+        for (Cadeia<S> cadeia : cadeias) {
+            atuais.add(cadeia.atual);
+        }
+        return Collections.unmodifiableList(atuais);
+    }
+
+    /**
+     * Verifica as condições necessárias para execução do algoritmo.
+     *
+     * <h3>Condições:</h3>
+     * <ul>
+     * <li>Ambiente definido;</li>
+     * <li>Gerador definido;</li>
+     * <li>Mutador definido.</li>
+     * </ul>
+     *
+     * @since 1.0
+     */
+    @Override
+    protected void verificacaoInicial() throws IllegalStateException {
+        super.verificacaoInicial();
+
+        if (getGerador() == null) {
+            throw new IllegalStateException("Gerador não definido: referencia nula.");
+        }
+        if (getMutador() == null) {
+            throw new IllegalStateException("Mutador não definido: referencia nula.");
+        }
+    }
+
+    @Override
+    public String relatorio() {
+        StringBuilder relatorio = new StringBuilder(super.relatorio());
+
+        relatorio.append("\tCadeias:\t" + nCadeias + "\n");
+
+        return relatorio.toString();
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.trajetoria.algoritmos.BuscaTabu;
+
+import ic.ce.base.Ser;
+import ic.ce.trajetoria.algoritmo.AlgoritmoTrajetoria;
+import java.util.List;
+
+/**
+ * Algoritmo de trajetória: busca tabu.
+ *
+ * <p>
+ * A cada passo, <i>k</i> vizinhos da solução corrente são amostrados e a
+ * solução corrente é substituída pelo melhor vizinho admissível – mesmo que
+ * pior. Os atributos de um movimento são as posições que ele altera: após o
+ * movimento, essas posições permanecem tabu por um número fixo de passos.
+ * </p>
+ * <p>
+ * Um vizinho é admissível se não alterar posições tabu ou, pelo critério de
+ * aspiração, se for melhor que a melhor solução já visitada pela cadeia.
+ * </p>
+ *
+ * Características:
+ * <ul>
+ * <li>Forma de Representação: Qualquer;</li>
+ * <li>Vizinhança: Definida pelo mutador, amostrada;</li>
+ * <li>Memória: Posições alteradas, com permanência fixa;</li>
+ * <li>Aspiração: Melhora da melhor solução da cadeia.</li>
+ * </ul>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class BuscaTabu<G extends Number & Comparable<G>, S extends Ser<G>> extends AlgoritmoTrajetoria<G, S> {
+
+    private final int nVizinhos;
+    private final int permanencia;
+
+    /**
+     * Cadeia com memória tabu própria.
+     */
+    private static class CadeiaTabu<S extends Ser> extends Cadeia<S> {
+
+        private final long[] tabuAte;
+        private long passos = 0;
+
+        CadeiaTabu(S inicial) {
+            super(inicial);
+            this.tabuAte = new long[inicial.getSize()];
+        }
+    }
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param nVizinhos Número de vizinhos amostrados por passo.
+     * @param permanencia Número de passos durante os quais uma posição
+     * alterada permanece tabu.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o número de vizinhos for menor que 1;</li>
+     * <li>Se a permanência for negativa.</li>
+     * </ul>
+     */
+    public BuscaTabu(int nVizinhos, int permanencia) {
+        if (nVizinhos < 1) {
+            throw new IllegalArgumentException("Número de vizinhos deve ser maior ou igual a 1.");
+        }
+        if (permanencia < 0) {
+            throw new IllegalArgumentException("Permanência deve ser maior ou igual a zero.");
+        }
+        this.nVizinhos = nVizinhos;
+        this.permanencia = permanencia;
+        setNome("Busca Tabu");
+    }
+
+    @Override
+    protected Cadeia<S> criaCadeia(S inicial) {
+        return new CadeiaTabu<>(inicial);
+    }
+
+    @Override
+    protected void passo(Cadeia<S> cadeia) {
+        CadeiaTabu<S> tabu = (CadeiaTabu<S>) cadeia;
+        S atual = cadeia.getAtual();
+        tabu.passos++;
+
+        S escolhido = null;
+        int[] alteradosEscolhido = null;
+
+        List<S> vizinhos = vizinhos(atual, nVizinhos);
+        for (S vizinho : vizinhos) {
+            int[] alterados = alterados(atual, vizinho);
+            if (alterados.length == 0) {
+                continue;
+            }
+            if (escolhido != null && getAmbiente().compare(vizinho.getGrauDeAdaptacao(), escolhido.getGrauDeAdaptacao()) <= 0) {
+                continue;
+            }
+            if (isTabu(tabu, alterados) && getAmbiente().compare(vizinho.getGrauDeAdaptacao(), cadeia.getMelhor().getGrauDeAdaptacao()) <= 0) {
+                continue;
+            }
+            escolhido = vizinho;
+            alteradosEscolhido = alterados;
+        }
+
+        if (escolhido != null) {
+            move(cadeia, escolhido);
+            for (int posicao : alteradosEscolhido) {
+                tabu.tabuAte[posicao] = tabu.passos + permanencia;
+            }
+        }
+    }
+
+    /**
+     * Verifica se um movimento altera alguma posição tabu.
+     */
+    private static boolean isTabu(CadeiaTabu<?> tabu, int[] alterados) {
+        for (int posicao : alterados) {
+            if (tabu.tabuAte[posicao] >= tabu.passos) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Recupera o número de vizinhos amostrados por passo.
+     *
+     * @since 1.0
+     * @return Número de vizinhos.
+     */
+    public final int getNVizinhos() {
+        return nVizinhos;
+    }
+
+    /**
+     * Recupera a permanência tabu.
+     *
+     * @since 1.0
+     * @return Número de passos.
+     */
+    public final int getPermanencia() {
+        return permanencia;
+    }
+
+    @Override
+    public String relatorio() {
+        StringBuilder relatorio = new StringBuilder(super.relatorio());
+
+        relatorio.append("\tVizinhos por passo:\t" + nVizinhos + "\n");
+        relatorio.append("\tPermanência tabu:\t" + permanencia + "\n");
+
+        return relatorio.toString();
+    }
+}
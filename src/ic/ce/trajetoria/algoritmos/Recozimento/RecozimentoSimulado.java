@@ -0,0 +1,159 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.trajetoria.algoritmos.Recozimento;
+
+import ic.ce.base.Ser;
+import ic.ce.trajetoria.algoritmo.AlgoritmoTrajetoria;
+import static java.lang.Math.abs;
+import static java.lang.Math.exp;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Algoritmo de trajetória: recozimento simulado.
+ *
+ * <p>
+ * A cada passo, um vizinho da solução corrente é amostrado. Vizinhos não
+ * piores são sempre aceitos; piores, com probabilidade exp(-Δ/T), em que Δ é a
+ * diferença absoluta entre os graus de adaptação e T a temperatura corrente.
+ * </p>
+ * <p>
+ * Resfriamento geométrico: a temperatura é multiplicada pelo fator de
+ * resfriamento a cada passo. Cada cadeia mantém sua própria temperatura.
+ * </p>
+ *
+ * Características:
+ * <ul>
+ * <li>Forma de Representação: Qualquer;</li>
+ * <li>Vizinhança: Definida pelo mutador;</li>
+ * <li>Aceitação: Critério de Metropolis;</li>
+ * <li>Resfriamento: Geométrico.</li>
+ * </ul>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class RecozimentoSimulado<G extends Number & Comparable<G>, S extends Ser<G>> extends AlgoritmoTrajetoria<G, S> {
+
+    private final double temperaturaInicial;
+    private final double fatorDeResfriamento;
+
+    /**
+     * Cadeia com temperatura própria.
+     */
+    private static class CadeiaRecozimento<S extends Ser> extends Cadeia<S> {
+
+        private double temperatura;
+
+        CadeiaRecozimento(S inicial, double temperatura) {
+            super(inicial);
+            this.temperatura = temperatura;
+        }
+    }
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param temperaturaInicial Temperatura inicial, na escala do grau de
+     * adaptação.
+     * @param fatorDeResfriamento Fator de resfriamento, em (0, 1).
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se a temperatura inicial não for positiva;</li>
+     * <li>Se o fator de resfriamento não estiver em (0, 1).</li>
+     * </ul>
+     */
+    public RecozimentoSimulado(double temperaturaInicial, double fatorDeResfriamento) {
+        if (temperaturaInicial <= 0) {
+            throw new IllegalArgumentException("Temperatura inicial deve ser maior que zero.");
+        }
+        if (fatorDeResfriamento <= 0 || fatorDeResfriamento >= 1) {
+            throw new IllegalArgumentException("Fator de resfriamento deve estar em (0, 1).");
+        }
+        this.temperaturaInicial = temperaturaInicial;
+        this.fatorDeResfriamento = fatorDeResfriamento;
+        setNome("Recozimento Simulado");
+    }
+
+    @Override
+    protected Cadeia<S> criaCadeia(S inicial) {
+        return new CadeiaRecozimento<>(inicial, temperaturaInicial);
+    }
+
+    @Override
+    protected void passo(Cadeia<S> cadeia) {
+        CadeiaRecozimento<S> recozimento = (CadeiaRecozimento<S>) cadeia;
+        S atual = cadeia.getAtual();
+
+        S vizinho = vizinhoAvaliado(atual);
+        G grau = vizinho.getGrauDeAdaptacao();
+
+        if (getAmbiente().compare(grau, atual.getGrauDeAdaptacao()) >= 0) {
+            move(cadeia, vizinho);
+        } else {
+            double piora = abs(grau.doubleValue() - atual.getGrauDeAdaptacao().doubleValue());
+            if (ThreadLocalRandom.current().nextDouble() < exp(-piora / recozimento.temperatura)) {
+                move(cadeia, vizinho);
+            }
+        }
+
+        recozimento.temperatura *= fatorDeResfriamento;
+    }
+
+    /**
+     * Recupera a temperatura inicial.
+     *
+     * @since 1.0
+     * @return Temperatura inicial.
+     */
+    public final double getTemperaturaInicial() {
+        return temperaturaInicial;
+    }
+
+    /**
+     * Recupera o fator de resfriamento.
+     *
+     * @since 1.0
+     * @return Fator de resfriamento.
+     */
+    public final double getFatorDeResfriamento() {
+        return fatorDeResfriamento;
+    }
+
+    @Override
+    public String relatorio() {
+        StringBuilder relatorio = new StringBuilder(super.relatorio());
+
+        relatorio.append("\tTemperatura inicial:\t" + temperaturaInicial + "\n");
+        relatorio.append("\tFator de resfriamento:\t" + fatorDeResfriamento + "\n");
+
+        return relatorio.toString();
+    }
+}
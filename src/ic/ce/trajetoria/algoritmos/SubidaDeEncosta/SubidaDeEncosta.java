@@ -0,0 +1,113 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2014 Victor de Lima Soares.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package ic.ce.trajetoria.algoritmos.SubidaDeEncosta;
+
+import ic.ce.base.Ser;
+import ic.ce.trajetoria.algoritmo.AlgoritmoTrajetoria;
+import java.util.List;
+
+/**
+ * Algoritmo de trajetória: subida de encosta.
+ *
+ * <p>
+ * A cada passo, <i>k</i> vizinhos da solução corrente são amostrados e o
+ * melhor deles substitui a solução corrente, se não for pior – movimentos
+ * laterais são aceitos, permitindo atravessar platôs.
+ * </p>
+ *
+ * Características:
+ * <ul>
+ * <li>Forma de Representação: Qualquer;</li>
+ * <li>Vizinhança: Definida pelo mutador;</li>
+ * <li>Aceitação: Melhor de <i>k</i> vizinhos, se não pior que a solução
+ * corrente.</li>
+ * </ul>
+ *
+ * @author Victor de Lima Soares
+ * @version 1.0
+ *
+ * @param <G> Classe do retorno da função objetivo (Grau de adaptação):
+ * AtomicInteger, AtomicLong, BigDecimal, BigInteger, Byte, Double, Float,
+ * Integer, Long, Short.
+ * @param <S> Classe dos Seres.
+ */
+public class SubidaDeEncosta<G extends Number & Comparable<G>, S extends Ser<G>> extends AlgoritmoTrajetoria<G, S> {
+
+    private final int nVizinhos;
+
+    /**
+     * Construtor: subida de encosta estocástica, um vizinho por passo.
+     *
+     * @since 1.0
+     */
+    public SubidaDeEncosta() {
+        this(1);
+    }
+
+    /**
+     * Construtor.
+     *
+     * @since 1.0
+     * @param nVizinhos Número de vizinhos amostrados por passo.
+     *
+     * @throws IllegalArgumentException
+     * <ul>
+     * <li>Se o número de vizinhos for menor que 1.</li>
+     * </ul>
+     */
+    public SubidaDeEncosta(int nVizinhos) {
+        if (nVizinhos < 1) {
+            throw new IllegalArgumentException("Número de vizinhos deve ser maior ou igual a 1.");
+        }
+        this.nVizinhos = nVizinhos;
+        setNome("Subida de Encosta");
+    }
+
+    @Override
+    protected void passo(Cadeia<S> cadeia) {
+        S atual = cadeia.getAtual();
+
+        List<S> vizinhos = vizinhos(atual, nVizinhos);
+        S melhor = vizinhos.get(0);
+        for (S vizinho : vizinhos) {
+            if (getAmbiente().compare(vizinho.getGrauDeAdaptacao(), melhor.getGrauDeAdaptacao()) > 0) {
+                melhor = vizinho;
+            }
+        }
+
+        if (getAmbiente().compare(melhor.getGrauDeAdaptacao(), atual.getGrauDeAdaptacao()) >= 0) {
+            move(cadeia, melhor);
+        }
+    }
+
+    /**
+     * Recupera o número de vizinhos amostrados por passo.
+     *
+     * @since 1.0
+     * @return Número de vizinhos.
+     */
+    public final int getNVizinhos() {
+        return nVizinhos;
+    }
+}